@@ -0,0 +1,87 @@
+package com.example.cab302a1.bench;
+
+import com.example.cab302a1.model.AnswerKey;
+import com.example.cab302a1.model.CompactQuiz;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizChoiceCreate;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of in-memory grading with {@link AnswerKey}, in graded responses per second.
+ * <p>
+ * Needs no database: a synthetic quiz and a batch of random answer sheets are built in
+ * setup, and each invocation grades the whole batch (as a bulk re-grade would).
+ * Run only this benchmark with
+ * {@code mvn -Pbenchmarks test-compile exec:exec -Djmh.args="AnswerKeyBenchmark"}.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnswerKeyBenchmark {
+
+    private static final int SHEETS = 1_000;
+
+    @Param({"20", "200"})
+    int questions;
+
+    private AnswerKey key;
+    private int[][] sheetOptionIds;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(302);
+        List<QuizQuestionCreate> list = new ArrayList<>(questions);
+        int optionId = 1;
+        for (int q = 0; q < questions; q++) {
+            QuizQuestionCreate question = new QuizQuestionCreate(q + 1, 1, "Q" + q, null);
+            List<QuizChoiceCreate> choices = new ArrayList<>();
+            for (int o = 0; o < 4; o++) {
+                QuizChoiceCreate choice = new QuizChoiceCreate("O" + o, o == 0);
+                choice.setOption_id(optionId++);
+                choices.add(choice);
+            }
+            question.setOptions(choices);
+            list.add(question);
+        }
+        key = AnswerKey.of(CompactQuiz.of(new Quiz(), list));
+
+        sheetOptionIds = new int[SHEETS][questions];
+        for (int s = 0; s < SHEETS; s++) {
+            for (int q = 0; q < questions; q++) {
+                sheetOptionIds[s][q] = q * 4 + 1 + random.nextInt(4);
+            }
+        }
+    }
+
+    /** Grades {@value #SHEETS} sheets; the reported score is per sheet, see the docs for responses/s. */
+    @Benchmark
+    @OperationsPerInvocation(SHEETS)
+    public long gradeSheets() {
+        long total = 0;
+        for (int s = 0; s < SHEETS; s++) {
+            total += key.score(sheetOptionIds[s], questions);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.cab302a1.bench;
+
+import com.example.cab302a1.DBconnection;
+import org.jdbi.v3.core.Jdbi;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Shared JMH state: migrates and seeds the database once per fork, then holds the
+ * IDs of the synthetic dataset so each benchmark invocation can pick a random target.
+ * <p>
+ * Random picks keep the working set realistic (many quizzes and students) instead
+ * of measuring one hot row that stays in every cache.
+ * </p>
+ */
+@State(Scope.Benchmark)
+public class BenchmarkData {
+
+    /** IDs of synthetic quizzes. */
+    int[] quizIds;
+
+    /** IDs of synthetic students. */
+    int[] studentIds;
+
+    /** Completed attempts as {@code {attemptId, quizId}} pairs. */
+    int[][] attempts;
+
+    /** Emails of synthetic students, for the login benchmark. */
+    String[] studentEmails;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        DBconnection.migrate();
+        BenchmarkSeeder.seed();
+
+        Jdbi jdbi = DBconnection.getJdbi();
+        String pattern = "%@" + BenchmarkSeeder.EMAIL_DOMAIN;
+
+        quizIds = toArray(jdbi.withHandle(handle ->
+                handle.createQuery("""
+                    SELECT q.quiz_id FROM quizzes q
+                    JOIN users u ON u.user_id = q.created_by
+                    WHERE u.email LIKE :pattern
+                """)
+                        .bind("pattern", pattern)
+                        .mapTo(Integer.class)
+                        .list()
+        ));
+        studentIds = toArray(jdbi.withHandle(handle ->
+                handle.createQuery("SELECT user_id FROM users WHERE role = 'Student' AND email LIKE :pattern")
+                        .bind("pattern", pattern)
+                        .mapTo(Integer.class)
+                        .list()
+        ));
+        studentEmails = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT email FROM users WHERE role = 'Student' AND email LIKE :pattern")
+                        .bind("pattern", pattern)
+                        .mapTo(String.class)
+                        .list()
+        ).toArray(new String[0]);
+        attempts = jdbi.withHandle(handle ->
+                handle.createQuery("""
+                    SELECT a.attempt_id, a.quiz_id FROM quiz_attempts a
+                    JOIN users u ON u.user_id = a.answered_by
+                    WHERE a.is_completed = true AND u.email LIKE :pattern
+                """)
+                        .bind("pattern", pattern)
+                        .map((rs, ctx) -> new int[]{rs.getInt("attempt_id"), rs.getInt("quiz_id")})
+                        .list()
+        ).toArray(new int[0][]);
+
+        if (quizIds.length == 0 || studentIds.length == 0 || attempts.length == 0) {
+            throw new IllegalStateException("Benchmark dataset is empty; check BENCH_* settings");
+        }
+        System.out.printf("[bench] %d quizzes, %d students, %d completed attempts%n",
+                quizIds.length, studentIds.length, attempts.length);
+    }
+
+    int randomQuizId() {
+        return quizIds[ThreadLocalRandom.current().nextInt(quizIds.length)];
+    }
+
+    int randomStudentId() {
+        return studentIds[ThreadLocalRandom.current().nextInt(studentIds.length)];
+    }
+
+    int[] randomAttempt() {
+        return attempts[ThreadLocalRandom.current().nextInt(attempts.length)];
+    }
+
+    String randomStudentEmail() {
+        return studentEmails[ThreadLocalRandom.current().nextInt(studentEmails.length)];
+    }
+
+    private static int[] toArray(List<Integer> ids) {
+        return ids.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
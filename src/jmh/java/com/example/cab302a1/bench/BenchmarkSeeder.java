@@ -0,0 +1,227 @@
+package com.example.cab302a1.bench;
+
+import com.example.cab302a1.DBconnection;
+import com.example.cab302a1.util.EnvSettings;
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
+import org.mindrot.jbcrypt.BCrypt;
+
+import java.util.List;
+
+/**
+ * Fills a MySQL-compatible database with synthetic institutions for benchmarking.
+ * <p>
+ * Each institution has its own teachers, quizzes and students; students only
+ * attempt quizzes of their own institution. Users and quizzes are inserted with
+ * JDBI batches, while questions, options, attempts and responses are generated
+ * set-based with {@code INSERT ... SELECT} so even large datasets seed in seconds.
+ * </p>
+ *
+ * <p>Sizes are read from the environment (so JMH forks see the same values):</p>
+ * <ul>
+ *   <li>{@code BENCH_INSTITUTIONS} – number of institutions (default 5)</li>
+ *   <li>{@code BENCH_TEACHERS} – teachers per institution (default 10)</li>
+ *   <li>{@code BENCH_QUIZZES_PER_TEACHER} – quizzes per teacher (default 20)</li>
+ *   <li>{@code BENCH_QUESTIONS} – questions per quiz (default 10)</li>
+ *   <li>{@code BENCH_OPTIONS} – options per question, the first is correct (default 4)</li>
+ *   <li>{@code BENCH_STUDENTS} – students per institution (default 200)</li>
+ *   <li>{@code BENCH_ATTEMPTS} – completed attempts per student (default 20)</li>
+ * </ul>
+ *
+ * <p>
+ * Seeding is skipped when bench users already exist, so a dataset is reused across
+ * runs and commits. Point {@code DB_URL} at a dedicated database (e.g. {@code cab302_bench});
+ * every synthetic user has an {@value #EMAIL_DOMAIN} email and the password {@value #PASSWORD}.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     DBconnection.migrate();
+ *     BenchmarkSeeder.seed();
+ * </pre>
+ */
+public final class BenchmarkSeeder {
+
+    /** Email domain shared by all synthetic users; used to detect an existing dataset. */
+    public static final String EMAIL_DOMAIN = "bench.example.edu";
+
+    /** Plain-text password of every synthetic user. */
+    public static final String PASSWORD = "BenchPass#1";
+
+    static final int INSTITUTIONS = EnvSettings.intSetting("BENCH_INSTITUTIONS", 5);
+    static final int TEACHERS = EnvSettings.intSetting("BENCH_TEACHERS", 10);
+    static final int QUIZZES_PER_TEACHER = EnvSettings.intSetting("BENCH_QUIZZES_PER_TEACHER", 20);
+    static final int QUESTIONS = EnvSettings.intSetting("BENCH_QUESTIONS", 10);
+    static final int OPTIONS = EnvSettings.intSetting("BENCH_OPTIONS", 4);
+    static final int STUDENTS = EnvSettings.intSetting("BENCH_STUDENTS", 200);
+    static final int ATTEMPTS = EnvSettings.intSetting("BENCH_ATTEMPTS", 20);
+
+    private BenchmarkSeeder() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    /**
+     * Seeds the configured dataset unless bench users already exist.
+     *
+     * @return true if data was inserted, false if an existing dataset was reused
+     */
+    public static boolean seed() {
+        Jdbi jdbi = DBconnection.getJdbi();
+        int existing = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT COUNT(*) FROM users WHERE email LIKE :pattern")
+                        .bind("pattern", "%@" + EMAIL_DOMAIN)
+                        .mapTo(Integer.class)
+                        .one()
+        );
+        if (existing > 0) {
+            System.out.println("[bench] Reusing existing dataset (" + existing + " bench users)");
+            return false;
+        }
+
+        long start = System.nanoTime();
+        // BCrypt is deliberately slow; hash once and share the hash between all users
+        String passwordHash = BCrypt.hashpw(PASSWORD, BCrypt.gensalt());
+        for (int i = 0; i < INSTITUTIONS; i++) {
+            int institution = i;
+            jdbi.useTransaction(handle -> seedInstitution(handle, institution, passwordHash));
+        }
+        System.out.printf("[bench] Seeded %d institutions in %d ms%n",
+                INSTITUTIONS, (System.nanoTime() - start) / 1_000_000);
+        return true;
+    }
+
+    /** Seeds one institution: teachers, quizzes with questions/options, students and graded attempts. */
+    private static void seedInstitution(Handle handle, int institution, String passwordHash) {
+        List<Integer> teacherIds = insertUsers(handle, institution, "teacher", "Teacher", TEACHERS, passwordHash);
+        List<Integer> studentIds = insertUsers(handle, institution, "student", "Student", STUDENTS, passwordHash);
+
+        PreparedBatch quizBatch = handle.prepareBatch("""
+                INSERT INTO quizzes (title, description, created_by, is_Hidden)
+                VALUES (:title, :description, :createdBy, false)
+            """);
+        for (int teacherId : teacherIds) {
+            for (int q = 1; q <= QUIZZES_PER_TEACHER; q++) {
+                quizBatch.bind("title", "Bench quiz " + q + " (i" + institution + ")")
+                        .bind("description", "Synthetic quiz for benchmarking")
+                        .bind("createdBy", teacherId)
+                        .add();
+            }
+        }
+        List<Integer> quizIds = quizBatch.executePreparedBatch("quiz_id")
+                .mapTo(Integer.class)
+                .list();
+
+        handle.createUpdate("""
+                INSERT INTO questions (quiz_id, statement, explanation)
+                SELECT qz.quiz_id, CONCAT('Bench question ', s.n), 'Synthetic explanation'
+                FROM quizzes qz
+                CROSS JOIN (
+                    WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < :count)
+                    SELECT n FROM seq
+                ) s
+                WHERE qz.quiz_id IN (<quizIds>)
+            """)
+                .bind("count", QUESTIONS)
+                .bindList("quizIds", quizIds)
+                .execute();
+
+        handle.createUpdate("""
+                INSERT INTO question_options (question_id, option_text, is_correct)
+                SELECT q.question_id, CONCAT('Option ', s.n), s.n = 1
+                FROM questions q
+                CROSS JOIN (
+                    WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < :count)
+                    SELECT n FROM seq
+                ) s
+                WHERE q.quiz_id IN (<quizIds>)
+            """)
+                .bind("count", OPTIONS)
+                .bindList("quizIds", quizIds)
+                .execute();
+
+        // Each student attempts roughly ATTEMPTS quizzes, spread deterministically
+        int stride = Math.max(1, quizIds.size() / Math.max(1, ATTEMPTS));
+        handle.createUpdate("""
+                INSERT INTO quiz_attempts (quiz_id, answered_by, score, is_completed)
+                SELECT qz.quiz_id, u.user_id, 0, false
+                FROM users u
+                JOIN quizzes qz ON MOD(qz.quiz_id + u.user_id, :stride) = 0
+                WHERE u.user_id IN (<studentIds>) AND qz.quiz_id IN (<quizIds>)
+            """)
+                .bind("stride", stride)
+                .bindList("studentIds", studentIds)
+                .bindList("quizIds", quizIds)
+                .execute();
+
+        // One answer per question; the chosen option varies so scores are spread out
+        handle.createUpdate("""
+                INSERT INTO question_responses (attempt_id, question_id, option_id, is_correct)
+                SELECT a.attempt_id, q.question_id, o.option_id, o.is_correct
+                FROM quiz_attempts a
+                JOIN questions q ON q.quiz_id = a.quiz_id
+                JOIN question_options o ON o.question_id = q.question_id
+                WHERE a.answered_by IN (<studentIds>) AND a.is_completed = false
+                  AND o.option_text = CONCAT('Option ', 1 + MOD(a.attempt_id + q.question_id, :options))
+            """)
+                .bindList("studentIds", studentIds)
+                .bind("options", OPTIONS)
+                .execute();
+
+        handle.createUpdate("""
+                UPDATE quiz_attempts a
+                SET score = (
+                        SELECT COUNT(DISTINCT r.question_id)
+                        FROM question_responses r
+                        WHERE r.attempt_id = a.attempt_id AND r.is_correct = TRUE
+                    ),
+                    is_completed = true
+                WHERE a.answered_by IN (<studentIds>) AND a.is_completed = false
+            """)
+                .bindList("studentIds", studentIds)
+                .execute();
+    }
+
+    /** Batch-inserts users of one role and returns their generated IDs. */
+    private static List<Integer> insertUsers(Handle handle, int institution, String prefix, String role,
+                                             int count, String passwordHash) {
+        PreparedBatch batch = handle.prepareBatch("""
+                INSERT INTO users (username, email, password, role)
+                VALUES (:username, :email, :password, :role)
+            """);
+        for (int n = 1; n <= count; n++) {
+            String name = prefix + "_i" + institution + "_" + n;
+            batch.bind("username", name)
+                    .bind("email", emailFor(institution, prefix, n))
+                    .bind("password", passwordHash)
+                    .bind("role", role)
+                    .add();
+        }
+        return batch.executePreparedBatch("user_id")
+                .mapTo(Integer.class)
+                .list();
+    }
+
+    /**
+     * Builds the email of a synthetic user.
+     *
+     * @param institution the institution index (0-based)
+     * @param prefix      {@code "teacher"} or {@code "student"}
+     * @param n           the user number within the institution (1-based)
+     * @return the email address
+     */
+    public static String emailFor(int institution, String prefix, int n) {
+        return prefix + ".i" + institution + "." + n + "@" + EMAIL_DOMAIN;
+    }
+
+    /**
+     * Seeds the database configured by {@code DB_URL} without running benchmarks.
+     *
+     * @param args ignored
+     */
+    public static void main(String[] args) {
+        DBconnection.migrate();
+        seed();
+        DBconnection.shutdown();
+    }
+}
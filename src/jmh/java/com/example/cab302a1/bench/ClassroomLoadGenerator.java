@@ -0,0 +1,250 @@
+package com.example.cab302a1.bench;
+
+import com.example.cab302a1.DBconnection;
+import com.example.cab302a1.PoolStats;
+import com.example.cab302a1.dao.AttemptDao;
+import com.example.cab302a1.dao.DaoDecorators;
+import com.example.cab302a1.dao.DaoFactory;
+import com.example.cab302a1.dao.QuizVersions;
+import com.example.cab302a1.dao.UserDao;
+import com.example.cab302a1.metrics.MetricsRegistry;
+import com.example.cab302a1.model.QuestionResponse;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.model.User;
+import com.example.cab302a1.service.QuizService;
+import com.example.cab302a1.service.QuizSnapshotCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Headless load generator that simulates a classroom of students taking a quiz at once.
+ * <p>
+ * Each simulated student runs the same service calls as {@code StudentQuizFlow} on its
+ * own virtual thread, without JavaFX: log in, load a quiz, start an attempt, answer each
+ * question after a think time, submit, and read the score. Latency percentiles and
+ * throughput per call are printed at the end, together with connection pool statistics
+ * and the per-DAO-method metrics from {@link MetricsRegistry}.
+ * </p>
+ *
+ * <p>Options ({@code --name=value}):</p>
+ * <ul>
+ *   <li>{@code --students} – concurrent students (default 100)</li>
+ *   <li>{@code --rounds} – quizzes taken by each student (default 1)</li>
+ *   <li>{@code --think-ms} – mean think time per question; actual time is 50–150% of it (default 1000)</li>
+ *   <li>{@code --ramp-up-s} – logins are spread over this many seconds, 0 = all at once (default 10)</li>
+ *   <li>{@code --keep} – keep the attempts written by the run (deleted by default)</li>
+ * </ul>
+ *
+ * <p>
+ * Students and quizzes come from the {@link BenchmarkSeeder} dataset, which is created
+ * on first use. All students share one connection pool, so set {@code DB_POOL_MAX_SIZE}
+ * to the number of concurrent clients being modelled.
+ * </p>
+ *
+ * <p>
+ * In the real app every student runs their own client with their own caches. The
+ * generator therefore uses DAOs without the shared {@code DaoCache} (metrics only) and
+ * gives each simulated student a private {@link QuizSnapshotCache}, so {@code loadQuiz}
+ * reaches the database once per student and quiz, not once per quiz for the whole run.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     mvn -Pbenchmarks test-compile exec:exec@classroom -Dload.args="--students=150 --ramp-up-s=0"
+ * </pre>
+ */
+public final class ClassroomLoadGenerator {
+
+    private final int students;
+    private final int rounds;
+    private final long thinkMillis;
+    private final long rampUpMillis;
+    private final boolean keep;
+
+    private final UserDao userDao = DaoFactory.getUserDao();
+    private final AttemptDao attemptDao = DaoFactory.getAttemptDao();
+
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final Queue<Integer> createdAttempts = new ConcurrentLinkedQueue<>();
+
+    private ClassroomLoadGenerator(int students, int rounds, long thinkMillis, long rampUpMillis, boolean keep) {
+        this.students = students;
+        this.rounds = rounds;
+        this.thinkMillis = thinkMillis;
+        this.rampUpMillis = rampUpMillis;
+        this.keep = keep;
+    }
+
+    /**
+     * Runs the simulation and prints the report.
+     *
+     * @param data the seeded dataset to draw students and quizzes from
+     * @throws InterruptedException if interrupted while waiting for the students
+     */
+    private void run(BenchmarkData data) throws InterruptedException {
+        System.out.printf("[load] %d students x %d round(s), think %d ms/question, ramp-up %d s%n",
+                students, rounds, thinkMillis, rampUpMillis / 1000);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < students; i++) {
+                String email = data.studentEmails[i % data.studentEmails.length];
+                executor.execute(() -> simulateStudent(email, data));
+            }
+        } // close() waits for every student to finish
+        long elapsed = System.nanoTime() - start;
+
+        System.out.println();
+        System.out.println(recorder.report(elapsed));
+        System.out.printf("%nWall time: %.1f s%n", elapsed / 1e9);
+        PoolStats pool = DBconnection.getPoolStats();
+        System.out.println("Pool: " + pool);
+        System.out.println();
+        MetricsRegistry.getInstance().publish();
+
+        if (!keep) {
+            removeCreatedAttempts();
+        }
+    }
+
+    /** One student's session, mirroring the calls made by {@code StudentQuizFlow}. */
+    private void simulateStudent(String email, BenchmarkData data) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (!pause(rampUpMillis > 0 ? random.nextLong(rampUpMillis) : 0)) {
+            return;
+        }
+
+        User user = timed("login", () -> userDao.login(email, BenchmarkSeeder.PASSWORD));
+        if (user == null) {
+            return;
+        }
+
+        // This student's own client-side quiz cache
+        QuizService quizService = new QuizService(new QuizSnapshotCache(
+                DaoFactory.getQuizDao(), DaoFactory.getQuestionDao(), QuizVersions.getInstance(),
+                QuizSnapshotCache.DEFAULT_CAPACITY, QuizSnapshotCache.DEFAULT_TTL_SECONDS));
+
+        for (int round = 0; round < rounds; round++) {
+            int quizId = data.randomQuizId();
+            Quiz quiz = new Quiz();
+            quiz.setQuizId(quizId);
+            Quiz full = timed("loadQuiz", () -> quizService.loadQuizFully(quiz));
+            if (full == null) {
+                return;
+            }
+
+            Integer attemptId = timed("startAttempt", () -> attemptDao.startAttempt(quizId, user.getUser_id()));
+            if (attemptId == null || attemptId <= 0) {
+                return;
+            }
+            createdAttempts.add(attemptId);
+
+            List<QuestionResponse> responses = new ArrayList<>();
+            for (QuizQuestionCreate q : full.getQuestions()) {
+                if (!pause(thinkMillis / 2 + random.nextLong(thinkMillis + 1))) {
+                    return;
+                }
+                if (!q.getChoices().isEmpty()) {
+                    int chosen = q.getChoices().get(random.nextInt(q.getChoices().size())).getOption_id();
+                    responses.add(new QuestionResponse(attemptId, q.getQuestionId(), chosen, false));
+                }
+            }
+
+            timed("submit", () -> attemptDao.submitAttempt(attemptId, responses));
+            timed("getScore", () -> attemptDao.getScore(quizId, user.getUser_id()));
+        }
+    }
+
+    /**
+     * Runs and times one call; failures are counted and reported as {@code null}.
+     */
+    private <T> T timed(String operation, Callable<T> call) {
+        long start = System.nanoTime();
+        try {
+            T result = call.call();
+            recorder.record(operation, System.nanoTime() - start);
+            return result;
+        } catch (Exception e) {
+            recorder.recordError(operation);
+            System.err.println("[load] " + operation + " failed: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /** Sleeps for the given time; returns false if the thread was interrupted. */
+    private static boolean pause(long millis) {
+        if (millis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /** Deletes the attempts and responses written by this run. */
+    private void removeCreatedAttempts() {
+        List<Integer> ids = new ArrayList<>(createdAttempts);
+        if (ids.isEmpty()) {
+            return;
+        }
+        DBconnection.getJdbi().useTransaction(handle -> {
+            handle.createUpdate("DELETE FROM question_responses WHERE attempt_id IN (<ids>)")
+                    .bindList("ids", ids)
+                    .execute();
+            handle.createUpdate("DELETE FROM quiz_attempts WHERE attempt_id IN (<ids>)")
+                    .bindList("ids", ids)
+                    .execute();
+        });
+        System.out.println("[load] Removed " + ids.size() + " attempts created by this run");
+    }
+
+    /**
+     * Entry point; see the class documentation for options.
+     *
+     * @param args {@code --name=value} options
+     * @throws InterruptedException if interrupted while waiting for the students
+     */
+    public static void main(String[] args) throws InterruptedException {
+        int students = 100;
+        int rounds = 1;
+        long thinkMillis = 1000;
+        long rampUpSeconds = 10;
+        boolean keep = false;
+
+        for (String arg : args) {
+            String[] kv = arg.split("=", 2);
+            String value = kv.length > 1 ? kv[1] : "";
+            switch (kv[0]) {
+                case "--students" -> students = Integer.parseInt(value);
+                case "--rounds" -> rounds = Integer.parseInt(value);
+                case "--think-ms" -> thinkMillis = Long.parseLong(value);
+                case "--ramp-up-s" -> rampUpSeconds = Long.parseLong(value);
+                case "--keep" -> keep = true;
+                default -> throw new IllegalArgumentException("Unknown option: " + arg);
+            }
+        }
+
+        // No process-wide DAO cache: the simulated students would share it
+        DaoFactory.configure(List.of(DaoDecorators.metrics()));
+
+        BenchmarkData data = new BenchmarkData();
+        data.setUp();
+        try {
+            new ClassroomLoadGenerator(students, rounds, thinkMillis, rampUpSeconds * 1000, keep).run(data);
+        } finally {
+            DBconnection.shutdown();
+        }
+    }
+}
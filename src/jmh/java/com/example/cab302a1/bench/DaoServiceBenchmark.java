@@ -0,0 +1,186 @@
+package com.example.cab302a1.bench;
+
+import com.example.cab302a1.DBconnection;
+import com.example.cab302a1.dao.AttemptDao;
+import com.example.cab302a1.dao.DaoDecorators;
+import com.example.cab302a1.dao.DaoFactory;
+import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.dao.QuizVersions;
+import com.example.cab302a1.dao.ReviewDao;
+import com.example.cab302a1.dao.UserDao;
+import com.example.cab302a1.model.QuestionResponse;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.model.QuizReview;
+import com.example.cab302a1.model.User;
+import com.example.cab302a1.result.ResultDetail;
+import com.example.cab302a1.service.QuizResultDetailService;
+import com.example.cab302a1.service.QuizService;
+import com.example.cab302a1.service.QuizSnapshotCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end latency of the DAO/service calls behind the busiest screens, measured
+ * against a real database seeded by {@link BenchmarkSeeder}.
+ * <p>
+ * Each invocation targets a random quiz, student or attempt from the synthetic
+ * dataset. Run via {@code mvn -Pbenchmarks test-compile exec:exec}; results are
+ * written as JMH JSON so runs on different commits can be compared directly.
+ * </p>
+ *
+ * <p>
+ * The DAOs only carry the metrics decorator (no {@code DaoCache}) and the services get a
+ * {@link QuizSnapshotCache} of capacity 0, so every call reaches the database as it did
+ * before caching existed. The {@code ...Warm} benchmarks measure the same calls served
+ * from a snapshot cache that holds the whole dataset.
+ * </p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DaoServiceBenchmark {
+
+    private QuizService quizService;
+    private QuizResultDetailService resultDetailService;
+    private QuizService warmQuizService;
+    private QuizResultDetailService warmResultDetailService;
+    private ReviewDao reviewDao;
+    private UserDao userDao;
+    private AttemptDao attemptDao;
+    private QuestionDao questionDao;
+
+    /** One answer per question for each quiz used by the submit benchmark. */
+    private final Map<Integer, List<QuestionResponse>> answerSheets = new ConcurrentHashMap<>();
+
+    /** Attempts created by {@link #submitAttempt}; removed again after the trial. */
+    private final Queue<Integer> createdAttempts = new ConcurrentLinkedQueue<>();
+
+    @Setup(Level.Trial)
+    public void setUp(BenchmarkData data) {
+        // Uncached DAOs, so results stay comparable with commits before the caches
+        DaoFactory.configure(List.of(DaoDecorators.metrics()));
+
+        QuizSnapshotCache noSnapshots = new QuizSnapshotCache(
+                DaoFactory.getQuizDao(), DaoFactory.getQuestionDao(), QuizVersions.getInstance(), 0, 0);
+        quizService = new QuizService(noSnapshots);
+        resultDetailService = new QuizResultDetailService(noSnapshots, DaoFactory.getResponseDao());
+
+        QuizSnapshotCache allSnapshots = new QuizSnapshotCache(
+                DaoFactory.getQuizDao(), DaoFactory.getQuestionDao(), QuizVersions.getInstance(),
+                data.quizIds.length, 0);
+        warmQuizService = new QuizService(allSnapshots);
+        warmResultDetailService = new QuizResultDetailService(allSnapshots, DaoFactory.getResponseDao());
+
+        reviewDao = DaoFactory.getReviewDao();
+        userDao = DaoFactory.getUserDao();
+        attemptDao = DaoFactory.getAttemptDao();
+        questionDao = DaoFactory.getQuestionDao();
+    }
+
+    /**
+     * Deletes the attempts written by the submit benchmark so the dataset stays
+     * identical between runs (and therefore between commits).
+     */
+    @TearDown(Level.Trial)
+    public void removeCreatedAttempts() {
+        List<Integer> ids = new ArrayList<>(createdAttempts);
+        if (ids.isEmpty()) {
+            return;
+        }
+        DBconnection.getJdbi().useTransaction(handle -> {
+            handle.createUpdate("DELETE FROM question_responses WHERE attempt_id IN (<ids>)")
+                    .bindList("ids", ids)
+                    .execute();
+            handle.createUpdate("DELETE FROM quiz_attempts WHERE attempt_id IN (<ids>)")
+                    .bindList("ids", ids)
+                    .execute();
+        });
+        createdAttempts.clear();
+    }
+
+    /** Opening a quiz: the quiz row, then questions and options in one joined query. */
+    @Benchmark
+    public Quiz loadQuizFully(BenchmarkData data) {
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(data.randomQuizId());
+        return quizService.loadQuizFully(quiz);
+    }
+
+    /** Opening a quiz that is already in the snapshot cache: no query. */
+    @Benchmark
+    public Quiz loadQuizFullyWarm(BenchmarkData data) {
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(data.randomQuizId());
+        return warmQuizService.loadQuizFully(quiz);
+    }
+
+    /** The student result detail page for a completed attempt: quiz, questions with options, chosen options. */
+    @Benchmark
+    public ResultDetail getResultDetail(BenchmarkData data) {
+        int[] attempt = data.randomAttempt();
+        return resultDetailService.getResultDetail(attempt[0], attempt[1]);
+    }
+
+    /** The result detail page with the quiz in the snapshot cache: only the chosen options are queried. */
+    @Benchmark
+    public ResultDetail getResultDetailWarm(BenchmarkData data) {
+        int[] attempt = data.randomAttempt();
+        return warmResultDetailService.getResultDetail(attempt[0], attempt[1]);
+    }
+
+    /** The student review page: all attempts of one student. */
+    @Benchmark
+    public List<QuizReview> getAllAttemptsById(BenchmarkData data) {
+        return reviewDao.getAllAttemptsById(data.randomStudentId());
+    }
+
+    /** Logging in, including the BCrypt check that dominates its cost. */
+    @Benchmark
+    public User login(BenchmarkData data) {
+        return userDao.login(data.randomStudentEmail(), BenchmarkSeeder.PASSWORD);
+    }
+
+    /** Starting an attempt and submitting a full answer sheet (the class-test spike). */
+    @Benchmark
+    public boolean submitAttempt(BenchmarkData data) {
+        int quizId = data.randomQuizId();
+        List<QuestionResponse> responses = answerSheets.computeIfAbsent(quizId, this::answerSheet);
+        int attemptId = attemptDao.startAttempt(quizId, data.randomStudentId());
+        createdAttempts.add(attemptId);
+        return attemptDao.submitAttempt(attemptId, responses);
+    }
+
+    /** Picks the first option of every question; cached per quiz, so only the first (warm-up) call pays for it. */
+    private List<QuestionResponse> answerSheet(int quizId) {
+        List<QuestionResponse> responses = new ArrayList<>();
+        for (QuizQuestionCreate q : questionDao.getQuestionsWithOptions(quizId)) {
+            if (!q.getChoices().isEmpty()) {
+                responses.add(new QuestionResponse(0, q.getQuestionId(),
+                        q.getChoices().get(0).getOption_id(), false));
+            }
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.cab302a1.bench;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Thread-safe collector of per-operation latencies for {@link ClassroomLoadGenerator}.
+ * <p>
+ * Every sample is kept (a classroom run produces at most a few hundred thousand),
+ * so percentiles are exact rather than estimated.
+ * </p>
+ */
+final class LatencyRecorder {
+
+    /** Samples and error count of one operation. */
+    private static final class Series {
+        long[] nanos = new long[1024];
+        int size;
+        int errors;
+    }
+
+    private final Map<String, Series> series = new LinkedHashMap<>();
+
+    /**
+     * Records one successful call.
+     *
+     * @param operation the operation name, e.g. {@code "login"}
+     * @param nanos     the elapsed time in nanoseconds
+     */
+    synchronized void record(String operation, long nanos) {
+        Series s = series.computeIfAbsent(operation, k -> new Series());
+        if (s.size == s.nanos.length) {
+            s.nanos = Arrays.copyOf(s.nanos, s.size * 2);
+        }
+        s.nanos[s.size++] = nanos;
+    }
+
+    /**
+     * Records one failed call.
+     *
+     * @param operation the operation name
+     */
+    synchronized void recordError(String operation) {
+        series.computeIfAbsent(operation, k -> new Series()).errors++;
+    }
+
+    /**
+     * Formats a latency/throughput table for all operations.
+     *
+     * @param elapsedNanos the wall-clock duration of the run, used for throughput
+     * @return the report, one line per operation
+     */
+    synchronized String report(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("%-14s %7s %6s %9s %9s %9s %9s %9s %9s",
+                "operation", "count", "errors", "p50 ms", "p90 ms", "p95 ms", "p99 ms", "max ms", "ops/s"));
+        for (Map.Entry<String, Series> e : series.entrySet()) {
+            Series s = e.getValue();
+            long[] sorted = Arrays.copyOf(s.nanos, s.size);
+            Arrays.sort(sorted);
+            lines.add(String.format("%-14s %7d %6d %9.1f %9.1f %9.1f %9.1f %9.1f %9.2f",
+                    e.getKey(), s.size, s.errors,
+                    percentileMillis(sorted, 50), percentileMillis(sorted, 90),
+                    percentileMillis(sorted, 95), percentileMillis(sorted, 99),
+                    percentileMillis(sorted, 100), s.size / seconds));
+        }
+        return String.join(System.lineSeparator(), lines);
+    }
+
+    /** Nearest-rank percentile of sorted samples, in milliseconds (0 when empty). */
+    static double percentileMillis(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.cab302a1.bench;
+
+import com.example.cab302a1.model.CompactQuiz;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizChoiceCreate;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.model.QuizSnapshot;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measures the retained heap of one large quiz in each representation, using JOL.
+ * <p>
+ * Builds a synthetic question bank the way the DAOs would return it (every text a
+ * separate {@code String}, as read from a result set) and prints the deep size of:
+ * </p>
+ * <ul>
+ *   <li>the regular models – {@link Quiz} with {@link QuizQuestionCreate}s and {@link QuizChoiceCreate}s</li>
+ *   <li>the {@link CompactQuiz} struct-of-arrays form</li>
+ *   <li>a {@link QuizSnapshot}, as held by {@code QuizSnapshotCache}</li>
+ * </ul>
+ *
+ * <p>Options ({@code --name=value}):</p>
+ * <ul>
+ *   <li>{@code --questions} – questions in the quiz (default 10000)</li>
+ *   <li>{@code --options} – options per question (default 4)</li>
+ * </ul>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     mvn -Pbenchmarks test-compile exec:exec@footprint -Dfootprint.args="--questions=10000"
+ * </pre>
+ */
+public final class QuizFootprint {
+
+    private QuizFootprint() {}
+
+    public static void main(String[] args) {
+        int questions = 10_000;
+        int options = 4;
+        for (String arg : args) {
+            if (arg.startsWith("--questions=")) {
+                questions = Integer.parseInt(arg.substring("--questions=".length()));
+            } else if (arg.startsWith("--options=")) {
+                options = Integer.parseInt(arg.substring("--options=".length()));
+            } else {
+                System.err.println("Ignoring unknown option: " + arg);
+            }
+        }
+
+        Quiz quiz = buildQuiz(questions, options);
+        CompactQuiz compact = CompactQuiz.of(quiz, quiz.getQuestions());
+        QuizSnapshot snapshot = QuizSnapshot.of(quiz, quiz.getQuestions(), 1);
+
+        long models = GraphLayout.parseInstance(quiz).totalSize();
+        long packed = GraphLayout.parseInstance(compact).totalSize();
+        long cached = GraphLayout.parseInstance(snapshot).totalSize();
+
+        System.out.printf("Quiz with %,d questions x %d options (%s)%n", questions, options,
+                System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        System.out.printf("%-16s %14s %14s %12s%n", "representation", "bytes", "per 10k q", "per question");
+        print("models", models, questions);
+        print("CompactQuiz", packed, questions);
+        print("QuizSnapshot", cached, questions);
+        System.out.printf("CompactQuiz is %.1f%% of the models (%d distinct texts)%n",
+                100.0 * packed / models, compact.distinctTextCount());
+    }
+
+    private static void print(String name, long bytes, int questions) {
+        System.out.printf("%-16s %,14d %,14d %,12.1f%n", name, bytes,
+                Math.round(bytes * 10_000.0 / questions), (double) bytes / questions);
+    }
+
+    /**
+     * Builds a question bank with realistic text lengths. Option texts repeat across
+     * questions (as in true/false or A–D banks) but are separate instances, like rows
+     * mapped from a result set.
+     */
+    private static Quiz buildQuiz(int questionCount, int optionCount) {
+        Quiz quiz = new Quiz(1, "Question bank", "Synthetic footprint quiz", 1, false, "teacher");
+        List<QuizQuestionCreate> questions = new ArrayList<>(questionCount);
+        int optionId = 1;
+        for (int q = 0; q < questionCount; q++) {
+            QuizQuestionCreate question = new QuizQuestionCreate(q + 1, 1,
+                    "Question " + q + ": which of the following statements about topic " + (q % 97) + " is true?",
+                    q % 3 == 0 ? null : "Explanation for question " + q + ".");
+            List<QuizChoiceCreate> choices = new ArrayList<>(optionCount);
+            for (int o = 0; o < optionCount; o++) {
+                QuizChoiceCreate choice = new QuizChoiceCreate(new String("Option " + (char) ('A' + o)), o == q % optionCount);
+                choice.setOption_id(optionId++);
+                choice.setQuestion_id(q + 1);
+                choices.add(choice);
+            }
+            question.setOptions(choices);
+            questions.add(question);
+        }
+        quiz.setQuestions(questions);
+        return quiz;
+    }
+}
@@ -1,6 +1,15 @@
 package com.example.cab302a1;
 
+import com.example.cab302a1.metrics.MetricsRegistry;
+import com.example.cab302a1.metrics.PoolMetricsTrackerFactory;
+import com.example.cab302a1.metrics.QueryTracker;
+import com.example.cab302a1.util.EnvSettings;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
 import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.exception.FlywayValidateException;
 import org.jdbi.v3.core.Jdbi;
 import java.util.logging.*;
 
@@ -15,13 +24,33 @@ import java.util.logging.*;
  * <p>Key responsibilities:</p>
  * <ul>
  *   <li>Expose a single shared {@link Jdbi} instance for all DAO classes</li>
+ *   <li>Serve connections from a HikariCP pool (or DriverManager when pooling is disabled)</li>
  *   <li>Run Flyway migrations to maintain the database schema</li>
  * </ul>
  *
+ * <p>Pool settings are read from the same environment as {@code DB_URL}:</p>
+ * <ul>
+ *   <li>{@code DB_POOL_ENABLED} – {@code false} falls back to one DriverManager connection per handle (default {@code true})</li>
+ *   <li>{@code DB_POOL_MIN_IDLE} / {@code DB_POOL_MAX_SIZE} – pool size bounds (default 2 / 10)</li>
+ *   <li>{@code DB_POOL_CONNECTION_TIMEOUT_MS} – max wait for a free connection (default 10000)</li>
+ *   <li>{@code DB_POOL_VALIDATION_TIMEOUT_MS} – max time for a liveness check (default 3000)</li>
+ *   <li>{@code DB_POOL_TEST_QUERY} – optional validation query; JDBC4 {@code isValid()} is used when unset</li>
+ *   <li>{@code DB_POOL_IDLE_TIMEOUT_MS} – evict connections idle longer than this (default 300000)</li>
+ *   <li>{@code DB_POOL_MAX_LIFETIME_MS} – retire connections older than this (default 1800000)</li>
+ *   <li>{@code DB_POOL_LEAK_DETECTION_MS} – warn when a connection is held longer than this, 0 disables (default 30000)</li>
+ * </ul>
+ *
+ * <p>Migration settings:</p>
+ * <ul>
+ *   <li>{@code DB_REPAIR} – {@code true} runs {@code flyway.repair()} before migrating, e.g. after a
+ *       migration script was edited (default {@code false})</li>
+ * </ul>
+ *
  * <p>Usage Example:</p>
  * <pre>
  *     Jdbi jdbi = DBconnection.getJdbi();
- *     DBconnection.migrate();
+ *     DBconnection.migrateIfNeeded();   // on startup; skips Flyway when the schema is current
+ *     PoolStats stats = DBconnection.getPoolStats();
  * </pre>
  */
 public final class DBconnection {
@@ -37,6 +66,16 @@ public final class DBconnection {
     private static final String PASSWORD =
             System.getenv().getOrDefault("DB_PASS", "AppPass#2025");
 
+    /**
+     * Version of the newest script in {@code db/migration}. Bump it together with every
+     * new migration; {@link #migrateIfNeeded()} skips Flyway while the database is at it.
+     */
+    public static final String EXPECTED_SCHEMA_VERSION = "17";
+
+    // Connection pool switch (environment variable first, then default)
+    private static final boolean POOL_ENABLED =
+            EnvSettings.booleanSetting("DB_POOL_ENABLED", true);
+
     /**
      * Private constructor prevents instantiation.
      * <p>
@@ -47,8 +86,75 @@ public final class DBconnection {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
 
+    /** Shared connection pool, or {@code null} when pooling is disabled. */
+    private static final HikariDataSource dataSource = POOL_ENABLED ? createPool() : null;
+
     /** Shared JDBI instance for the entire application. */
-    private static final Jdbi jdbi = Jdbi.create(URL, USER, PASSWORD);
+    private static final Jdbi jdbi = createJdbi();
+
+    /**
+     * Creates the shared JDBI instance on top of the pool (or DriverManager).
+     * <p>
+     * Statements are reported to {@link QueryTracker} so N+1 query patterns can be
+     * detected per operation; this costs nothing while no tracking scope is open.
+     * </p>
+     *
+     * @return the configured {@link Jdbi}
+     */
+    private static Jdbi createJdbi() {
+        Jdbi created = (dataSource != null)
+                ? Jdbi.create(dataSource)
+                : Jdbi.create(URL, USER, PASSWORD);
+        created.setSqlLogger(QueryTracker.getInstance());
+        return created;
+    }
+
+    /**
+     * Builds the HikariCP pool from environment settings.
+     * <p>
+     * The pool is started lazily ({@code initializationFailTimeout = -1}) so that
+     * the application and unit tests can start even when the database is not
+     * reachable yet; connections are established on first use.
+     * </p>
+     *
+     * @return a configured {@link HikariDataSource}
+     */
+    private static HikariDataSource createPool() {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName("cab302-pool");
+        config.setJdbcUrl(URL);
+        config.setUsername(USER);
+        config.setPassword(PASSWORD);
+
+        config.setMinimumIdle(EnvSettings.intSetting("DB_POOL_MIN_IDLE", 2));
+        config.setMaximumPoolSize(EnvSettings.intSetting("DB_POOL_MAX_SIZE", 10));
+        config.setConnectionTimeout(EnvSettings.longSetting("DB_POOL_CONNECTION_TIMEOUT_MS", 10_000L));
+        config.setValidationTimeout(EnvSettings.longSetting("DB_POOL_VALIDATION_TIMEOUT_MS", 3_000L));
+        config.setIdleTimeout(EnvSettings.longSetting("DB_POOL_IDLE_TIMEOUT_MS", 300_000L));
+        config.setMaxLifetime(EnvSettings.longSetting("DB_POOL_MAX_LIFETIME_MS", 1_800_000L));
+        config.setLeakDetectionThreshold(EnvSettings.longSetting("DB_POOL_LEAK_DETECTION_MS", 30_000L));
+
+        String testQuery = System.getenv("DB_POOL_TEST_QUERY");
+        if (testQuery != null && !testQuery.isBlank()) {
+            config.setConnectionTestQuery(testQuery);
+        }
+
+        // Do not fail class initialisation when the database is down
+        config.setInitializationFailTimeout(-1);
+
+        // Client-side statement cache for MySQL Connector/J
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+
+        // Connection acquire/usage timings (see MetricsRegistry)
+        MetricsRegistry metrics = MetricsRegistry.getInstance();
+        if (metrics.isEnabled()) {
+            config.setMetricsTrackerFactory(new PoolMetricsTrackerFactory(metrics));
+        }
+
+        return new HikariDataSource(config);
+    }
 
     /**
      * Returns the shared {@link Jdbi} instance.
@@ -68,24 +174,166 @@ public final class DBconnection {
      * <p>
      * While most DAOs use {@link #getJdbi()}, this method allows
      * direct JDBC access for backward compatibility in tests or setup scripts.
+     * The connection is borrowed from the pool when pooling is enabled, so
+     * callers must close it to return it.
      * </p>
      *
      * @return an open {@link java.sql.Connection} to the database
      * @throws java.sql.SQLException if the connection fails
      */
     public static java.sql.Connection getConnection() throws java.sql.SQLException {
+        if (dataSource != null) {
+            return dataSource.getConnection();
+        }
         return java.sql.DriverManager.getConnection(URL, USER, PASSWORD);
     }
 
+    /**
+     * Indicates whether connections are served from the pool.
+     *
+     * @return true if pooling is enabled
+     */
+    public static boolean isPooled() {
+        return dataSource != null;
+    }
+
+    /**
+     * Returns a snapshot of the current pool state.
+     * <p>
+     * The values come from HikariCP's pool MXBean and are cheap to read,
+     * so this can be polled from a metrics or logging loop.
+     * </p>
+     *
+     * @return the current {@link PoolStats}; {@link PoolStats#disabled()} when not pooled
+     */
+    public static PoolStats getPoolStats() {
+        if (dataSource == null) {
+            return PoolStats.disabled();
+        }
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            // Pool not started yet (or already shut down)
+            return new PoolStats(true, 0, 0, 0, 0,
+                    dataSource.getMinimumIdle(), dataSource.getMaximumPoolSize());
+        }
+        return new PoolStats(true,
+                pool.getActiveConnections(),
+                pool.getIdleConnections(),
+                pool.getTotalConnections(),
+                pool.getThreadsAwaitingConnection(),
+                dataSource.getMinimumIdle(),
+                dataSource.getMaximumPoolSize());
+    }
+
+    /**
+     * Closes the connection pool and releases all physical connections.
+     * <p>
+     * Intended to be called once when the application exits.
+     * </p>
+     */
+    public static void shutdown() {
+        if (dataSource != null && !dataSource.isClosed()) {
+            dataSource.close();
+        }
+    }
+
+
+    /**
+     * Reads the schema version recorded by Flyway with a single query.
+     *
+     * @return the version of the latest successful migration, or {@code null} if the
+     *         history table is missing, empty, or its latest entry failed
+     */
+    public static String currentSchemaVersion() {
+        try {
+            return jdbi.withHandle(handle ->
+                    handle.createQuery("""
+                            SELECT version, success
+                            FROM flyway_schema_history
+                            WHERE version IS NOT NULL
+                            ORDER BY installed_rank DESC
+                            LIMIT 1
+                            """)
+                            .map((rs, ctx) -> rs.getBoolean("success") ? rs.getString("version") : null)
+                            .findOne()
+                            .orElse(null));
+        } catch (Exception e) {
+            // No history table yet (fresh database)
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether a recorded schema version satisfies {@link #EXPECTED_SCHEMA_VERSION}.
+     * A newer version (written by a newer build of the app) also counts as current.
+     *
+     * @param version the recorded version, or {@code null}
+     * @return true if no migration is needed
+     */
+    static boolean isCurrent(String version) {
+        if (version == null || version.isBlank()) {
+            return false;
+        }
+        try {
+            return MigrationVersion.fromVersion(version)
+                    .isAtLeast(EXPECTED_SCHEMA_VERSION);
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Brings the schema up to date on startup, as cheaply as possible.
+     * <p>
+     * When {@code DB_REPAIR} is not set and {@link #currentSchemaVersion()} is already at
+     * {@link #EXPECTED_SCHEMA_VERSION}, Flyway is not started at all; otherwise this runs
+     * {@link #migrate()}. Blocking: call it off the FX thread.
+     * </p>
+     *
+     * @return true if Flyway ran, false if the fast path skipped it
+     */
+    public static boolean migrateIfNeeded() {
+        if (!repairRequested() && isCurrent(currentSchemaVersion())) {
+            return false;
+        }
+        migrate();
+        return true;
+    }
 
     /**
      * Executes Flyway migrations to update the database schema.
      * <p>
-     * Automatically repairs migration history and applies any pending schema changes.
-     * Flyway logging is suppressed for cleaner console output.
+     * Applies any pending schema changes. The migration history is only repaired when
+     * {@code DB_REPAIR=true} is set; otherwise a checksum mismatch fails with a hint to
+     * set it. Flyway logging is suppressed for cleaner console output.
      * </p>
      */
     public static void migrate() {
+        Flyway flyway = flyway();
+        if (repairRequested()) {
+            flyway.repair();
+        }
+        try {
+            flyway.migrate();
+        } catch (FlywayValidateException e) {
+            throw new IllegalStateException(
+                    "Migration history does not match db/migration; run once with DB_REPAIR=true to repair it", e);
+        }
+    }
+
+    /**
+     * Repairs the Flyway migration history: realigns checksums with the scripts on the
+     * classpath and removes failed entries. Only needed after a migration was edited.
+     */
+    public static void repair() {
+        flyway().repair();
+    }
+
+    private static boolean repairRequested() {
+        return EnvSettings.booleanSetting("DB_REPAIR", false);
+    }
+
+    private static Flyway flyway() {
         // Suppress Flyway logging output
         Logger flywayLogger = Logger.getLogger("org.flywaydb");
         flywayLogger.setLevel(Level.WARNING);
@@ -100,13 +348,13 @@ public final class DBconnection {
             throw new RuntimeException("MySQL Driver not found!", e);
         }
 
-        // Configure and run Flyway migrations
-        Flyway flyway = Flyway.configure()
-                .dataSource(URL, USER, PASSWORD)
-                .load();
-
-        flyway.repair();
-        flyway.migrate();
-
+        // Configure Flyway (reusing pooled connections when available)
+        var configuration = Flyway.configure();
+        if (dataSource != null) {
+            configuration.dataSource(dataSource);
+        } else {
+            configuration.dataSource(URL, USER, PASSWORD);
+        }
+        return configuration.load();
     }
 }
@@ -7,6 +7,7 @@ import com.example.cab302a1.model.Teacher;
 import com.example.cab302a1.model.User;
 import com.example.cab302a1.util.Session;
 import com.example.cab302a1.components.NavigationManager;
+import com.example.cab302a1.metrics.StartupTimer;
 import javafx.fxml.*;
 import javafx.scene.*;
 import javafx.scene.control.*;
@@ -97,6 +98,7 @@ public class LoginController {
 
         if(currentUser != null){
             Session.setCurrentUser(currentUser);
+            StartupTimer.getInstance().mark(StartupTimer.LOGIN_SUBMITTED);
             String title = "";
             if(currentUser instanceof Student){
                 title = "Student";
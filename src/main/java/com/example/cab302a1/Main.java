@@ -1,8 +1,19 @@
 package com.example.cab302a1;
 
+import com.example.cab302a1.components.NavigationManager;
+import com.example.cab302a1.components.ViewPrewarmer;
+import com.example.cab302a1.metrics.MetricsRegistry;
+import com.example.cab302a1.metrics.StartupTimer;
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.fxml.FXMLLoader;
+import javafx.geometry.Pos;
 import javafx.scene.Scene;
+import javafx.scene.control.Alert;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressIndicator;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
 
 import java.io.IOException;
@@ -10,11 +21,56 @@ import java.io.IOException;
 public class Main extends Application {
 
     @Override
-    public void start(Stage stage) throws IOException {
-        // Db connection check
-        DBconnection.migrate();
+    public void start(Stage stage) {
+        // Periodic DAO/pool latency dump (METRICS_LOG_INTERVAL_S)
+        MetricsRegistry.getInstance().start();
 
+        // Show a splash right away; the database is prepared in the background
+        stage.setTitle("Interactive Quiz Creator");
+        stage.setScene(createSplashScene());
+        stage.centerOnScreen();
+        stage.show();
 
+        // Db connection check; Flyway only runs when the schema is behind (or DB_REPAIR is set)
+        Task<Boolean> schemaTask = new Task<>() {
+            @Override
+            protected Boolean call() {
+                return DBconnection.migrateIfNeeded();
+            }
+        };
+        schemaTask.setOnSucceeded(e -> {
+            StartupTimer.getInstance().mark(StartupTimer.SCHEMA_READY);
+            try {
+                showLogin(stage);
+            } catch (IOException ex) {
+                fail("Could not load the login page", ex);
+            }
+        });
+        schemaTask.setOnFailed(e -> fail("Could not prepare the database", schemaTask.getException()));
+
+        Thread.ofPlatform().name("schema-check").daemon(true).start(schemaTask);
+    }
+
+    /**
+     * Builds the splash shown while the database schema is checked or migrated.
+     *
+     * @return a small scene with a progress indicator
+     */
+    private static Scene createSplashScene() {
+        ProgressIndicator progress = new ProgressIndicator();
+        Label label = new Label("Preparing database...");
+        VBox box = new VBox(16, progress, label);
+        box.setAlignment(Pos.CENTER);
+        return new Scene(box, 360, 200);
+    }
+
+    /**
+     * Replaces the splash with the login page.
+     *
+     * @param stage the primary stage
+     * @throws IOException if the login FXML cannot be loaded
+     */
+    private static void showLogin(Stage stage) throws IOException {
         // Load the FXML file for the login page UI
         FXMLLoader fxmlLoader = new FXMLLoader(Main.class.getResource("/com/example/cab302a1/Login/Login-view.fxml"));
 
@@ -35,7 +91,29 @@ public class Main extends Application {
         stage.setMinWidth(600);   // Set minimum width
         stage.setMinHeight(500);  // Set minimum height
         stage.centerOnScreen();   // Center the window
-            stage.show();
+        StartupTimer.getInstance().markAfterLayout(scene, StartupTimer.LOGIN_SHOWN);
+        stage.show();
+
+        // Parse the pages opened after login in the background while the user signs in
+        ViewPrewarmer.start(NavigationManager.Pages.LIKELY_NEXT);
+    }
+
+    /**
+     * Reports a startup failure and exits, as the app cannot work without its database.
+     */
+    private static void fail(String message, Throwable error) {
+        System.err.println(message + ": " + error);
+        Alert alert = new Alert(Alert.AlertType.ERROR, message + ":\n" + error.getMessage());
+        alert.setHeaderText("Startup failed");
+        alert.showAndWait();
+        Platform.exit();
+    }
+
+    @Override
+    public void stop() {
+        // Final metrics dump, then release pooled database connections on exit
+        MetricsRegistry.getInstance().stop();
+        DBconnection.shutdown();
     }
 
     public static void main(String[] args) {
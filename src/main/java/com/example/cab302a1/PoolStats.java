@@ -0,0 +1,82 @@
+package com.example.cab302a1;
+
+/**
+ * Immutable snapshot of the connection pool behind {@link DBconnection}.
+ * <p>
+ * Instances are produced by {@link DBconnection#getPoolStats()} and are safe to
+ * log, display, or hand to a metrics sink. When pooling is disabled every
+ * counter is zero and {@link #isPooled()} returns {@code false}.
+ * </p>
+ */
+public final class PoolStats {
+
+    private final boolean pooled;
+    private final int activeConnections;
+    private final int idleConnections;
+    private final int totalConnections;
+    private final int threadsAwaitingConnection;
+    private final int minimumIdle;
+    private final int maximumPoolSize;
+
+    /**
+     * Creates a pool snapshot.
+     *
+     * @param pooled                    whether a pool is configured at all
+     * @param activeConnections         connections currently borrowed by callers
+     * @param idleConnections           connections sitting idle in the pool
+     * @param totalConnections          active + idle connections
+     * @param threadsAwaitingConnection threads blocked waiting for a connection
+     * @param minimumIdle               configured minimum number of idle connections
+     * @param maximumPoolSize           configured maximum pool size
+     */
+    public PoolStats(boolean pooled, int activeConnections, int idleConnections, int totalConnections,
+                     int threadsAwaitingConnection, int minimumIdle, int maximumPoolSize) {
+        this.pooled = pooled;
+        this.activeConnections = activeConnections;
+        this.idleConnections = idleConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.minimumIdle = minimumIdle;
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    /**
+     * Returns a snapshot describing a non-pooled (DriverManager) configuration.
+     *
+     * @return a snapshot with all counters set to zero
+     */
+    public static PoolStats disabled() {
+        return new PoolStats(false, 0, 0, 0, 0, 0, 0);
+    }
+
+    /** @return true if connections are served from a pool */
+    public boolean isPooled() { return pooled; }
+
+    /** @return number of connections currently in use */
+    public int getActiveConnections() { return activeConnections; }
+
+    /** @return number of idle connections ready to be borrowed */
+    public int getIdleConnections() { return idleConnections; }
+
+    /** @return total number of open connections held by the pool */
+    public int getTotalConnections() { return totalConnections; }
+
+    /** @return number of threads blocked waiting for a connection */
+    public int getThreadsAwaitingConnection() { return threadsAwaitingConnection; }
+
+    /** @return configured minimum number of idle connections */
+    public int getMinimumIdle() { return minimumIdle; }
+
+    /** @return configured maximum pool size */
+    public int getMaximumPoolSize() { return maximumPoolSize; }
+
+    @Override
+    public String toString() {
+        if (!pooled) {
+            return "PoolStats{pooled=false}";
+        }
+        return String.format("PoolStats{active=%d, idle=%d, total=%d, waiting=%d, min=%d, max=%d}",
+                activeConnections, idleConnections, totalConnections,
+                threadsAwaitingConnection, minimumIdle, maximumPoolSize);
+    }
+}
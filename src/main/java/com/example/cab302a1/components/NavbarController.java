@@ -59,6 +59,17 @@ public class NavbarController implements Initializable {
     public void initialize(URL location, ResourceBundle resources) {
         // Set this as the current instance
         currentInstance = this;
+
+        // Become current again whenever a cached page containing this navbar is shown
+        navbarContainer.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (newScene != null) {
+                newScene.windowProperty().addListener((wObs, oldWindow, newWindow) -> {
+                    if (newWindow != null) {
+                        currentInstance = this;
+                    }
+                });
+            }
+        });
         
         // Initialize the navbar component
         setupButtonStates();
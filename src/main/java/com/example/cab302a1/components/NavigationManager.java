@@ -1,11 +1,16 @@
 package com.example.cab302a1.components;
 
+import com.example.cab302a1.util.EnvSettings;
+import com.example.cab302a1.util.Session;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Stack;
 
 /**
@@ -18,6 +23,10 @@ import java.util.Stack;
  * - Back navigation support
  * - Scene management
  * - Integration with logout confirmation
+ * - View cache: scenes of recently visited pages whose controller implements
+ *   {@link ViewLifecycle} are kept and shown again via {@link ViewLifecycle#onShow()}
+ *   instead of re-parsing their FXML. The number kept is {@code VIEW_CACHE_SIZE}
+ *   (default 4, 0 disables the cache).
  */
 public class NavigationManager {
     
@@ -29,6 +38,24 @@ public class NavigationManager {
     
     // Current page information
     private PageInfo currentPage;
+
+    // Controller of the page currently on the stage, told when it is replaced
+    private Object currentController;
+
+    // Recently visited views, least recently shown first
+    private final int viewCacheSize = Math.max(0, EnvSettings.intSetting("VIEW_CACHE_SIZE", 4));
+    private final Map<PageInfo, CachedView> viewCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PageInfo, CachedView> eldest) {
+            return size() > viewCacheSize;
+        }
+    };
+
+    /**
+     * A parsed page kept for reuse, with the user it was built for so that a view
+     * never leaks into another user's session.
+     */
+    private record CachedView(Scene scene, ViewLifecycle controller, int userId) {}
     
     /**
      * Information about a page for navigation purposes.
@@ -163,28 +190,67 @@ public class NavigationManager {
     
     /**
      * Loads a page with the specified information.
+     * Reuses the cached scene and controller of the page when there is one, and
+     * parses the FXML otherwise.
      * 
      * @param stage The stage to update
      * @param pageInfo Information about the page to load
      * @throws IOException if the page cannot be loaded
      */
     private void loadPage(Stage stage, PageInfo pageInfo) throws IOException {
-        // Load FXML
-        FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(pageInfo.getFxmlPath()));
-        Scene scene = new Scene(fxmlLoader.load(), pageInfo.getWidth(), pageInfo.getHeight());
-        
-        // Apply CSS if provided
-        if (pageInfo.getCssPath() != null && !pageInfo.getCssPath().isEmpty()) {
-            try {
-                URL cssUrl = getClass().getResource(pageInfo.getCssPath());
-                if (cssUrl != null) {
-                    scene.getStylesheets().add(cssUrl.toExternalForm());
+        int userId = currentUserId();
+        CachedView cached = viewCache.get(pageInfo);
+        if (cached != null && (cached.userId() != userId
+                || (cached.scene().getWindow() != null && cached.scene().getWindow() != stage))) {
+            // Built for another session, or still shown in another window
+            viewCache.remove(pageInfo);
+            cached = null;
+        }
+
+        Scene scene;
+        Object controller;
+        if (cached != null) {
+            scene = cached.scene();
+            controller = cached.controller();
+        } else {
+            // Load FXML
+            FXMLLoader fxmlLoader = new FXMLLoader(getClass().getResource(pageInfo.getFxmlPath()));
+            scene = new Scene(fxmlLoader.load(), pageInfo.getWidth(), pageInfo.getHeight());
+            controller = fxmlLoader.getController();
+
+            // Apply CSS if provided
+            if (pageInfo.getCssPath() != null && !pageInfo.getCssPath().isEmpty()) {
+                try {
+                    URL cssUrl = getClass().getResource(pageInfo.getCssPath());
+                    if (cssUrl != null) {
+                        scene.getStylesheets().add(cssUrl.toExternalForm());
+                    }
+                } catch (Exception e) {
+                    System.err.println("Error loading CSS: " + e.getMessage());
                 }
+            }
+
+            if (viewCacheSize > 0 && controller instanceof ViewLifecycle lifecycle) {
+                viewCache.put(pageInfo, new CachedView(scene, lifecycle, userId));
+            }
+        }
+
+        // Let the page being replaced pause its work
+        if (currentController instanceof ViewLifecycle previous && previous != controller) {
+            try {
+                previous.onHide();
             } catch (Exception e) {
-                System.err.println("Error loading CSS: " + e.getMessage());
+                System.err.println("Error in onHide of " + currentPage + ": " + e.getMessage());
             }
         }
-        
+
+        // Update stage
+        stage.setTitle(pageInfo.getTitle());
+        stage.setScene(scene);
+        stage.setResizable(pageInfo.isResizable());
+        stage.centerOnScreen();
+        currentController = controller;
+
         // Update navbar active state based on destination page (no polling, event-driven)
         try {
             String fxml = pageInfo.getFxmlPath();
@@ -199,24 +265,53 @@ public class NavigationManager {
                     pageType = "home";
                 }
             }
-            // Call after FXML load so the new NavbarController instance has initialized
+            // Call after the scene is shown so the page's NavbarController is the current one
             com.example.cab302a1.components.NavbarController.updateNavbarState(pageType);
         } catch (Exception ignore) { }
-        
-        // Update stage
-        stage.setTitle(pageInfo.getTitle());
-        stage.setScene(scene);
-        stage.setResizable(pageInfo.isResizable());
-        stage.centerOnScreen();
+
+        // A reused view was initialised on its first visit; let it re-fetch its data
+        if (cached != null) {
+            cached.controller().onShow();
+        }
+    }
+
+    private static int currentUserId() {
+        return Session.getCurrentUser() != null ? Session.getCurrentUser().getUser_id() : 0;
     }
     
     /**
-     * Clears the navigation history.
+     * Clears the navigation history and the view cache.
      * Useful when starting a new session or after logout.
      */
     public void clearHistory() {
         navigationHistory.clear();
         currentPage = null;
+        currentController = null;
+        clearViewCache();
+    }
+
+    /**
+     * Drops every cached view, so each page is parsed again on its next visit.
+     */
+    public void clearViewCache() {
+        viewCache.clear();
+    }
+
+    /**
+     * Drops the cached view of one page, if any.
+     *
+     * @param pageInfo the page to parse again on its next visit
+     */
+    public void invalidate(PageInfo pageInfo) {
+        viewCache.remove(pageInfo);
+    }
+
+    /**
+     * Gets the number of views currently cached.
+     * @return Number of cached views
+     */
+    public int getViewCacheSize() {
+        return viewCache.size();
     }
     
     /**
@@ -308,5 +403,13 @@ public class NavigationManager {
             "Interactive Quiz Creator - Logout Confirmation",
             400, 300, false
         );
+
+        /**
+         * Pages a user usually opens right after logging in, most likely first;
+         * warmed by {@link ViewPrewarmer} while the login screen is shown.
+         */
+        public static final List<PageInfo> LIKELY_NEXT = List.of(
+            HOME, STUDENT_REVIEW, TEACHER_REVIEW, QUIZ_RESULT, LOGOUT_CONFIRMATION
+        );
     }
 }
@@ -0,0 +1,37 @@
+package com.example.cab302a1.components;
+
+/**
+ * Lifecycle hooks for page controllers whose views {@link NavigationManager} may keep
+ * and show again instead of re-parsing their FXML.
+ * <p>
+ * Only pages whose controller implements this interface are cached. Such a controller
+ * is initialised once; every later visit reuses the same scene and controller and calls
+ * {@link #onShow()}, so the page must re-fetch anything that may have changed there
+ * rather than in {@code initialize}.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     public class HomeController implements Initializable, ViewLifecycle {
+ *         &#64;Override
+ *         public void onShow() {
+ *             refresh();
+ *         }
+ *     }
+ * </pre>
+ */
+public interface ViewLifecycle {
+
+    /**
+     * Called on the FX thread each time a cached view is shown again, after its
+     * scene has been put on the stage. Not called for the first display, which
+     * goes through {@code initialize}.
+     */
+    void onShow();
+
+    /**
+     * Called on the FX thread when the view is replaced by another page, whether or
+     * not it stays cached. The default does nothing.
+     */
+    default void onHide() {}
+}
@@ -0,0 +1,193 @@
+package com.example.cab302a1.components;
+
+import com.example.cab302a1.metrics.StartupTimer;
+import com.example.cab302a1.util.EnvSettings;
+import javafx.css.CssParser;
+import javafx.fxml.FXMLLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parses the FXML and CSS of the pages a user is likely to open next on a background
+ * thread, so that the first visit to them does not pay for class loading and parser
+ * warm-up on the FX thread.
+ * <p>
+ * For every page the warmer:
+ * </p>
+ * <ul>
+ *   <li>Loads the controller classes named by {@code fx:controller}, following {@code fx:include}s</li>
+ *   <li>Builds the node tree with {@link FXMLLoader}, from a copy of the FXML without the
+ *       controller, event handlers and includes, so that no controller code runs</li>
+ *   <li>Parses the page stylesheet, any {@code stylesheets="@..."} it references and a
+ *       stylesheet named like the FXML file (e.g. {@code Navbar.css}) if there is one</li>
+ * </ul>
+ *
+ * <p>
+ * The parsed trees are discarded; building them is what loads and JIT-compiles the
+ * control, FXML and CSS classes. Failures are reported on {@code System.err} and never
+ * affect the application. When done, {@link StartupTimer#PREWARM_DONE} is marked.
+ * </p>
+ *
+ * <p>Settings (environment variables):</p>
+ * <ul>
+ *   <li>{@code VIEW_PREWARM} – {@code false} disables pre-warming (default {@code true})</li>
+ * </ul>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     stage.show();
+ *     ViewPrewarmer.start(NavigationManager.Pages.LIKELY_NEXT);
+ * </pre>
+ */
+public final class ViewPrewarmer {
+
+    private static final Pattern CONTROLLER = Pattern.compile("\\sfx:controller\\s*=\\s*\"([^\"]*)\"");
+    private static final Pattern HANDLER = Pattern.compile("\\son[A-Z]\\w*\\s*=\\s*\"#[^\"]*\"");
+    private static final Pattern INCLUDE = Pattern.compile("<fx:include\\s[^>]*?source\\s*=\\s*\"([^\"]*)\"[^>]*?/>");
+    private static final Pattern STYLESHEETS = Pattern.compile("\\sstylesheets\\s*=\\s*\"@([^\"]*)\"");
+
+    /** Stands in for an included file, which is warmed on its own. */
+    private static final String INCLUDE_PLACEHOLDER = "<javafx.scene.layout.Region/>";
+
+    private ViewPrewarmer() {}
+
+    /**
+     * Starts warming the given pages on a low-priority daemon thread.
+     * Does nothing if {@code VIEW_PREWARM} is {@code false}.
+     *
+     * @param pages the pages to warm, most likely first
+     * @return the started thread, or {@code null} if pre-warming is disabled
+     */
+    public static Thread start(List<NavigationManager.PageInfo> pages) {
+        if (!EnvSettings.booleanSetting("VIEW_PREWARM", true)) {
+            return null;
+        }
+        Thread thread = Thread.ofPlatform()
+                .name("view-prewarmer")
+                .daemon(true)
+                .priority(Thread.MIN_PRIORITY)
+                .unstarted(() -> warm(pages));
+        thread.start();
+        return thread;
+    }
+
+    /**
+     * Warms the given pages on the calling thread.
+     *
+     * @param pages the pages to warm
+     */
+    public static void warm(List<NavigationManager.PageInfo> pages) {
+        Set<String> seen = new HashSet<>();
+        for (NavigationManager.PageInfo page : pages) {
+            warmFxml(ViewPrewarmer.class.getResource(page.getFxmlPath()), seen);
+            if (page.getCssPath() != null && !page.getCssPath().isEmpty()) {
+                warmCss(ViewPrewarmer.class.getResource(page.getCssPath()), seen);
+            }
+        }
+        StartupTimer.getInstance().mark(StartupTimer.PREWARM_DONE);
+    }
+
+    @SuppressWarnings("deprecation") // URL(URL, String) still resolves jar: URLs, URI.resolve does not
+    private static void warmFxml(URL url, Set<String> seen) {
+        if (url == null || !seen.add(url.toExternalForm())) {
+            return;
+        }
+        try {
+            String fxml;
+            try (InputStream in = url.openStream()) {
+                fxml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+
+            for (String name : controllers(fxml)) {
+                Class.forName(name, true, ViewPrewarmer.class.getClassLoader());
+            }
+            for (String source : includes(fxml)) {
+                warmFxml(new URL(url, source), seen);
+            }
+            for (String stylesheet : stylesheets(fxml)) {
+                warmCss(new URL(url, stylesheet), seen);
+            }
+            // Components such as the navbar add a stylesheet named after their FXML in code
+            URL sibling = new URL(url, siblingStylesheet(url.getPath()));
+            if (exists(sibling)) {
+                warmCss(sibling, seen);
+            }
+
+            FXMLLoader loader = new FXMLLoader(url);
+            loader.load(new ByteArrayInputStream(stripBindings(fxml).getBytes(StandardCharsets.UTF_8)));
+        } catch (Exception | LinkageError e) {
+            System.err.println("Could not pre-warm " + url + ": " + e);
+        }
+    }
+
+    private static void warmCss(URL url, Set<String> seen) {
+        if (url == null || !seen.add(url.toExternalForm())) {
+            return;
+        }
+        try {
+            new CssParser().parse(url);
+        } catch (Exception e) {
+            System.err.println("Could not pre-warm " + url + ": " + e);
+        }
+    }
+
+    private static boolean exists(URL url) {
+        try (InputStream ignored = url.openStream()) {
+            return true;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /** @return the file name of the stylesheet named like an FXML file, e.g. {@code Navbar.css} */
+    static String siblingStylesheet(String fxmlPath) {
+        String name = fxmlPath.substring(fxmlPath.lastIndexOf('/') + 1);
+        return name.endsWith(".fxml") ? name.substring(0, name.length() - 5) + ".css" : name + ".css";
+    }
+
+    /**
+     * Removes everything from an FXML document that would run application code or
+     * load other files: the controller, {@code #handler} event attributes and includes.
+     *
+     * @param fxml the FXML source
+     * @return FXML that builds the same nodes without a controller
+     */
+    static String stripBindings(String fxml) {
+        String stripped = CONTROLLER.matcher(fxml).replaceAll("");
+        stripped = HANDLER.matcher(stripped).replaceAll("");
+        return INCLUDE.matcher(stripped).replaceAll(Matcher.quoteReplacement(INCLUDE_PLACEHOLDER));
+    }
+
+    /** @return the {@code fx:controller} class names in an FXML document */
+    static List<String> controllers(String fxml) {
+        return groups(CONTROLLER, fxml);
+    }
+
+    /** @return the {@code fx:include} sources in an FXML document, relative to it */
+    static List<String> includes(String fxml) {
+        return groups(INCLUDE, fxml);
+    }
+
+    /** @return the {@code stylesheets="@..."} locations in an FXML document, relative to it */
+    static List<String> stylesheets(String fxml) {
+        return groups(STYLESHEETS, fxml);
+    }
+
+    private static List<String> groups(Pattern pattern, String text) {
+        List<String> found = new ArrayList<>();
+        Matcher m = pattern.matcher(text);
+        while (m.find()) {
+            found.add(m.group(1));
+        }
+        return found;
+    }
+}
@@ -1,5 +1,10 @@
 package com.example.cab302a1.dao;
 
+import com.example.cab302a1.model.QuestionResponse;
+
+import java.util.List;
+import java.util.Set;
+
 /**
  * AttemptDao defines the contract for managing
  * quiz attempt operations such as starting, ending,
@@ -24,10 +29,28 @@ public interface AttemptDao {
 
     /**
      * Mark a quiz attempt as completed and calculate score.
+     * <p>
+     * The score is the number of questions answered correctly and is computed
+     * by the same statement that closes the attempt. Unknown or already
+     * completed attempts are left unchanged.
+     * </p>
      * @param attemptId The attempt ID
      */
     void endAttempt(int attemptId);
 
+    /**
+     * Save the student's answers, grade them and close the attempt in one transaction.
+     * <p>
+     * Combines {@link ResponseDao#saveResponse} and {@link #endAttempt(int)} on a single
+     * connection; either both take effect or neither does. Submitting an attempt that is
+     * already completed changes nothing.
+     * </p>
+     * @param attemptId The attempt ID
+     * @param responses The student's answers (only the chosen option IDs are used)
+     * @return true if this call completed the attempt, false if it was unknown or already completed
+     */
+    boolean submitAttempt(int attemptId, List<QuestionResponse> responses);
+
     /**
      * Get the most recent completed attempt score for a quiz.
      * @param quizId The quiz ID
@@ -58,4 +81,12 @@ public interface AttemptDao {
      * @return The attempt ID or null if not found
      */
     Integer getAttemptId(int quizId, int userId);
+
+    /**
+     * Get the IDs of every quiz the user has completed, in a single query.
+     * Bulk alternative to calling {@link #hasCompleted(int, int)} once per quiz.
+     * @param userId The user ID
+     * @return The set of completed quiz IDs; empty if none
+     */
+    Set<Integer> getCompletedQuizIds(int userId);
 }
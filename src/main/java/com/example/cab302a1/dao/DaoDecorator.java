@@ -0,0 +1,39 @@
+package com.example.cab302a1.dao;
+
+/**
+ * A layer that {@link DaoFactory} wraps around each DAO it hands out.
+ * <p>
+ * Decorators are applied in configuration order, so the first one sits directly
+ * on the JDBI implementation and the last one is what callers receive. A decorator
+ * returns the DAO unchanged for interfaces it does not handle.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     DaoFactory.configure(List.of(DaoDecorators.metrics(), DaoDecorators.caching()));
+ * </pre>
+ *
+ * @see DaoDecorators
+ */
+public interface DaoDecorator {
+
+    /**
+     * Wraps one DAO.
+     *
+     * @param type the DAO interface, e.g. {@code QuizDao.class}
+     * @param dao  the DAO to wrap (possibly already decorated)
+     * @param <T>  the DAO interface type
+     * @return the decorated DAO, or {@code dao} itself if this decorator does not apply
+     */
+    <T> T decorate(Class<T> type, T dao);
+
+    /**
+     * Whether this decorator serves reads from a cache. {@link DaoFactory} leaves such
+     * decorators out of the uncached DAOs it hands to caches of its own.
+     *
+     * @return {@code true} for caching decorators; {@code false} by default
+     */
+    default boolean isCache() {
+        return false;
+    }
+}
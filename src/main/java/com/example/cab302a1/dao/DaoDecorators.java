@@ -0,0 +1,139 @@
+package com.example.cab302a1.dao;
+
+import com.example.cab302a1.dao.cache.CachingQuestionDao;
+import com.example.cab302a1.dao.cache.CachingQuizDao;
+import com.example.cab302a1.dao.cache.DaoCache;
+import com.example.cab302a1.metrics.DaoMetrics;
+import com.example.cab302a1.metrics.MetricsRegistry;
+import com.example.cab302a1.util.EnvSettings;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The built-in {@link DaoDecorator}s and the parser for the {@code DAO_DECORATORS} setting.
+ * <p>Available decorators:</p>
+ * <ul>
+ *   <li>{@code metrics} – per-method call counts and latency, see {@link DaoMetrics}</li>
+ *   <li>{@code cache} – read-through cache for {@link QuizDao} rows and lists and
+ *       {@link QuestionDao} counts with invalidation on writes, see {@link DaoCache}</li>
+ * </ul>
+ *
+ * <p>Settings (environment variables):</p>
+ * <ul>
+ *   <li>{@code DAO_DECORATORS} – comma-separated, innermost first; {@code none} disables all (default {@code metrics,cache})</li>
+ *   <li>{@code DAO_CACHE_CAPACITY} – entries per cache region (default 512)</li>
+ *   <li>{@code DAO_CACHE_TTL_S} – seconds before a cached read is reloaded, bounding staleness
+ *       from other clients' writes; 0 never expires (default 30)</li>
+ * </ul>
+ *
+ * <p>
+ * With the default order, {@code metrics} wraps the JDBI DAOs directly, so the recorded
+ * calls are real database round trips and cache hits do not hide N+1 patterns.
+ * </p>
+ */
+public final class DaoDecorators {
+
+    private DaoDecorators() {}
+
+    /**
+     * Records every DAO call in the shared {@link MetricsRegistry}.
+     *
+     * @return the metrics decorator
+     */
+    public static DaoDecorator metrics() {
+        return metrics(MetricsRegistry.getInstance());
+    }
+
+    /**
+     * Records every DAO call in the given registry.
+     *
+     * @param registry where calls are recorded
+     * @return the metrics decorator
+     */
+    public static DaoDecorator metrics(MetricsRegistry registry) {
+        return new DaoDecorator() {
+            @Override
+            public <T> T decorate(Class<T> type, T dao) {
+                return DaoMetrics.instrument(type, dao, registry);
+            }
+        };
+    }
+
+    /**
+     * Caches quiz and question-count reads in a new {@link DaoCache} sized from the environment.
+     *
+     * @return the caching decorator
+     */
+    public static DaoDecorator caching() {
+        return caching(new DaoCache(
+                EnvSettings.intSetting("DAO_CACHE_CAPACITY", DaoCache.DEFAULT_CAPACITY),
+                EnvSettings.longSetting("DAO_CACHE_TTL_S", DaoCache.DEFAULT_TTL_SECONDS)));
+    }
+
+    /**
+     * Caches quiz and question-count reads in the given cache.
+     * <p>
+     * The same cache backs both DAOs, so writes through one invalidate the other.
+     * Other DAO types are returned unchanged.
+     * </p>
+     *
+     * @param cache the shared cache
+     * @return the caching decorator
+     */
+    public static DaoDecorator caching(DaoCache cache) {
+        return new DaoDecorator() {
+            @Override
+            public <T> T decorate(Class<T> type, T dao) {
+                if (type == QuizDao.class) {
+                    return type.cast(new CachingQuizDao((QuizDao) dao, cache));
+                }
+                if (type == QuestionDao.class) {
+                    return type.cast(new CachingQuestionDao((QuestionDao) dao, cache));
+                }
+                return dao;
+            }
+
+            @Override
+            public boolean isCache() {
+                return true;
+            }
+        };
+    }
+
+    /**
+     * Builds decorators from the {@code DAO_DECORATORS} environment variable.
+     *
+     * @return the configured decorators, innermost first
+     */
+    public static List<DaoDecorator> fromEnvironment() {
+        return fromSpec(System.getenv().getOrDefault("DAO_DECORATORS", "metrics,cache"));
+    }
+
+    /**
+     * Parses a comma-separated list of decorator names.
+     * <p>
+     * Unknown names are reported on {@code System.err} and skipped;
+     * {@code none} or a blank value yields no decorators.
+     * </p>
+     *
+     * @param spec e.g. {@code "metrics,cache"}
+     * @return the decorators, in the given order
+     */
+    public static List<DaoDecorator> fromSpec(String spec) {
+        List<DaoDecorator> decorators = new ArrayList<>();
+        if (spec == null) {
+            return decorators;
+        }
+        for (String raw : spec.split(",")) {
+            String name = raw.trim().toLowerCase();
+            switch (name) {
+                case "", "none" -> { }
+                case "metrics" -> decorators.add(metrics());
+                case "cache" -> decorators.add(caching());
+                default -> System.err.println("Ignoring unknown DAO decorator: " + raw.trim());
+            }
+        }
+        return decorators;
+    }
+}
@@ -2,19 +2,27 @@ package com.example.cab302a1.dao;
 
 import com.example.cab302a1.dao.jdbi.*;
 
+import java.util.List;
+
 /**
  * {@code DaoFactory} provides centralized access to all DAO instances
  * used throughout the application.
  *
- * <p>This class follows the <b>Factory</b> and <b>Singleton</b> design patterns,
- * ensuring that only one instance of each DAO implementation exists.
- * It also handles inter-DAO dependencies such as
- * {@link com.example.cab302a1.dao.ReviewDao} depending on
- * {@link com.example.cab302a1.dao.QuestionDao}.</p>
+ * <p>This class follows the <b>Factory</b> design pattern. Each getter returns
+ * the DAO built by the most recent {@link #configure(List)}: a JDBI implementation
+ * wrapped in a chain of {@link DaoDecorator}s, innermost first (metrics and a
+ * read-through cache by default, see {@link DaoDecorators}). The chain is read from
+ * {@code DAO_DECORATORS} when the class loads and can be replaced with
+ * {@link #configure(List)} at startup, before any DAO is handed out.</p>
  *
  * <p>By using this factory, controllers and services can retrieve
  * pre-configured DAO objects without creating new ones repeatedly.</p>
  *
+ * <p>Caches built on top of the DAOs (such as {@code QuizSnapshotCache}) use
+ * {@link #getUncachedQuizDao()} and {@link #getUncachedQuestionDao()}, which skip the
+ * caching decorators, so they never copy rows that a DAO cache is still serving after
+ * a write.</p>
+ *
  * <p>Example usage:
  * <pre>{@code
  * UserDao userDao = DaoFactory.getUserDao();
@@ -27,15 +35,56 @@ public final class DaoFactory {
     // Prevent instantiation
     private DaoFactory() {}
 
-    // Base DAOs
-    private static final UserDao userDao = new JdbiUserDao();
-    private static final QuizDao quizDao = new JdbiQuizDao();
-    private static final QuestionDao questionDao = new JdbiQuestionDao();
-    private static final ResponseDao responseDao = new JdbiResponseDao();
-    private static final OptionDao optionDao = new JdbiOptionDao();
+    // Decorated DAOs, rebuilt by configure()
+    private static volatile UserDao userDao;
+    private static volatile QuizDao quizDao;
+    private static volatile QuestionDao questionDao;
+    private static volatile ResponseDao responseDao;
+    private static volatile OptionDao optionDao;
+
+    private static volatile ReviewDao reviewDao;
+    private static volatile AttemptDao attemptDao;
+
+    // Same DAOs without caching decorators, for caches of their own
+    private static volatile QuizDao uncachedQuizDao;
+    private static volatile QuestionDao uncachedQuestionDao;
 
-    private static final ReviewDao reviewDao = new JdbiReviewDao(questionDao);
-    private static final AttemptDao attemptDao = new JdbiAttemptDao(responseDao);
+    static {
+        configure(DaoDecorators.fromEnvironment());
+    }
+
+    /**
+     * Rebuilds every DAO with the given decorators.
+     * <p>
+     * Decorators are applied in list order: the first wraps the JDBI implementation,
+     * the last is what the getters return. DAOs already handed out keep their old
+     * decorators, so call this once at startup (or in tests) before they are used.
+     * </p>
+     *
+     * @param decorators the decorators to apply, innermost first; empty for plain JDBI DAOs
+     */
+    public static synchronized void configure(List<? extends DaoDecorator> decorators) {
+        userDao = decorate(UserDao.class, new JdbiUserDao(), decorators);
+        quizDao = decorate(QuizDao.class, new JdbiQuizDao(), decorators);
+        questionDao = decorate(QuestionDao.class, new JdbiQuestionDao(), decorators);
+        responseDao = decorate(ResponseDao.class, new JdbiResponseDao(), decorators);
+        optionDao = decorate(OptionDao.class, new JdbiOptionDao(), decorators);
+
+        reviewDao = decorate(ReviewDao.class, new JdbiReviewDao(), decorators);
+        attemptDao = decorate(AttemptDao.class, new JdbiAttemptDao(), decorators);
+
+        List<? extends DaoDecorator> uncached = decorators.stream().filter(d -> !d.isCache()).toList();
+        uncachedQuizDao = decorate(QuizDao.class, new JdbiQuizDao(), uncached);
+        uncachedQuestionDao = decorate(QuestionDao.class, new JdbiQuestionDao(), uncached);
+    }
+
+    private static <T> T decorate(Class<T> type, T dao, List<? extends DaoDecorator> decorators) {
+        T decorated = dao;
+        for (DaoDecorator decorator : decorators) {
+            decorated = decorator.decorate(type, decorated);
+        }
+        return decorated;
+    }
 
     // === Factory Getters ===
     public static UserDao getUserDao() {
@@ -66,4 +115,22 @@ public final class DaoFactory {
         return reviewDao;
     }
 
+    /**
+     * Returns a {@link QuizDao} with the configured decorators except caching ones.
+     *
+     * @return a quiz DAO whose reads always reach the database
+     */
+    public static QuizDao getUncachedQuizDao() {
+        return uncachedQuizDao;
+    }
+
+    /**
+     * Returns a {@link QuestionDao} with the configured decorators except caching ones.
+     *
+     * @return a question DAO whose reads always reach the database
+     */
+    public static QuestionDao getUncachedQuestionDao() {
+        return uncachedQuestionDao;
+    }
+
 }
\ No newline at end of file
@@ -1,7 +1,9 @@
 package com.example.cab302a1.dao;
 
 import com.example.cab302a1.model.QuizQuestionCreate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 /**
  * {@code QuestionDao} defines the contract for performing
@@ -62,4 +64,30 @@ public interface QuestionDao {
      * @return a {@link List} of {@link QuizQuestionCreate} objects; an empty list if none found
      */
     List<QuizQuestionCreate> getQuestionsByQuizId(int quizId);
+
+    /**
+     * Retrieves all questions of a quiz together with their answer options
+     * in a single round trip.
+     *
+     * <p>Replaces the pattern of calling {@link #getAllQuestions(int)} followed by
+     * one {@code OptionDao.getOptionsByQuestionId} call per question. Questions
+     * are returned in {@code question_id} order and each question's
+     * {@link QuizQuestionCreate#getChoices()} holds its options in {@code option_id} order.</p>
+     *
+     * @param quizId the unique ID of the quiz
+     * @return a {@link List} of fully populated {@link QuizQuestionCreate} objects;
+     *         an empty list if the quiz has no questions
+     */
+    List<QuizQuestionCreate> getQuestionsWithOptions(int quizId);
+
+    /**
+     * Returns the number of questions for each of the given quizzes in a single query.
+     *
+     * <p>Bulk alternative to calling {@link #getNumQuestion(int)} once per quiz.</p>
+     *
+     * @param quizIds the quiz IDs to count questions for
+     * @return a map of quiz ID to question count; quizzes without questions map to {@code 0}.
+     *         An empty map if {@code quizIds} is empty.
+     */
+    Map<Integer, Integer> getQuestionCounts(Collection<Integer> quizIds);
 }
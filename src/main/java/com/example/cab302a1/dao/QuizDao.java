@@ -38,6 +38,19 @@ public interface QuizDao {
      */
      void updateQuiz(Quiz quiz);
 
+    /**
+     * Save a quiz together with all of its questions and options in one transaction.
+     * <p>
+     * A quiz with an ID of 0 or less is inserted; otherwise the stored version is
+     * compared with the given one and only new or changed rows are written.
+     * Generated IDs are set back on the quiz, question and option objects.
+     * Either the whole graph is saved or nothing is.
+     * </p>
+     * @param quiz the Quiz object with its questions and options
+     * @return the quiz ID
+     */
+    int saveQuizGraph(Quiz quiz);
+
     /**
      * Find a specific quiz by its ID.
      * @param quiz_id the unique ID of the quiz
@@ -0,0 +1,103 @@
+package com.example.cab302a1.dao;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process version stamps for quiz content (the quiz row, its questions and their options).
+ * <p>
+ * The JDBI DAOs bump a quiz's stamp after every write that changes its content, and
+ * readers that keep derived copies (such as {@code QuizSnapshotCache}) compare the
+ * stamp they loaded with the current one instead of querying the database.
+ * </p>
+ *
+ * <p>Key properties:</p>
+ * <ul>
+ *   <li>Stamps come from one counter, so they only ever grow and never repeat</li>
+ *   <li>A write that cannot be attributed to a quiz bumps every quiz via {@link #bumpAll()}</li>
+ *   <li>Only writes made by this process are seen; other clients' writes are not</li>
+ * </ul>
+ */
+public final class QuizVersions {
+
+    private static final QuizVersions INSTANCE = new QuizVersions();
+
+    private final AtomicLong counter = new AtomicLong();
+    private final Map<Integer, Long> stamps = new ConcurrentHashMap<>();
+    /** question_id → quiz_id for questions registered by readers, for {@link #bumpQuestion}. */
+    private final Map<Integer, Integer> quizOfQuestion = new ConcurrentHashMap<>();
+    /** Stamp of the last {@link #bumpAll()}; every quiz is at least this new. */
+    private final AtomicLong floor = new AtomicLong();
+
+    /**
+     * Creates an independent set of stamps; the application uses {@link #getInstance()}.
+     */
+    public QuizVersions() {}
+
+    /**
+     * Returns the stamps the DAOs bump.
+     *
+     * @return the shared {@link QuizVersions}
+     */
+    public static QuizVersions getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the current stamp of a quiz.
+     *
+     * @param quizId the quiz
+     * @return its stamp; a later call returns a larger value once the quiz has changed
+     */
+    public long current(int quizId) {
+        return Math.max(stamps.getOrDefault(quizId, 0L), floor.get());
+    }
+
+    /**
+     * Marks a quiz's content as changed.
+     *
+     * @param quizId the changed quiz
+     */
+    public void bump(int quizId) {
+        stamps.merge(quizId, counter.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * Marks the quiz containing a question as changed.
+     * <p>
+     * Falls back to {@link #bumpAll()} when the question was never registered.
+     * </p>
+     *
+     * @param questionId the changed question
+     */
+    public void bumpQuestion(int questionId) {
+        Integer quizId = quizOfQuestion.get(questionId);
+        if (quizId != null) {
+            bump(quizId);
+        } else {
+            bumpAll();
+        }
+    }
+
+    /**
+     * Marks every quiz as changed.
+     */
+    public void bumpAll() {
+        floor.accumulateAndGet(counter.incrementAndGet(), Math::max);
+    }
+
+    /**
+     * Remembers which quiz the given questions belong to, so that a later
+     * {@link #bumpQuestion} only affects that quiz.
+     *
+     * @param quizId      the owning quiz
+     * @param questionIds its questions
+     */
+    public void registerQuestions(int quizId, Collection<Integer> questionIds) {
+        for (Integer questionId : questionIds) {
+            quizOfQuestion.put(questionId, quizId);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.cab302a1.dao;
 
 import com.example.cab302a1.model.QuestionResponse;
 import java.util.List;
+import java.util.Map;
 
 /**
  * ResponseDao defines the contract for managing
@@ -11,22 +12,19 @@ public interface ResponseDao {
 
     /**
      * Save a list of question responses for a specific quiz attempt.
+     * <p>
+     * Correctness is graded from {@code question_options} when the rows are written;
+     * the {@code is_correct} flag on the given responses is ignored, and so is the
+     * question ID: each option is saved under the question it belongs to. Options that
+     * do not belong to the attempt's quiz are dropped, as are repeated answers to the
+     * same question (the first one is kept). Completed attempts receive no new rows.
+     * </p>
      *
      * @param attemptId The ID of the quiz attempt.
      * @param responses The list of question responses to be saved.
      */
     void saveResponse(int attemptId, List<QuestionResponse> responses);
 
-    /**
-     * Calculate the total score based on correct responses
-     * for a specific quiz attempt.
-     *
-     * @param attemptId The ID of the quiz attempt.
-     * @return The calculated score (number of correct answers),
-     *         or -1 if an error occurs.
-     */
-    int calculateScoreFromResponses(int attemptId);
-
     /**
      * Retrieve the chosen option ID for a given attempt and question.
      *
@@ -35,4 +33,15 @@ public interface ResponseDao {
      * @return The selected option ID, or -1 if not found.
      */
     int getChosenOptionId(int attemptId, int questionId);
+
+    /**
+     * Retrieve every chosen option for a quiz attempt in a single query.
+     *
+     * <p>Bulk alternative to calling {@link #getChosenOptionId(int, int)} once per question.</p>
+     *
+     * @param attemptId The ID of the quiz attempt.
+     * @return A map of question ID to selected option ID. Questions that were
+     *         not answered are absent from the map; the map is empty if none found.
+     */
+    Map<Integer, Integer> getChosenOptionIds(int attemptId);
 }
@@ -0,0 +1,105 @@
+package com.example.cab302a1.dao.cache;
+
+import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.model.QuizQuestionCreate;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Caching {@link QuestionDao} decorator backed by a shared {@link DaoCache}.
+ * <p>
+ * Only question counts are cached per quiz; question lists always go to the wrapped DAO
+ * (full quizzes are cached as snapshots by {@code QuizSnapshotCache}).
+ * {@link #insertQuestion} drops the count of the question's quiz.
+ * </p>
+ */
+public class CachingQuestionDao implements QuestionDao {
+
+    private final QuestionDao delegate;
+    private final DaoCache cache;
+
+    /**
+     * Wraps a DAO.
+     *
+     * @param delegate the DAO that talks to the database
+     * @param cache    the cache shared with the quiz decorator
+     */
+    public CachingQuestionDao(QuestionDao delegate, DaoCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public List<QuizQuestionCreate> getAllQuestions(int quizId) {
+        return delegate.getAllQuestions(quizId);
+    }
+
+    @Override
+    public List<QuizQuestionCreate> getQuestionsByQuizId(int quizId) {
+        return delegate.getQuestionsByQuizId(quizId);
+    }
+
+    @Override
+    public List<QuizQuestionCreate> getQuestionsWithOptions(int quizId) {
+        return delegate.getQuestionsWithOptions(quizId);
+    }
+
+    @Override
+    public int getNumQuestion(int quizId) {
+        return cache.questionCounts.get(quizId, () -> delegate.getNumQuestion(quizId));
+    }
+
+    /**
+     * Serves cached counts and loads only the missing ones, still in one bulk query.
+     */
+    @Override
+    public Map<Integer, Integer> getQuestionCounts(Collection<Integer> quizIds) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        if (quizIds == null || quizIds.isEmpty()) {
+            return counts;
+        }
+        Set<Integer> missing = new LinkedHashSet<>();
+        for (Integer id : quizIds) {
+            Integer cached = cache.questionCounts.getIfPresent(id);
+            if (cached != null) {
+                counts.put(id, cached);
+            } else {
+                missing.add(id);
+            }
+        }
+        if (!missing.isEmpty()) {
+            long generation = cache.questionCounts.generation();
+            Map<Integer, Integer> loaded = delegate.getQuestionCounts(missing);
+            for (Integer id : missing) {
+                int count = loaded.getOrDefault(id, 0);
+                cache.questionCounts.putIfUnchanged(id, count, generation);
+                counts.put(id, count);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public int insertQuestion(QuizQuestionCreate question) {
+        int id = delegate.insertQuestion(question);
+        if (question.getQuizId() > 0) {
+            cache.invalidateQuestionCount(question.getQuizId());
+        } else {
+            cache.invalidateAllQuestionCounts();
+        }
+        return id;
+    }
+
+    /**
+     * Passes through: an update never moves a question to another quiz, so no count changes.
+     */
+    @Override
+    public void updateQuestion(QuizQuestionCreate question) {
+        delegate.updateQuestion(question);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.cab302a1.dao.cache;
+
+import com.example.cab302a1.dao.QuizDao;
+import com.example.cab302a1.model.Quiz;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-through caching {@link QuizDao} decorator backed by a shared {@link DaoCache}.
+ * <p>
+ * Reads are served from the cache; every write goes to the wrapped DAO first and
+ * then drops exactly the entries it may have changed:
+ * </p>
+ * <ul>
+ *   <li>{@link #insertQuiz} – the quiz lists</li>
+ *   <li>{@link #updateQuiz} / {@link #updateQuizStatus} – that quiz and the quiz lists</li>
+ *   <li>{@link #saveQuizGraph} – that quiz, the quiz lists, and its question count</li>
+ * </ul>
+ *
+ * <p>
+ * Callers always receive fresh {@link Quiz} copies, so attaching questions to a
+ * returned quiz (as {@code QuizService.loadQuizFully} does) never leaks into the cache.
+ * </p>
+ */
+public class CachingQuizDao implements QuizDao {
+
+    private static final String ALL = "all";
+
+    private final QuizDao delegate;
+    private final DaoCache cache;
+
+    /**
+     * Wraps a DAO.
+     *
+     * @param delegate the DAO that talks to the database
+     * @param cache    the cache shared with the question decorator
+     */
+    public CachingQuizDao(QuizDao delegate, DaoCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public List<Quiz> getAllQuizzes() {
+        return copyOf(cache.quizLists.get(ALL, delegate::getAllQuizzes));
+    }
+
+    @Override
+    public List<Quiz> getQuizByTeacherId(int teacherId) {
+        return copyOf(cache.quizLists.get("teacher:" + teacherId, () -> delegate.getQuizByTeacherId(teacherId)));
+    }
+
+    @Override
+    public Quiz getQuizById(int quiz_id) {
+        Quiz quiz = cache.quizzes.get(quiz_id, () -> delegate.getQuizById(quiz_id));
+        return quiz != null ? copyOf(quiz) : null;
+    }
+
+    @Override
+    public int insertQuiz(Quiz quiz) {
+        int id = delegate.insertQuiz(quiz);
+        cache.invalidateQuizLists();
+        return id;
+    }
+
+    @Override
+    public void updateQuiz(Quiz quiz) {
+        delegate.updateQuiz(quiz);
+        cache.invalidateQuiz(quiz.getQuizId());
+    }
+
+    @Override
+    public void updateQuizStatus(int quizId, boolean IsHidden) {
+        delegate.updateQuizStatus(quizId, IsHidden);
+        cache.invalidateQuiz(quizId);
+    }
+
+    @Override
+    public int saveQuizGraph(Quiz quiz) {
+        try {
+            return delegate.saveQuizGraph(quiz);
+        } finally {
+            // On failure nothing was committed, so dropping the entries is merely redundant
+            cache.invalidateQuiz(quiz.getQuizId());
+            cache.invalidateQuestionCount(quiz.getQuizId());
+        }
+    }
+
+    private static List<Quiz> copyOf(List<Quiz> quizzes) {
+        if (quizzes == null) {
+            return null;
+        }
+        List<Quiz> copies = new ArrayList<>(quizzes.size());
+        for (Quiz q : quizzes) {
+            copies.add(copyOf(q));
+        }
+        return copies;
+    }
+
+    private static Quiz copyOf(Quiz q) {
+        Quiz copy = new Quiz(q.getQuizId(), q.getTitle(), q.getDescription(), q.getCreated_by(),
+                q.getIsHidden(), q.getAuthorUsername());
+        copy.setQuestions(q.getQuestions());
+        return copy;
+    }
+}
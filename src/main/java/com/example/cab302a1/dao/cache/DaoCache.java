@@ -0,0 +1,206 @@
+package com.example.cab302a1.dao.cache;
+
+import com.example.cab302a1.model.Quiz;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * In-process read cache shared by {@link CachingQuizDao} and {@link CachingQuestionDao}.
+ * <p>
+ * Both DAOs share one instance so that a write through either can drop exactly the
+ * entries it affects in the other (saving a quiz graph, for example, changes the quiz
+ * row and its question count).
+ * </p>
+ *
+ * <p>
+ * Only reads that the application makes through the cached DAOs are cached: quiz rows,
+ * quiz lists and question counts. Full question graphs are cached as immutable
+ * snapshots by {@code QuizSnapshotCache} instead.
+ * </p>
+ *
+ * <p>Key properties:</p>
+ * <ul>
+ *   <li>One bounded, least-recently-used region per kind of read</li>
+ *   <li>Entries also expire after a time-to-live, because other clients write to
+ *       the same database and their changes cannot be invalidated here</li>
+ *   <li>Thread-safe; loads run outside the region lock, so a slow query never blocks hits</li>
+ * </ul>
+ */
+public final class DaoCache {
+
+    /** Default maximum entries per region. */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    /** Default time-to-live of an entry. */
+    public static final long DEFAULT_TTL_SECONDS = 30;
+
+    final Region<String, List<Quiz>> quizLists;
+    final Region<Integer, Quiz> quizzes;
+    final Region<Integer, Integer> questionCounts;
+
+    /**
+     * Creates a cache with the given bounds.
+     *
+     * @param capacity   maximum entries per region
+     * @param ttlSeconds entry time-to-live; 0 or less means entries never expire
+     */
+    public DaoCache(int capacity, long ttlSeconds) {
+        this(capacity, ttlSeconds, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache with an explicit clock, for tests.
+     *
+     * @param capacity   maximum entries per region
+     * @param ttlSeconds entry time-to-live; 0 or less means entries never expire
+     * @param clock      nanosecond time source
+     */
+    DaoCache(int capacity, long ttlSeconds, LongSupplier clock) {
+        long ttlNanos = ttlSeconds > 0 ? TimeUnit.SECONDS.toNanos(ttlSeconds) : Long.MAX_VALUE;
+        quizLists = new Region<>(capacity, ttlNanos, clock);
+        quizzes = new Region<>(capacity, ttlNanos, clock);
+        questionCounts = new Region<>(capacity, ttlNanos, clock);
+    }
+
+    // === Invalidation ===
+
+    /**
+     * Drops every cached list of quizzes (all quizzes, per teacher).
+     */
+    void invalidateQuizLists() {
+        quizLists.clear();
+    }
+
+    /**
+     * Drops the quiz row and all quiz lists that may contain it.
+     *
+     * @param quizId the changed quiz
+     */
+    void invalidateQuiz(int quizId) {
+        quizzes.remove(quizId);
+        quizLists.clear();
+    }
+
+    /**
+     * Drops the question count of one quiz.
+     *
+     * @param quizId the quiz whose questions changed
+     */
+    void invalidateQuestionCount(int quizId) {
+        questionCounts.remove(quizId);
+    }
+
+    /**
+     * Drops every question count; used when a question write cannot be attributed to a quiz.
+     */
+    void invalidateAllQuestionCounts() {
+        questionCounts.clear();
+    }
+
+    /**
+     * Drops everything.
+     */
+    public void clear() {
+        quizLists.clear();
+        quizzes.clear();
+        questionCounts.clear();
+    }
+
+    /**
+     * One bounded LRU map with per-entry expiry.
+     * <p>
+     * Every removal bumps a generation counter; a load that started before a removal
+     * does not store its (possibly stale) result.
+     * </p>
+     *
+     * @param <K> key type
+     * @param <V> cached value type
+     */
+    static final class Region<K, V> {
+
+        private record Entry<V>(V value, long expiresAt) {}
+
+        private final long ttlNanos;
+        private final LongSupplier clock;
+        private final Map<K, Entry<V>> entries;
+        private long generation;
+
+        Region(int capacity, long ttlNanos, LongSupplier clock) {
+            this.ttlNanos = ttlNanos;
+            this.clock = clock;
+            this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                    return size() > capacity;
+                }
+            };
+        }
+
+        /**
+         * Returns the cached value, or loads, stores and returns it.
+         * <p>
+         * The loader runs without holding the lock. {@code null} results are not cached.
+         * </p>
+         */
+        V get(K key, Supplier<V> loader) {
+            long seen;
+            synchronized (this) {
+                V cached = getIfPresent(key);
+                if (cached != null) {
+                    return cached;
+                }
+                seen = generation;
+            }
+            V loaded = loader.get();
+            if (loaded != null) {
+                putIfUnchanged(key, loaded, seen);
+            }
+            return loaded;
+        }
+
+        /** Returns the current generation, to be passed to {@link #putIfUnchanged} after a load. */
+        synchronized long generation() {
+            return generation;
+        }
+
+        /** Stores a loaded value unless something was removed since {@code seen} was read. */
+        synchronized void putIfUnchanged(K key, V value, long seen) {
+            if (generation == seen) {
+                put(key, value);
+            }
+        }
+
+        synchronized V getIfPresent(K key) {
+            Entry<V> entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (ttlNanos != Long.MAX_VALUE && clock.getAsLong() - entry.expiresAt() >= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.value();
+        }
+
+        synchronized void put(K key, V value) {
+            long expiresAt = ttlNanos == Long.MAX_VALUE ? 0 : clock.getAsLong() + ttlNanos;
+            entries.put(key, new Entry<>(value, expiresAt));
+        }
+
+        synchronized V remove(K key) {
+            generation++;
+            Entry<V> removed = entries.remove(key);
+            return removed != null ? removed.value() : null;
+        }
+
+        synchronized void clear() {
+            generation++;
+            entries.clear();
+        }
+    }
+}
@@ -2,9 +2,14 @@ package com.example.cab302a1.dao.jdbi;
 
 import com.example.cab302a1.DBconnection;
 import com.example.cab302a1.dao.AttemptDao;
-import com.example.cab302a1.dao.ResponseDao;
+import com.example.cab302a1.model.QuestionResponse;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 /**
  * {@code JdbcAttemptDao} now uses JDBI to simplify database operations.
  * <p>
@@ -12,17 +17,15 @@ import org.jdbi.v3.core.Jdbi;
  * PreparedStatement, and ResultSet handling, while keeping SQL control.
  * </p>
  * <p>
- * It depends on {@link ResponseDao} for score calculation and uses
+ * Scores are computed in SQL when an attempt is closed, and it uses
  * {@link DBconnection#getJdbi()} to interact with the MySQL database.
  * </p>
  */
 public class JdbiAttemptDao implements AttemptDao {
 
-    private final ResponseDao responseDao;
     private final Jdbi jdbi;
 
-    public JdbiAttemptDao(ResponseDao responseDao) {
-        this.responseDao = responseDao;
+    public JdbiAttemptDao() {
         this.jdbi = DBconnection.getJdbi();
     }
 
@@ -66,23 +69,49 @@ public class JdbiAttemptDao implements AttemptDao {
     /**
      * {@inheritDoc}
      * <p>
-     * Marks a quiz attempt as completed and updates the calculated score.
+     * Grades and closes the attempt in one {@code UPDATE}: the score is the number of
+     * distinct questions with a correct response, counted in a correlated subquery.
+     * No separate existence check or score query is needed.
      * </p>
      */
     @Override
     public void endAttempt(int attemptId) {
-        if (!attemptExist(attemptId)) {
-            return;
-        }
+        jdbi.useHandle(handle -> closeAttempt(handle, attemptId));
+    }
 
-        int score = responseDao.calculateScoreFromResponses(attemptId);
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs the graded {@code INSERT ... SELECT} and the scoring {@code UPDATE} on one
+     * handle inside one transaction, instead of one connection per step.
+     * </p>
+     */
+    @Override
+    public boolean submitAttempt(int attemptId, List<QuestionResponse> responses) {
+        return jdbi.inTransaction(handle -> {
+            JdbiResponseDao.insertGradedResponses(handle, attemptId, responses);
+            return closeAttempt(handle, attemptId) > 0;
+        });
+    }
 
-        jdbi.useHandle(handle ->
-                handle.createUpdate("UPDATE quiz_attempts SET score = :score, is_completed = true WHERE attempt_id = :id")
-                        .bind("score", score)
-                        .bind("id", attemptId)
-                        .execute()
-        );
+    /**
+     * Scores an open attempt from its saved responses and marks it completed.
+     *
+     * @return the number of attempts updated (0 if unknown or already completed)
+     */
+    private static int closeAttempt(Handle handle, int attemptId) {
+        return handle.createUpdate("""
+                UPDATE quiz_attempts
+                SET score = (
+                        SELECT COUNT(DISTINCT r.question_id)
+                        FROM question_responses r
+                        WHERE r.attempt_id = :id AND r.is_correct = TRUE
+                    ),
+                    is_completed = true
+                WHERE attempt_id = :id AND is_completed = false
+            """)
+                .bind("id", attemptId)
+                .execute();
     }
 
     /**
@@ -165,4 +194,24 @@ public class JdbiAttemptDao implements AttemptDao {
                         .orElse(null)
         );
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Served by the {@code (answered_by, is_completed)} index; each quiz appears once
+     * no matter how many completed attempts exist.
+     * </p>
+     */
+    @Override
+    public Set<Integer> getCompletedQuizIds(int userId) {
+        return new HashSet<>(jdbi.withHandle(handle ->
+                handle.createQuery("""
+                SELECT DISTINCT quiz_id FROM quiz_attempts
+                WHERE answered_by = :userId AND is_completed = true
+            """)
+                        .bind("userId", userId)
+                        .mapTo(Integer.class)
+                        .list()
+        ));
+    }
 }
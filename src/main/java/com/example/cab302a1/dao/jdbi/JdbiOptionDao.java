@@ -2,6 +2,7 @@ package com.example.cab302a1.dao.jdbi;
 
 import com.example.cab302a1.DBconnection;
 import com.example.cab302a1.dao.OptionDao;
+import com.example.cab302a1.dao.QuizVersions;
 import com.example.cab302a1.model.QuizChoiceCreate;
 import org.jdbi.v3.core.Jdbi;
 
@@ -27,12 +28,13 @@ public class JdbiOptionDao implements OptionDao {
      * {@inheritDoc}
      * <p>
      * Inserts a new option into {@code question_options} and returns the generated option_id.
-     * Returns {@code -1} if the insertion fails.
+     * Returns {@code -1} if the insertion fails. The {@link QuizVersions} stamp of the
+     * owning quiz is bumped.
      * </p>
      */
     @Override
     public int insertOption(QuizChoiceCreate choice) {
-        return jdbi.withHandle(handle ->
+        int id = jdbi.withHandle(handle ->
                 handle.createUpdate("""
                 INSERT INTO question_options (question_id, option_text, is_correct)
                 VALUES (:questionId, :optionText, :isCorrect)
@@ -45,6 +47,8 @@ public class JdbiOptionDao implements OptionDao {
                         .findOne()
                         .orElse(-1)
         );
+        bumpVersion(choice);
+        return id;
     }
 
     /**
@@ -77,7 +81,8 @@ public class JdbiOptionDao implements OptionDao {
     /**
      * {@inheritDoc}
      * <p>
-     * Updates an existing option’s text and correctness flag.
+     * Updates an existing option’s text and correctness flag and bumps the
+     * {@link QuizVersions} stamp of the owning quiz.
      * </p>
      */
     @Override
@@ -93,5 +98,18 @@ public class JdbiOptionDao implements OptionDao {
                         .bind("optionId", choice.getOption_id())
                         .execute()
         );
+        bumpVersion(choice);
+    }
+
+    /**
+     * Bumps the stamp of the quiz that owns the option's question, or of every quiz
+     * when the option carries no question ID.
+     */
+    private static void bumpVersion(QuizChoiceCreate choice) {
+        if (choice.getQuestion_id() > 0) {
+            QuizVersions.getInstance().bumpQuestion(choice.getQuestion_id());
+        } else {
+            QuizVersions.getInstance().bumpAll();
+        }
     }
 }
@@ -2,11 +2,18 @@ package com.example.cab302a1.dao.jdbi;
 
 import com.example.cab302a1.DBconnection;
 import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.dao.QuizVersions;
+import com.example.cab302a1.model.QuizChoiceCreate;
 import com.example.cab302a1.model.QuizQuestionCreate;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * {@code JdbiQuestionDao} provides a JDBI-based implementation of the {@link QuestionDao} interface.
@@ -50,13 +57,14 @@ public class JdbiQuestionDao implements QuestionDao {
     /**
      * {@inheritDoc}
      * <p>
-     * Inserts a new question and returns its generated ID.
+     * Inserts a new question, bumps its quiz's {@link QuizVersions} stamp and
+     * returns the generated ID.
      * </p>
      */
     @Override
     public int insertQuestion(QuizQuestionCreate q) {
 
-        return jdbi.withHandle(handle ->
+        int id = jdbi.withHandle(handle ->
                 handle.createUpdate("""
                 INSERT INTO questions (quiz_id, statement, explanation)
                 VALUES (:quizId, :statement, :explanation)
@@ -69,12 +77,15 @@ public class JdbiQuestionDao implements QuestionDao {
                         .findOne()
                         .orElse(-1)
         );
+        QuizVersions.getInstance().bump(q.getQuizId());
+        return id;
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Updates an existing question’s text and explanation.
+     * Updates an existing question’s text and explanation and bumps the
+     * {@link QuizVersions} stamp of its quiz.
      * </p>
      */
     @Override
@@ -90,6 +101,11 @@ public class JdbiQuestionDao implements QuestionDao {
                         .bind("questionId", q.getQuestionId())
                         .execute()
         );
+        if (q.getQuizId() > 0) {
+            QuizVersions.getInstance().bump(q.getQuizId());
+        } else {
+            QuizVersions.getInstance().bumpQuestion(q.getQuestionId());
+        }
     }
 
     /**
@@ -137,4 +153,113 @@ public class JdbiQuestionDao implements QuestionDao {
                         .list()
         );
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Uses one {@code LEFT JOIN} between {@code questions} and {@code question_options};
+     * each row carries at most one option, and rows are merged per question in order.
+     * Questions without options are kept with an empty choice list.
+     * </p>
+     */
+    @Override
+    public List<QuizQuestionCreate> getQuestionsWithOptions(int _quiz_id) {
+        return jdbi.withHandle(handle -> queryQuestionsWithOptions(handle, _quiz_id));
+    }
+
+    /**
+     * Loads a quiz's questions and options with one joined query on an existing handle.
+     * <p>
+     * Shared with {@link JdbiQuizDao#saveQuizGraph} so the stored graph can be read
+     * inside the same transaction that writes the edited one.
+     * </p>
+     *
+     * @param handle   an open JDBI handle
+     * @param _quiz_id the quiz ID
+     * @return the quiz's questions in ID order, each with its options attached
+     */
+    static List<QuizQuestionCreate> queryQuestionsWithOptions(Handle handle, int _quiz_id) {
+        List<QuizQuestionCreate> rows = handle.createQuery("""
+                SELECT q.question_id, q.quiz_id, q.statement, q.explanation,
+                       o.option_id, o.option_text, o.is_correct
+                FROM questions q
+                LEFT JOIN question_options o ON o.question_id = q.question_id
+                WHERE q.quiz_id = :quizId
+                ORDER BY q.question_id, o.option_id
+            """)
+                .bind("quizId", _quiz_id)
+                .map((rs, ctx) -> {
+                    QuizQuestionCreate q = new QuizQuestionCreate(
+                            rs.getInt("question_id"),
+                            rs.getInt("quiz_id"),
+                            rs.getString("statement"),
+                            rs.getString("explanation")
+                    );
+                    int optionId = rs.getInt("option_id");
+                    if (!rs.wasNull()) {
+                        QuizChoiceCreate choice = new QuizChoiceCreate();
+                        choice.setOption_id(optionId);
+                        choice.setQuestion_id(q.getQuestionId());
+                        choice.setText(rs.getString("option_text"));
+                        choice.setIs_correct(rs.getBoolean("is_correct"));
+                        q.getChoices().add(choice);
+                    }
+                    return q;
+                })
+                .list();
+        return mergeQuestionRows(rows);
+    }
+
+    /**
+     * Collapses joined rows (one question per option) into one question per ID,
+     * preserving the row order of both questions and options.
+     *
+     * @param rows mapped rows, each holding zero or one choice
+     * @return one {@link QuizQuestionCreate} per distinct question ID
+     */
+    private static List<QuizQuestionCreate> mergeQuestionRows(List<QuizQuestionCreate> rows) {
+        Map<Integer, QuizQuestionCreate> byId = new LinkedHashMap<>();
+        for (QuizQuestionCreate row : rows) {
+            QuizQuestionCreate existing = byId.putIfAbsent(row.getQuestionId(), row);
+            if (existing != null) {
+                existing.getChoices().addAll(row.getChoices());
+            }
+        }
+        return new ArrayList<>(byId.values());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs one grouped {@code COUNT} over {@code questions} with an {@code IN} list.
+     * Quizzes that have no questions are filled in with {@code 0}.
+     * </p>
+     */
+    @Override
+    public Map<Integer, Integer> getQuestionCounts(Collection<Integer> quizIds) {
+        Map<Integer, Integer> counts = new HashMap<>();
+        if (quizIds == null || quizIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Map.Entry<Integer, Integer>> rows = jdbi.withHandle(handle ->
+                handle.createQuery("""
+                SELECT quiz_id, COUNT(question_id) AS cnt
+                FROM questions
+                WHERE quiz_id IN (<quizIds>)
+                GROUP BY quiz_id
+            """)
+                        .bindList("quizIds", new ArrayList<>(quizIds))
+                        .map((rs, ctx) -> Map.entry(rs.getInt("quiz_id"), rs.getInt("cnt")))
+                        .list()
+        );
+
+        for (Integer quizId : quizIds) {
+            counts.put(quizId, 0);
+        }
+        for (Map.Entry<Integer, Integer> row : rows) {
+            counts.put(row.getKey(), row.getValue());
+        }
+        return counts;
+    }
 }
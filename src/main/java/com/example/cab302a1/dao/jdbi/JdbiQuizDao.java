@@ -2,10 +2,19 @@ package com.example.cab302a1.dao.jdbi;
 
 import com.example.cab302a1.DBconnection;
 import com.example.cab302a1.dao.QuizDao;
+import com.example.cab302a1.dao.QuizVersions;
 import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizChoiceCreate;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.PreparedBatch;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * {@code JdbiQuizDao} provides a JDBI-based implementation of the {@link QuizDao} interface.
@@ -83,7 +92,8 @@ public class JdbiQuizDao implements QuizDao {
     /**
      * {@inheritDoc}
      * <p>
-     * Updates the title and description of an existing quiz.
+     * Updates the title and description of an existing quiz and bumps its
+     * {@link QuizVersions} stamp.
      * </p>
      */
     @Override
@@ -101,6 +111,7 @@ public class JdbiQuizDao implements QuizDao {
                         .bind("quizId", _quiz.getQuizId())
                         .execute()
         );
+        QuizVersions.getInstance().bump(_quiz.getQuizId());
     }
 
     /**
@@ -142,7 +153,8 @@ public class JdbiQuizDao implements QuizDao {
     /**
      * {@inheritDoc}
      * <p>
-     * Updates quiz visibility (is_Hidden flag).
+     * Updates quiz visibility (is_Hidden flag) and bumps the quiz's
+     * {@link QuizVersions} stamp.
      * </p>
      */
     @Override
@@ -159,6 +171,7 @@ public class JdbiQuizDao implements QuizDao {
                         .bind("quizId", _quizId)
                         .execute()
         );
+        QuizVersions.getInstance().bump(_quizId);
     }
 
     /**
@@ -192,4 +205,223 @@ public class JdbiQuizDao implements QuizDao {
                         .list()
         );
     }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Runs in a single transaction. The stored questions and options are read once
+     * with a joined query and diffed against the given graph; new rows are written
+     * with one {@code PreparedBatch} per table (returning generated keys), changed
+     * rows with one update batch, and unchanged rows are skipped. Rows that were
+     * removed in the editor are left in place, as attempts may still reference them.
+     * If anything fails the transaction is rolled back and the quiz ID is restored.
+     * The quiz's {@link QuizVersions} stamp is bumped either way.
+     * </p>
+     */
+    @Override
+    public int saveQuizGraph(Quiz _quiz) {
+        int originalId = _quiz.getQuizId();
+        try {
+            return jdbi.inTransaction(handle -> {
+                int quizId = saveQuizRow(handle, _quiz);
+
+                Map<Integer, QuizQuestionCreate> storedQuestions = new HashMap<>();
+                Map<Integer, QuizChoiceCreate> storedOptions = new HashMap<>();
+                if (originalId > 0) {
+                    for (QuizQuestionCreate q : JdbiQuestionDao.queryQuestionsWithOptions(handle, quizId)) {
+                        storedQuestions.put(q.getQuestionId(), q);
+                        for (QuizChoiceCreate c : q.getChoices()) {
+                            storedOptions.put(c.getOption_id(), c);
+                        }
+                    }
+                }
+
+                List<QuizQuestionCreate> newQuestions = new ArrayList<>();
+                List<QuizQuestionCreate> changedQuestions = new ArrayList<>();
+                for (QuizQuestionCreate q : _quiz.getQuestions()) {
+                    q.setQuizId(quizId);
+                    QuizQuestionCreate stored = storedQuestions.get(q.getQuestionId());
+                    if (stored == null) {
+                        newQuestions.add(q);
+                    } else if (!Objects.equals(stored.getQuestionText(), q.getQuestionText())
+                            || !Objects.equals(stored.getExplanation(), q.getExplanation())) {
+                        changedQuestions.add(q);
+                    }
+                }
+                insertQuestions(handle, newQuestions);
+                updateQuestions(handle, changedQuestions);
+
+                List<QuizChoiceCreate> newOptions = new ArrayList<>();
+                List<QuizChoiceCreate> changedOptions = new ArrayList<>();
+                for (QuizQuestionCreate q : _quiz.getQuestions()) {
+                    for (QuizChoiceCreate c : q.getChoices()) {
+                        QuizChoiceCreate stored = storedOptions.get(c.getOption_id());
+                        if (stored == null || stored.getQuestion_id() != q.getQuestionId()) {
+                            c.setQuestion_id(q.getQuestionId());
+                            newOptions.add(c);
+                        } else if (!Objects.equals(stored.getText(), c.getText())
+                                || stored.isCorrect() != c.isCorrect()) {
+                            c.setQuestion_id(q.getQuestionId());
+                            changedOptions.add(c);
+                        }
+                    }
+                }
+                insertOptions(handle, newOptions);
+                updateOptions(handle, changedOptions);
+
+                return quizId;
+            });
+        } catch (RuntimeException e) {
+            _quiz.setQuizId(originalId);
+            throw e;
+        } finally {
+            if (_quiz.getQuizId() > 0) {
+                QuizVersions.getInstance().bump(_quiz.getQuizId());
+            }
+        }
+    }
+
+    /**
+     * Inserts the quiz row, or updates it when the title or description changed.
+     *
+     * @return the quiz ID
+     */
+    private static int saveQuizRow(Handle handle, Quiz _quiz) {
+        if (_quiz.getQuizId() <= 0) {
+            int quizId = handle.createUpdate("""
+                    INSERT INTO quizzes (title, description, created_by, is_Hidden)
+                    VALUES (:title, :description, :createdBy, false)
+                """)
+                    .bind("title", _quiz.getTitle())
+                    .bind("description", _quiz.getDescription())
+                    .bind("createdBy", _quiz.getCreated_by())
+                    .executeAndReturnGeneratedKeys("quiz_id")
+                    .mapTo(Integer.class)
+                    .one();
+            _quiz.setQuizId(quizId);
+            return quizId;
+        }
+
+        Quiz stored = handle.createQuery("""
+                SELECT title, description FROM quizzes WHERE quiz_id = :quizId FOR UPDATE
+            """)
+                .bind("quizId", _quiz.getQuizId())
+                .map((rs, ctx) -> {
+                    Quiz q = new Quiz();
+                    q.setTitle(rs.getString("title"));
+                    q.setDescription(rs.getString("description"));
+                    return q;
+                })
+                .findOne()
+                .orElseThrow(() -> new IllegalStateException(
+                        "Quiz " + _quiz.getQuizId() + " no longer exists."));
+
+        if (!Objects.equals(stored.getTitle(), _quiz.getTitle())
+                || !Objects.equals(stored.getDescription(), _quiz.getDescription())) {
+            handle.createUpdate("""
+                    UPDATE quizzes
+                    SET title = :title, description = :description
+                    WHERE quiz_id = :quizId
+                """)
+                    .bind("title", _quiz.getTitle())
+                    .bind("description", _quiz.getDescription())
+                    .bind("quizId", _quiz.getQuizId())
+                    .execute();
+        }
+        return _quiz.getQuizId();
+    }
+
+    /** Batch-inserts questions and sets their generated IDs. */
+    private static void insertQuestions(Handle handle, List<QuizQuestionCreate> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+        PreparedBatch batch = handle.prepareBatch("""
+                INSERT INTO questions (quiz_id, statement, explanation)
+                VALUES (:quizId, :statement, :explanation)
+            """);
+        for (QuizQuestionCreate q : questions) {
+            batch.bind("quizId", q.getQuizId())
+                    .bind("statement", q.getQuestionText())
+                    .bind("explanation", q.getExplanation())
+                    .add();
+        }
+        List<Integer> ids = batch.executePreparedBatch("question_id")
+                .mapTo(Integer.class)
+                .list();
+        checkKeyCount(ids, questions.size());
+        for (int i = 0; i < questions.size(); i++) {
+            questions.get(i).setQuestionId(ids.get(i));
+        }
+    }
+
+    /** Batch-updates the text and explanation of changed questions. */
+    private static void updateQuestions(Handle handle, List<QuizQuestionCreate> questions) {
+        if (questions.isEmpty()) {
+            return;
+        }
+        PreparedBatch batch = handle.prepareBatch("""
+                UPDATE questions
+                SET statement = :statement, explanation = :explanation
+                WHERE question_id = :questionId
+            """);
+        for (QuizQuestionCreate q : questions) {
+            batch.bind("statement", q.getQuestionText())
+                    .bind("explanation", q.getExplanation())
+                    .bind("questionId", q.getQuestionId())
+                    .add();
+        }
+        batch.execute();
+    }
+
+    /** Batch-inserts options and sets their generated IDs. */
+    private static void insertOptions(Handle handle, List<QuizChoiceCreate> options) {
+        if (options.isEmpty()) {
+            return;
+        }
+        PreparedBatch batch = handle.prepareBatch("""
+                INSERT INTO question_options (question_id, option_text, is_correct)
+                VALUES (:questionId, :optionText, :isCorrect)
+            """);
+        for (QuizChoiceCreate c : options) {
+            batch.bind("questionId", c.getQuestion_id())
+                    .bind("optionText", c.getText())
+                    .bind("isCorrect", c.isCorrect())
+                    .add();
+        }
+        List<Integer> ids = batch.executePreparedBatch("option_id")
+                .mapTo(Integer.class)
+                .list();
+        checkKeyCount(ids, options.size());
+        for (int i = 0; i < options.size(); i++) {
+            options.get(i).setOption_id(ids.get(i));
+        }
+    }
+
+    /** Batch-updates the text and correctness flag of changed options. */
+    private static void updateOptions(Handle handle, List<QuizChoiceCreate> options) {
+        if (options.isEmpty()) {
+            return;
+        }
+        PreparedBatch batch = handle.prepareBatch("""
+                UPDATE question_options
+                SET option_text = :optionText, is_correct = :isCorrect
+                WHERE option_id = :optionId
+            """);
+        for (QuizChoiceCreate c : options) {
+            batch.bind("optionText", c.getText())
+                    .bind("isCorrect", c.isCorrect())
+                    .bind("optionId", c.getOption_id())
+                    .add();
+        }
+        batch.execute();
+    }
+
+    /** Fails the transaction if the driver did not return one key per inserted row. */
+    private static void checkKeyCount(List<Integer> ids, int expected) {
+        if (ids.size() != expected) {
+            throw new IllegalStateException(
+                    "Expected " + expected + " generated keys but got " + ids.size());
+        }
+    }
 }
@@ -3,9 +3,15 @@ package com.example.cab302a1.dao.jdbi;
 import com.example.cab302a1.DBconnection;
 import com.example.cab302a1.dao.ResponseDao;
 import com.example.cab302a1.model.QuestionResponse;
+import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * {@code JdbiResponseDao} provides a JDBI-based implementation of the {@link ResponseDao} interface.
@@ -26,7 +32,9 @@ public class JdbiResponseDao implements ResponseDao {
     /**
      * {@inheritDoc}
      * <p>
-     * Performs a batch insert into {@code question_responses} for improved performance.
+     * Writes all responses with one set-based {@code INSERT ... SELECT}. The question
+     * and correctness of each row are read from {@code question_options}, joined
+     * through the attempt's quiz, so the client only supplies the chosen option IDs.
      * Skips execution if the provided list is empty or null.
      * </p>
      */
@@ -35,44 +43,94 @@ public class JdbiResponseDao implements ResponseDao {
         if (_response == null || _response.isEmpty()) {
             return; // 👈 Skip DB access if nothing to save
         }
+        jdbi.useHandle(handle -> insertGradedResponses(handle, _attemptId, _response));
+    }
+
+    /**
+     * Inserts graded responses for an attempt on an existing handle.
+     * <p>
+     * Shared with {@link JdbiAttemptDao#submitAttempt} so responses and the closing
+     * update run in the same transaction. Each chosen option is filed under the question
+     * it belongs to in {@code question_options}; the question ID sent by the client is
+     * not used. Per question only the first chosen option (in submission order) is kept,
+     * and questions that already have a response for this attempt are skipped.
+     * Completed attempts receive no new rows.
+     * </p>
+     *
+     * @param handle     an open JDBI handle
+     * @param _attemptId the attempt ID
+     * @param _response  the student's answers; only the chosen option IDs are used
+     * @return the number of rows inserted
+     */
+    static int insertGradedResponses(Handle handle, int _attemptId, List<QuestionResponse> _response) {
+        List<Integer> optionIds = chosenOptionIds(_response);
+        if (optionIds.isEmpty()) {
+            return 0;
+        }
 
+        // FIELD() gives each option's position in the submission, so pick = 1 is the first answer per question
         String sql = """
             INSERT INTO question_responses (attempt_id, question_id, option_id, is_correct)
-            VALUES (:attemptId, :questionId, :optionId, :isCorrect)
+            SELECT attempt_id, question_id, option_id, is_correct
+            FROM (
+                SELECT a.attempt_id, o.question_id, o.option_id, o.is_correct,
+                       ROW_NUMBER() OVER (
+                           PARTITION BY o.question_id
+                           ORDER BY FIELD(o.option_id, <optionIds>)
+                       ) AS pick
+                FROM quiz_attempts a
+                JOIN questions q ON q.quiz_id = a.quiz_id
+                JOIN question_options o ON o.question_id = q.question_id
+                WHERE a.attempt_id = :attemptId AND a.is_completed = false
+                  AND o.option_id IN (<optionIds>)
+                  AND NOT EXISTS (
+                      SELECT 1 FROM question_responses r
+                      WHERE r.attempt_id = a.attempt_id AND r.question_id = o.question_id
+                  )
+            ) chosen
+            WHERE pick = 1
         """;
 
-        jdbi.useHandle(handle -> {
-            var batch = handle.prepareBatch(sql);
-            for (QuestionResponse r : _response) {
-                batch
-                        .bind("attemptId", _attemptId)
-                        .bind("questionId", r.getQuestion_id())
-                        .bind("optionId", r.getOption_id())
-                        .bind("isCorrect", r.getIs_Correct())
-                        .add();
+        return handle.createUpdate(sql)
+                .bind("attemptId", _attemptId)
+                .bindList("optionIds", optionIds)
+                .execute();
+    }
+
+    /** Chosen option IDs in submission order, without skipped answers or repeats. */
+    private static List<Integer> chosenOptionIds(List<QuestionResponse> _response) {
+        List<Integer> optionIds = new ArrayList<>();
+        if (_response == null) {
+            return optionIds;
+        }
+        Set<Integer> seen = new HashSet<>();
+        for (QuestionResponse r : _response) {
+            if (r.getOption_id() > 0 && seen.add(r.getOption_id())) {
+                optionIds.add(r.getOption_id());
             }
-            batch.execute();
-        });
+        }
+        return optionIds;
     }
 
     /**
      * {@inheritDoc}
      * <p>
-     * Counts the number of correct responses for a given attempt ID.
-     * Returns -1 if an error occurs or no data found.
+     * Retrieves the chosen option_id for a given question within an attempt.
+     * Returns -1 if no record exists.
      * </p>
      */
     @Override
-    public int calculateScoreFromResponses(int _attemptId) {
+    public int getChosenOptionId(int _attempt_id, int _question_id) {
         String sql = """
-            SELECT COUNT(response_id) AS score
+            SELECT option_id
             FROM question_responses
-            WHERE is_correct = TRUE AND attempt_id = :attemptId
+            WHERE attempt_id = :attemptId AND question_id = :questionId
         """;
 
         return jdbi.withHandle(handle ->
                 handle.createQuery(sql)
-                        .bind("attemptId", _attemptId)
+                        .bind("attemptId", _attempt_id)
+                        .bind("questionId", _question_id)
                         .mapTo(Integer.class)
                         .findOne()
                         .orElse(-1)
@@ -82,25 +140,30 @@ public class JdbiResponseDao implements ResponseDao {
     /**
      * {@inheritDoc}
      * <p>
-     * Retrieves the chosen option_id for a given question within an attempt.
-     * Returns -1 if no record exists.
+     * Loads all {@code (question_id, option_id)} pairs for the attempt at once.
+     * Rows with a {@code NULL} option are skipped so callers can treat a missing
+     * key the same way as {@code -1} from {@link #getChosenOptionId(int, int)}.
      * </p>
      */
     @Override
-    public int getChosenOptionId(int _attempt_id, int _question_id) {
+    public Map<Integer, Integer> getChosenOptionIds(int _attempt_id) {
         String sql = """
-            SELECT option_id
+            SELECT question_id, option_id
             FROM question_responses
-            WHERE attempt_id = :attemptId AND question_id = :questionId
+            WHERE attempt_id = :attemptId AND option_id IS NOT NULL
         """;
 
-        return jdbi.withHandle(handle ->
+        List<Map.Entry<Integer, Integer>> rows = jdbi.withHandle(handle ->
                 handle.createQuery(sql)
                         .bind("attemptId", _attempt_id)
-                        .bind("questionId", _question_id)
-                        .mapTo(Integer.class)
-                        .findOne()
-                        .orElse(-1)
+                        .map((rs, ctx) -> Map.entry(rs.getInt("question_id"), rs.getInt("option_id")))
+                        .list()
         );
+
+        Map<Integer, Integer> chosen = new HashMap<>();
+        for (Map.Entry<Integer, Integer> row : rows) {
+            chosen.put(row.getKey(), row.getValue());
+        }
+        return chosen;
     }
 }
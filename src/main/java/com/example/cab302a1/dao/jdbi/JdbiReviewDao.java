@@ -1,9 +1,7 @@
 package com.example.cab302a1.dao.jdbi;
 
 import com.example.cab302a1.DBconnection;
-import com.example.cab302a1.dao.QuestionDao;
 import com.example.cab302a1.dao.ReviewDao;
-import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.model.QuizReview;
 import org.jdbi.v3.core.Jdbi;
 
@@ -14,22 +12,19 @@ import java.util.List;
  * <p>
  * This class retrieves quiz attempt data, including titles, scores, and feedback,
  * for a given user by joining {@code quiz_attempts} and {@code quizzes}.
- * It also uses {@link QuestionDao} to determine the total number of questions per quiz.
+ * The total number of questions per quiz is computed in the same statement via a
+ * correlated {@code COUNT} subquery, so each call is a single round trip.
  * </p>
  */
 public class JdbiReviewDao implements ReviewDao {
 
     private final Jdbi jdbi;
-    private final QuestionDao questionDao;
 
     /**
-     * Constructs a JdbiReviewDao with required dependencies.
-     *
-     * @param questionDao The QuestionDao used for retrieving quiz question counts.
+     * Constructs a JdbiReviewDao using the shared {@link Jdbi} instance from {@link DBconnection}.
      */
-    public JdbiReviewDao(QuestionDao questionDao) {
+    public JdbiReviewDao() {
         this.jdbi = DBconnection.getJdbi();
-        this.questionDao = questionDao;
     }
 
     /**
@@ -46,7 +41,8 @@ public class JdbiReviewDao implements ReviewDao {
                    qa.answered_by,
                    q.title,
                    qa.score,
-                   qa.feedback
+                   qa.feedback,
+                   (SELECT COUNT(*) FROM questions qs WHERE qs.quiz_id = qa.quiz_id) AS question_count
             FROM quiz_attempts qa
             JOIN quizzes q ON qa.quiz_id = q.quiz_id
             WHERE qa.answered_by = :userId AND qa.is_completed = 1
@@ -61,10 +57,7 @@ public class JdbiReviewDao implements ReviewDao {
                             int score = rs.getInt("score");
                             String feedback = rs.getString("feedback");
                             String title = rs.getString("title");
-
-//                            // Retrieve total number of questions using QuestionDao
-                            int totalQuestions = questionDao.getNumQuestion(quizId);
-
+                            int totalQuestions = rs.getInt("question_count");
 
                             return new QuizReview(
                                     attemptId,
@@ -87,7 +80,8 @@ public class JdbiReviewDao implements ReviewDao {
                                qa.answered_by,
                                q.title,
                                qa.score,
-                               qa.feedback
+                               qa.feedback,
+                               (SELECT COUNT(*) FROM questions qs WHERE qs.quiz_id = qa.quiz_id) AS question_count
                         FROM quiz_attempts qa
                         JOIN quizzes q ON qa.quiz_id = q.quiz_id
                         WHERE qa.answered_by = :userId
@@ -105,8 +99,7 @@ public class JdbiReviewDao implements ReviewDao {
                             String title = rs.getString("title");
                             int score = rs.getInt("score");
                             String feedback = rs.getString("feedback");
-
-                            int totalQuestions = questionDao.getNumQuestion(quizId);
+                            int totalQuestions = rs.getInt("question_count");
 
                             return new QuizReview(
                                     attemptId,
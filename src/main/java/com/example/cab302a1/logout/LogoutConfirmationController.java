@@ -1,6 +1,7 @@
 package com.example.cab302a1.logout;
 
 import com.example.cab302a1.components.NavigationManager;
+import com.example.cab302a1.service.QuizSummaryCache;
 import com.example.cab302a1.util.Session;
 import com.example.cab302a1.model.User;
 import javafx.event.ActionEvent;
@@ -180,12 +181,14 @@ public class LogoutConfirmationController implements Initializable {
     private void clearUserSession() {
         // Clear the current user session
         Session.clearUser();
-        
+
+        // Clear cached data, so the next user starts from fresh quiz summaries
+        QuizSummaryCache.getInstance().invalidateAll();
+
         // TODO: Implement additional session clearing logic as needed
         // Examples:
         // - Clear user preferences
         // - Reset application state
-        // - Clear cached data
         // - Invalidate authentication tokens
         
     }
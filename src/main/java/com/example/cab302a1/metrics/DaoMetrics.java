@@ -0,0 +1,116 @@
+package com.example.cab302a1.metrics;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps a DAO in a dynamic proxy that records every interface call in a {@link MetricsRegistry}.
+ * <p>
+ * Each method is recorded under {@code "Interface.method"} (overloads share a name),
+ * with its latency, whether it threw, and the number of rows it returned:
+ * </p>
+ * <ul>
+ *   <li>{@link Collection} / {@link Map} / array results – their size</li>
+ *   <li>{@code null}, {@code void} and empty {@link Optional} results – 0</li>
+ *   <li>any other result (an entity, an ID, a count, a flag) – 1</li>
+ * </ul>
+ *
+ * <p>
+ * Exceptions thrown by the DAO are counted and rethrown unchanged, so callers
+ * see exactly the same behaviour as with the unwrapped DAO.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     QuizDao quizDao = DaoMetrics.instrument(QuizDao.class, new JdbiQuizDao(), MetricsRegistry.getInstance());
+ * </pre>
+ */
+public final class DaoMetrics {
+
+    private DaoMetrics() {}
+
+    /**
+     * Returns an instrumented view of {@code target}.
+     *
+     * @param type     the DAO interface to expose
+     * @param target   the implementation to delegate to
+     * @param registry where calls are recorded
+     * @param <T>      the DAO interface type
+     * @return a proxy implementing {@code type}, or {@code target} itself when the registry is disabled
+     */
+    public static <T> T instrument(Class<T> type, T target, MetricsRegistry registry) {
+        if (!registry.isEnabled()) {
+            return target;
+        }
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                new Handler(type.getSimpleName(), target, registry));
+        return type.cast(proxy);
+    }
+
+    /**
+     * Counts the rows represented by a DAO result; see the class documentation.
+     *
+     * @param result the value returned by the DAO
+     * @return the row count
+     */
+    static long rowsOf(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> c) {
+            return c.size();
+        }
+        if (result instanceof Map<?, ?> m) {
+            return m.size();
+        }
+        if (result instanceof Optional<?> o) {
+            return o.isPresent() ? 1 : 0;
+        }
+        if (result.getClass().isArray()) {
+            return Array.getLength(result);
+        }
+        return 1;
+    }
+
+    private static final class Handler implements InvocationHandler {
+
+        private final String prefix;
+        private final Object target;
+        private final MetricsRegistry registry;
+        private final Map<Method, MethodMetrics> byMethod = new ConcurrentHashMap<>();
+
+        Handler(String prefix, Object target, MetricsRegistry registry) {
+            this.prefix = prefix;
+            this.target = target;
+            this.registry = registry;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                // toString/equals/hashCode are not DAO calls
+                return method.invoke(target, args);
+            }
+            MethodMetrics metrics = byMethod.computeIfAbsent(method,
+                    m -> registry.metrics(prefix + "." + m.getName()));
+
+            long start = System.nanoTime();
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                metrics.recordError();
+                throw e.getCause();
+            }
+            metrics.recordSuccess(System.nanoTime() - start, rowsOf(result));
+            return result;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.cab302a1.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free latency histogram with HDR-style log-linear buckets.
+ * <p>
+ * Values are recorded in microseconds. Values below 128 µs each get their own
+ * bucket; above that every power-of-two range is split into 64 linear buckets,
+ * so a reported percentile is never more than about 1.6% above the true value.
+ * Memory use is fixed (2048 counters) no matter how many samples are recorded.
+ * </p>
+ *
+ * <p>Key properties:</p>
+ * <ul>
+ *   <li>{@link #record(long)} is safe to call from any number of threads</li>
+ *   <li>Values above {@link #MAX_TRACKABLE_MICROS} (about 38 hours) are clamped</li>
+ *   <li>Counts are cumulative; there is no reset while the histogram is in use</li>
+ * </ul>
+ */
+public final class LatencyHistogram {
+
+    /** Linear buckets per power-of-two range. */
+    private static final int SUB_BUCKETS = 64;
+
+    /** Largest power-of-two range tracked. */
+    private static final int MAX_SHIFT = 30;
+
+    /** Largest value that can be recorded; larger values are clamped to it. */
+    public static final long MAX_TRACKABLE_MICROS = (2L * SUB_BUCKETS << MAX_SHIFT) - 1;
+
+    private final AtomicLongArray counts = new AtomicLongArray(SUB_BUCKETS * (MAX_SHIFT + 2));
+    private final LongAdder total = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records one sample.
+     *
+     * @param micros the value in microseconds; negative values are treated as 0
+     */
+    public void record(long micros) {
+        long value = Math.min(Math.max(micros, 0), MAX_TRACKABLE_MICROS);
+        counts.incrementAndGet(indexOf(value));
+        total.increment();
+        sum.add(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Returns the number of recorded samples.
+     *
+     * @return the sample count
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Returns the largest recorded value (exact, not bucketed).
+     *
+     * @return the maximum in microseconds, or 0 when empty
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns the arithmetic mean of all recorded values.
+     *
+     * @return the mean in microseconds, or 0 when empty
+     */
+    public double getMean() {
+        long count = total.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Returns the nearest-rank percentile.
+     * <p>
+     * The result is the highest value of the bucket holding the requested rank,
+     * capped at {@link #getMax()}.
+     * </p>
+     *
+     * @param percentile the percentile in the range 0–100
+     * @return the value in microseconds, or 0 when empty
+     */
+    public long getPercentile(double percentile) {
+        long count = total.sum();
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            seen += counts.get(i);
+            if (seen >= rank) {
+                return Math.min(highestValueOf(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /** Bucket index of a value; see the class documentation for the layout. */
+    static int indexOf(long value) {
+        if (value < 2 * SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(value) - 6;
+        return SUB_BUCKETS * shift + (int) (value >>> shift);
+    }
+
+    /** Highest value that falls into the given bucket. */
+    static long highestValueOf(int index) {
+        if (index < 2 * SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long top = index - (long) SUB_BUCKETS * shift;
+        return ((top + 1) << shift) - 1;
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.cab302a1.metrics;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link MetricsSink} that prints a latency table to the console.
+ * <p>
+ * Registered by default on {@link MetricsRegistry#getInstance()}, so the periodic
+ * dump shows up next to the rest of the application output. Dumps where nothing
+ * changed since the previous one are skipped.
+ * </p>
+ *
+ * <p>Example output:</p>
+ * <pre>
+ * [metrics] metric                                   calls errors    rows  p50 ms  p90 ms  p99 ms  max ms
+ * [metrics] QuestionDao.getQuestionsWithOptions         20      0     200     9.9    21.0    47.8    47.8
+ * [metrics] pool.acquire                               128      0       0     0.0     0.0     0.6     1.6
+ * </pre>
+ */
+public final class LogMetricsSink implements MetricsSink {
+
+    private final PrintStream out;
+    private long lastTotal = -1;
+
+    /** Creates a sink that prints to {@code System.out}. */
+    public LogMetricsSink() {
+        this(System.out);
+    }
+
+    /**
+     * Creates a sink that prints to the given stream.
+     *
+     * @param out the destination stream
+     */
+    public LogMetricsSink(PrintStream out) {
+        this.out = out;
+    }
+
+    @Override
+    public synchronized void publish(List<MetricSnapshot> snapshots) {
+        long total = 0;
+        for (MetricSnapshot s : snapshots) {
+            total += s.getCount() + s.getErrors();
+        }
+        if (snapshots.isEmpty() || total == lastTotal) {
+            return;
+        }
+        lastTotal = total;
+        out.println(format(snapshots));
+    }
+
+    /**
+     * Formats snapshots as a fixed-width table, one line per metric.
+     *
+     * @param snapshots the metrics to format
+     * @return the table, lines prefixed with {@code [metrics]}
+     */
+    static String format(List<MetricSnapshot> snapshots) {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.format("[metrics] %-38s %7s %6s %7s %7s %7s %7s %7s",
+                "metric", "calls", "errors", "rows", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+        for (MetricSnapshot s : snapshots) {
+            lines.add(String.format("[metrics] %-38s %7d %6d %7d %7.1f %7.1f %7.1f %7.1f",
+                    s.getName(), s.getCount(), s.getErrors(), s.getRows(),
+                    s.getP50Micros() / 1e3, s.getP90Micros() / 1e3,
+                    s.getP99Micros() / 1e3, s.getMaxMicros() / 1e3));
+        }
+        return String.join(System.lineSeparator(), lines);
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.cab302a1.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live counters for one metric: call count, errors, rows returned and a latency histogram.
+ * <p>
+ * Instances are created and shared by {@link MetricsRegistry#metrics(String)};
+ * all methods are thread-safe and allocation-free.
+ * </p>
+ */
+public final class MethodMetrics {
+
+    private final String name;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    MethodMetrics(String name) {
+        this.name = name;
+    }
+
+    /**
+     * Records a successful call.
+     *
+     * @param nanos the elapsed time in nanoseconds
+     * @param rows  the number of rows the call returned
+     */
+    public void recordSuccess(long nanos, long rows) {
+        latency.record(TimeUnit.NANOSECONDS.toMicros(nanos));
+        this.rows.add(rows);
+    }
+
+    /**
+     * Records a failed call. Failures are counted but kept out of the latency histogram.
+     */
+    public void recordError() {
+        errors.increment();
+    }
+
+    /**
+     * Returns the metric name.
+     *
+     * @return the name this instance is registered under
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Captures the current values.
+     *
+     * @return an immutable {@link MetricSnapshot}
+     */
+    public MetricSnapshot snapshot() {
+        return new MetricSnapshot(name, latency.getCount(), errors.sum(), rows.sum(), latency.getMean(),
+                latency.getPercentile(50), latency.getPercentile(90), latency.getPercentile(99),
+                latency.getMax());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.cab302a1.metrics;
+
+/**
+ * Immutable point-in-time view of one metric, e.g. {@code "QuizDao.getAllQuizzes"}.
+ * <p>
+ * Produced by {@link MetricsRegistry#snapshot()} and handed to every
+ * {@link MetricsSink}. All latencies are in microseconds.
+ * </p>
+ */
+public final class MetricSnapshot {
+
+    private final String name;
+    private final long count;
+    private final long errors;
+    private final long rows;
+    private final double meanMicros;
+    private final long p50Micros;
+    private final long p90Micros;
+    private final long p99Micros;
+    private final long maxMicros;
+
+    /**
+     * Creates a snapshot.
+     *
+     * @param name       the metric name ({@code Interface.method} or {@code pool.*})
+     * @param count      successful calls
+     * @param errors     calls that threw
+     * @param rows       rows returned by successful calls
+     * @param meanMicros mean latency of successful calls
+     * @param p50Micros  median latency
+     * @param p90Micros  90th percentile latency
+     * @param p99Micros  99th percentile latency
+     * @param maxMicros  slowest call
+     */
+    public MetricSnapshot(String name, long count, long errors, long rows, double meanMicros,
+                          long p50Micros, long p90Micros, long p99Micros, long maxMicros) {
+        this.name = name;
+        this.count = count;
+        this.errors = errors;
+        this.rows = rows;
+        this.meanMicros = meanMicros;
+        this.p50Micros = p50Micros;
+        this.p90Micros = p90Micros;
+        this.p99Micros = p99Micros;
+        this.maxMicros = maxMicros;
+    }
+
+    public String getName() { return name; }
+    public long getCount() { return count; }
+    public long getErrors() { return errors; }
+    public long getRows() { return rows; }
+    public double getMeanMicros() { return meanMicros; }
+    public long getP50Micros() { return p50Micros; }
+    public long getP90Micros() { return p90Micros; }
+    public long getP99Micros() { return p99Micros; }
+    public long getMaxMicros() { return maxMicros; }
+
+    @Override
+    public String toString() {
+        return String.format("%s{count=%d, errors=%d, rows=%d, p50=%dus, p90=%dus, p99=%dus, max=%dus}",
+                name, count, errors, rows, p50Micros, p90Micros, p99Micros, maxMicros);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.cab302a1.metrics;
+
+import com.example.cab302a1.util.EnvSettings;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Central store of per-method DAO metrics and connection-pool timings.
+ * <p>
+ * DAOs handed out by {@link com.example.cab302a1.dao.DaoFactory} are wrapped with
+ * {@link DaoMetrics#instrument}, which records every call here under
+ * {@code "Interface.method"}; the connection pool records
+ * {@code "pool.acquire"} and {@code "pool.usage"} through {@link PoolMetricsTrackerFactory}.
+ * Registered {@link MetricsSink}s receive a snapshot of everything on every
+ * {@link #publish()}, which {@link #start()} schedules periodically.
+ * </p>
+ *
+ * <p>Settings (environment variables):</p>
+ * <ul>
+ *   <li>{@code METRICS_ENABLED} – {@code false} disables all instrumentation (default {@code true})</li>
+ *   <li>{@code METRICS_LOG_INTERVAL_S} – seconds between periodic dumps, 0 disables (default 300)</li>
+ * </ul>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     MetricsRegistry metrics = MetricsRegistry.getInstance();
+ *     metrics.start();                       // on application start
+ *     metrics.addSink(myExporter);           // optional extra destination
+ *     List&lt;MetricSnapshot&gt; now = metrics.snapshot();
+ *     metrics.stop();                        // on exit; publishes one last time
+ * </pre>
+ */
+public final class MetricsRegistry {
+
+    private static final MetricsRegistry INSTANCE = createDefault();
+
+    private final boolean enabled;
+    private final long intervalSeconds;
+    private final ConcurrentMap<String, MethodMetrics> metrics = new ConcurrentHashMap<>();
+    private final List<MetricsSink> sinks = new CopyOnWriteArrayList<>();
+    private ScheduledExecutorService scheduler;
+
+    /**
+     * Creates a registry without sinks.
+     *
+     * @param enabled         whether callers should record into this registry
+     * @param intervalSeconds seconds between dumps once {@link #start()} is called; 0 disables
+     */
+    public MetricsRegistry(boolean enabled, long intervalSeconds) {
+        this.enabled = enabled;
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    private static MetricsRegistry createDefault() {
+        boolean enabled = EnvSettings.booleanSetting("METRICS_ENABLED", true);
+        MetricsRegistry registry = new MetricsRegistry(enabled, EnvSettings.longSetting("METRICS_LOG_INTERVAL_S", 300));
+        registry.addSink(new LogMetricsSink());
+        return registry;
+    }
+
+    /**
+     * Returns the application-wide registry.
+     *
+     * @return the shared {@link MetricsRegistry}
+     */
+    public static MetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns whether instrumentation is switched on.
+     * <p>
+     * When {@code false}, {@link DaoMetrics#instrument} returns DAOs unwrapped and
+     * the pool is built without a metrics tracker, so there is no overhead at all.
+     * </p>
+     *
+     * @return {@code true} if metrics should be recorded
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the counters for a metric, creating them on first use.
+     * <p>
+     * Callers on hot paths should keep the returned instance rather than look it up per call.
+     * </p>
+     *
+     * @param name the metric name, e.g. {@code "QuizDao.getAllQuizzes"}
+     * @return the shared {@link MethodMetrics} for that name
+     */
+    public MethodMetrics metrics(String name) {
+        return metrics.computeIfAbsent(name, MethodMetrics::new);
+    }
+
+    /**
+     * Captures every metric that has recorded at least one call.
+     *
+     * @return snapshots sorted by name
+     */
+    public List<MetricSnapshot> snapshot() {
+        List<MetricSnapshot> result = new ArrayList<>();
+        for (MethodMetrics m : metrics.values()) {
+            MetricSnapshot s = m.snapshot();
+            if (s.getCount() + s.getErrors() > 0) {
+                result.add(s);
+            }
+        }
+        result.sort(Comparator.comparing(MetricSnapshot::getName));
+        return result;
+    }
+
+    /**
+     * Adds a destination for {@link #publish()}.
+     *
+     * @param sink the sink to add
+     */
+    public void addSink(MetricsSink sink) {
+        sinks.add(sink);
+    }
+
+    /**
+     * Removes a previously added sink.
+     *
+     * @param sink the sink to remove
+     */
+    public void removeSink(MetricsSink sink) {
+        sinks.remove(sink);
+    }
+
+    /**
+     * Sends the current snapshot to every sink.
+     * <p>
+     * A failing sink is reported on {@code System.err} and does not stop the others.
+     * </p>
+     */
+    public void publish() {
+        if (!enabled) {
+            return;
+        }
+        List<MetricSnapshot> snapshots = List.copyOf(snapshot());
+        for (MetricsSink sink : sinks) {
+            try {
+                sink.publish(snapshots);
+            } catch (RuntimeException e) {
+                System.err.println("Metrics sink failed: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Starts publishing every {@code METRICS_LOG_INTERVAL_S} seconds on a daemon thread.
+     * <p>
+     * Does nothing when metrics are disabled, the interval is 0, or it is already running.
+     * </p>
+     */
+    public synchronized void start() {
+        if (!enabled || intervalSeconds <= 0 || scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "metrics-publisher");
+            t.setDaemon(true);
+            return t;
+        });
+        scheduler.scheduleAtFixedRate(this::publish, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops periodic publishing and publishes one final snapshot.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+        publish();
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.cab302a1.metrics;
+
+import java.util.List;
+
+/**
+ * Destination for periodic metric exports.
+ * <p>
+ * Register implementations with {@link MetricsRegistry#addSink(MetricsSink)}.
+ * {@link #publish(List)} is called from the registry's background thread (never
+ * the FX thread); implementations should return quickly and must not throw.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     MetricsRegistry.getInstance().addSink(snapshots -&gt;
+ *             snapshots.forEach(s -&gt; exporter.gauge(s.getName() + ".p99", s.getP99Micros())));
+ * </pre>
+ */
+@FunctionalInterface
+public interface MetricsSink {
+
+    /**
+     * Exports one round of metrics.
+     *
+     * @param snapshots all metrics that have recorded at least one call, sorted by name
+     */
+    void publish(List<MetricSnapshot> snapshots);
+}
@@ -0,0 +1,64 @@
+package com.example.cab302a1.metrics;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HikariCP {@link MetricsTrackerFactory} that feeds connection timings into a {@link MetricsRegistry}.
+ * <p>Recorded metrics:</p>
+ * <ul>
+ *   <li>{@code pool.acquire} – time a caller waited for a connection; timeouts are counted as errors</li>
+ *   <li>{@code pool.usage} – time a connection was held before being returned</li>
+ *   <li>{@code pool.create} – time taken to open a new physical connection</li>
+ * </ul>
+ *
+ * <p>
+ * A high {@code pool.acquire} p99 means callers queue for connections (pool too small or
+ * connections held too long); compare with {@code pool.usage} to tell which.
+ * </p>
+ */
+public final class PoolMetricsTrackerFactory implements MetricsTrackerFactory {
+
+    private final MetricsRegistry registry;
+
+    /**
+     * Creates a factory recording into the given registry.
+     *
+     * @param registry where pool timings are recorded
+     */
+    public PoolMetricsTrackerFactory(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        MethodMetrics acquire = registry.metrics("pool.acquire");
+        MethodMetrics usage = registry.metrics("pool.usage");
+        MethodMetrics create = registry.metrics("pool.create");
+
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.recordSuccess(elapsedAcquiredNanos, 0);
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                acquire.recordError();
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.recordSuccess(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis), 0);
+            }
+
+            @Override
+            public void recordConnectionCreatedMillis(long connectionCreatedMillis) {
+                create.recordSuccess(TimeUnit.MILLISECONDS.toNanos(connectionCreatedMillis), 0);
+            }
+        };
+    }
+}
@@ -0,0 +1,229 @@
+package com.example.cab302a1.metrics;
+
+import com.example.cab302a1.util.EnvSettings;
+
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * JDBI {@link SqlLogger} that counts statements per logical operation to expose N+1 query patterns.
+ * <p>
+ * An operation is a {@link Scope} opened on the current thread with {@link #begin(String)}.
+ * Every statement JDBI executes on that thread while the scope is open is counted
+ * under its <i>shape</i>: the SQL template with whitespace collapsed, so the same
+ * query with different bound values (or a different number of {@code <list>} values)
+ * counts as one shape. A shape that repeats more than the threshold within one
+ * operation is almost always a query issued inside a loop.
+ * </p>
+ *
+ * <p>Where scopes are opened:</p>
+ * <ul>
+ *   <li>{@link com.example.cab302a1.util.BackgroundLoader} wraps every page load when
+ *       {@code N_PLUS_ONE_THRESHOLD} is set, and warns on {@code System.err} when an
+ *       operation exceeds it (development runs)</li>
+ *   <li>The test-only {@code @QueryBudget} JUnit extension wraps each test and fails it
+ *       when its statement budget is exceeded (test runs)</li>
+ * </ul>
+ *
+ * <p>
+ * With no scope open the logger does a single thread-local lookup per statement,
+ * so it is installed on the shared {@link org.jdbi.v3.core.Jdbi} unconditionally.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     try (QueryTracker.Scope scope = QueryTracker.getInstance().begin("HomeController")) {
+ *         loadHomePage();
+ *     } // warns if one SQL shape ran more than N_PLUS_ONE_THRESHOLD times
+ * </pre>
+ */
+public final class QueryTracker implements SqlLogger {
+
+    private static final QueryTracker INSTANCE = new QueryTracker(EnvSettings.intSetting("N_PLUS_ONE_THRESHOLD", 0));
+
+    private final ThreadLocal<Scope> current = new ThreadLocal<>();
+    private final int threshold;
+
+    /**
+     * Creates a tracker.
+     *
+     * @param threshold repeats of one shape allowed before {@link Scope#close()} warns; 0 disables warnings
+     */
+    public QueryTracker(int threshold) {
+        this.threshold = threshold;
+    }
+
+    /**
+     * Returns the tracker installed on the shared JDBI instance.
+     *
+     * @return the shared {@link QueryTracker}
+     */
+    public static QueryTracker getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns whether operations should be tracked automatically (a threshold is configured).
+     *
+     * @return {@code true} when {@code N_PLUS_ONE_THRESHOLD} is above 0
+     */
+    public boolean isEnabled() {
+        return threshold > 0;
+    }
+
+    /**
+     * Opens a scope for one logical operation on the current thread.
+     * <p>
+     * Scopes nest: statements are counted in the innermost scope and every enclosing
+     * one. Always close the scope, ideally with try-with-resources.
+     * </p>
+     *
+     * @param operation a name for reports, e.g. a controller or service method
+     * @return the open {@link Scope}
+     */
+    public Scope begin(String operation) {
+        Scope scope = new Scope(this, operation, current.get());
+        current.set(scope);
+        return scope;
+    }
+
+    @Override
+    public void logAfterExecution(StatementContext context) {
+        record(context);
+    }
+
+    @Override
+    public void logException(StatementContext context, SQLException ex) {
+        record(context);
+    }
+
+    private void record(StatementContext context) {
+        Scope scope = current.get();
+        if (scope == null) {
+            return;
+        }
+        String shape = shapeOf(context.getRawSql());
+        for (Scope s = scope; s != null; s = s.parent) {
+            s.record(shape);
+        }
+    }
+
+    /**
+     * Normalises SQL to its shape: whitespace runs become one space.
+     *
+     * @param sql the raw SQL template
+     * @return the shape used as the counting key
+     */
+    static String shapeOf(String sql) {
+        return sql == null ? "" : sql.trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * Statements counted for one logical operation. Confined to the thread that opened it.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final QueryTracker tracker;
+        private final String operation;
+        private final Scope parent;
+        private final Map<String, Integer> countsByShape = new LinkedHashMap<>();
+        private int statementCount;
+        private boolean closed;
+
+        private Scope(QueryTracker tracker, String operation, Scope parent) {
+            this.tracker = tracker;
+            this.operation = operation;
+            this.parent = parent;
+        }
+
+        private void record(String shape) {
+            statementCount++;
+            countsByShape.merge(shape, 1, Integer::sum);
+        }
+
+        /**
+         * Returns the operation name given to {@link QueryTracker#begin(String)}.
+         *
+         * @return the operation name
+         */
+        public String getOperation() {
+            return operation;
+        }
+
+        /**
+         * Returns the number of statements executed so far.
+         *
+         * @return the statement count
+         */
+        public int getStatementCount() {
+            return statementCount;
+        }
+
+        /**
+         * Returns how often each SQL shape ran, in first-seen order.
+         *
+         * @return an unmodifiable shape-to-count map
+         */
+        public Map<String, Integer> getCountsByShape() {
+            return Collections.unmodifiableMap(countsByShape);
+        }
+
+        /**
+         * Returns the shapes that ran more than {@code maxRepeats} times.
+         *
+         * @param maxRepeats allowed executions of one shape
+         * @return the offending shapes with their counts; empty if none
+         */
+        public Map<String, Integer> getRepeatedShapes(int maxRepeats) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            countsByShape.forEach((shape, count) -> {
+                if (count > maxRepeats) {
+                    repeated.put(shape, count);
+                }
+            });
+            return repeated;
+        }
+
+        /**
+         * Formats a one-line-per-shape summary, for warnings and assertion messages.
+         *
+         * @param shapes the shapes to list with their counts
+         * @return the summary
+         */
+        public String describe(Map<String, Integer> shapes) {
+            StringBuilder sb = new StringBuilder()
+                    .append(operation).append(" ran ").append(statementCount).append(" statement(s)");
+            shapes.forEach((shape, count) -> sb.append(System.lineSeparator())
+                    .append("  ").append(count).append("x ").append(shape));
+            return sb.toString();
+        }
+
+        /**
+         * Closes the scope, restores the enclosing one and warns when a shape
+         * repeated more than the tracker's threshold.
+         */
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (parent != null) {
+                tracker.current.set(parent);
+            } else {
+                tracker.current.remove();
+            }
+            if (tracker.threshold > 0) {
+                Map<String, Integer> repeated = getRepeatedShapes(tracker.threshold);
+                if (!repeated.isEmpty()) {
+                    System.err.println("[n+1] " + describe(repeated));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.example.cab302a1.metrics;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Records named milestones of application startup and prints a timing report.
+ * <p>
+ * Each milestone is recorded once, as milliseconds since the JVM started (or since this
+ * class was loaded, if the start time is unknown); later marks with the same name are
+ * ignored. The report is printed once, when {@link #HOME_RENDERED} is marked, and shows:
+ * </p>
+ * <ul>
+ *   <li>time-to-login-screen – JVM start until the login scene has been laid out</li>
+ *   <li>time-to-first-home-render – login submitted until the home grid has been laid out
+ *       (excluding the time the user spent typing), and since JVM start</li>
+ *   <li>when pre-warming of the next pages finished</li>
+ * </ul>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     StartupTimer.getInstance().markAfterLayout(scene, StartupTimer.LOGIN_SHOWN);
+ *     ...
+ *     StartupTimer.getInstance().markAfterLayout(grid.getScene(), StartupTimer.HOME_RENDERED); // prints the report
+ * </pre>
+ */
+public final class StartupTimer {
+
+    /** The database schema was found current, or has been migrated. */
+    public static final String SCHEMA_READY = "schema-ready";
+    /** The login scene has been laid out for the first time. */
+    public static final String LOGIN_SHOWN = "login-screen";
+    /** Background pre-warming of the likely next pages has finished. */
+    public static final String PREWARM_DONE = "prewarm-done";
+    /** The user submitted valid credentials. */
+    public static final String LOGIN_SUBMITTED = "login-submitted";
+    /** The home grid has been filled and laid out for the first time. */
+    public static final String HOME_RENDERED = "first-home-render";
+
+    private static final StartupTimer INSTANCE = new StartupTimer(System::nanoTime, jvmStartNanos(), System.out);
+
+    private final LongSupplier clock;
+    private final long originNanos;
+    private final PrintStream out;
+    private final Map<String, Long> marks = new LinkedHashMap<>();
+
+    /**
+     * Creates a timer.
+     *
+     * @param clock       source of {@link System#nanoTime()}-like readings
+     * @param originNanos the clock reading that counts as time zero
+     * @param out         where the report is printed
+     */
+    StartupTimer(LongSupplier clock, long originNanos, PrintStream out) {
+        this.clock = clock;
+        this.originNanos = originNanos;
+        this.out = out;
+    }
+
+    /**
+     * Returns the application-wide timer.
+     *
+     * @return the shared {@link StartupTimer}
+     */
+    public static StartupTimer getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Records a milestone, unless it was recorded before. Marking {@link #HOME_RENDERED}
+     * prints the report.
+     *
+     * @param name the milestone
+     * @return {@code true} if this call recorded it
+     */
+    public boolean mark(String name) {
+        long elapsedMillis = (clock.getAsLong() - originNanos) / 1_000_000;
+        synchronized (marks) {
+            if (marks.putIfAbsent(name, elapsedMillis) != null) {
+                return false;
+            }
+        }
+        if (HOME_RENDERED.equals(name)) {
+            out.println(report());
+        }
+        return true;
+    }
+
+    /**
+     * Marks a milestone once the scene has finished its next layout pass, i.e. when its
+     * content is about to be drawn. Does nothing if the milestone was already recorded.
+     *
+     * @param scene the scene being shown
+     * @param name  the milestone
+     */
+    public void markAfterLayout(Scene scene, String name) {
+        if (scene == null || elapsedMillis(name) >= 0) {
+            return;
+        }
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            mark(name);
+            // Not removed inline: the scene is iterating over its listeners
+            Platform.runLater(() -> scene.removePostLayoutPulseListener(listener[0]));
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    /**
+     * @param name a milestone
+     * @return milliseconds from JVM start to the milestone, or -1 if not recorded
+     */
+    public long elapsedMillis(String name) {
+        synchronized (marks) {
+            return marks.getOrDefault(name, -1L);
+        }
+    }
+
+    /**
+     * Formats the recorded milestones; milestones not reached yet are left out.
+     *
+     * @return the multi-line timing report
+     */
+    public String report() {
+        Map<String, Long> copy;
+        synchronized (marks) {
+            copy = new LinkedHashMap<>(marks);
+        }
+        StringBuilder sb = new StringBuilder("=== Startup timing (ms since JVM start) ===");
+        Long login = copy.get(LOGIN_SHOWN);
+        Long submitted = copy.get(LOGIN_SUBMITTED);
+        Long home = copy.get(HOME_RENDERED);
+        if (login != null) {
+            sb.append(String.format("%n%-28s %8d", "time-to-login-screen", login));
+        }
+        if (home != null) {
+            if (submitted != null) {
+                sb.append(String.format("%n%-28s %8d  (at %d)", "time-to-first-home-render", home - submitted, home));
+            } else {
+                sb.append(String.format("%n%-28s %8d", "time-to-first-home-render", home));
+            }
+        }
+        for (Map.Entry<String, Long> e : copy.entrySet()) {
+            String name = e.getKey();
+            if (!name.equals(LOGIN_SHOWN) && !name.equals(HOME_RENDERED)) {
+                sb.append(String.format("%n  %-26s %8d", name, e.getValue()));
+            }
+        }
+        return sb.toString();
+    }
+
+    /** The {@link System#nanoTime()} reading corresponding to JVM start, as far as it is known. */
+    private static long jvmStartNanos() {
+        long now = System.nanoTime();
+        return ProcessHandle.current().info().startInstant()
+                .map(start -> now - Duration.between(start, Instant.now()).toNanos())
+                .orElse(now);
+    }
+}
@@ -0,0 +1,168 @@
+package com.example.cab302a1.model;
+
+import java.util.List;
+
+/**
+ * Precomputed answer key of one quiz, for grading submissions in memory.
+ * <p>
+ * Built once from a {@link CompactQuiz} (and cached with its {@link QuizSnapshot}),
+ * it maps every option ID to its question index and correctness through open-addressing
+ * {@code int} tables, so looking up a response is O(1) and the grading loop allocates
+ * nothing per response.
+ * </p>
+ *
+ * <p>
+ * {@link #score} follows the database path exactly ({@code JdbiResponseDao.insertGradedResponses}
+ * followed by the scoring {@code UPDATE} in {@code JdbiAttemptDao}):
+ * </p>
+ * <ul>
+ *   <li>Responses with an option ID of 0 or less are ignored</li>
+ *   <li>Options that do not belong to this quiz are ignored</li>
+ *   <li>An option counts for the question it belongs to; the question ID the response names is not used</li>
+ *   <li>Only the first response per question counts</li>
+ *   <li>The score is the number of questions whose counted response is correct</li>
+ * </ul>
+ *
+ * <p>
+ * The stored score in {@code quiz_attempts} remains the authoritative one; this key is
+ * kept for bulk re-grades and imports, which no screen offers yet.
+ * </p>
+ */
+public final class AnswerKey {
+
+    private final int questionCount;
+    private final IntIndex optionIndex;
+    /** Question index of each option, by option index. */
+    private final int[] questionOfOption;
+    private final long[] correct;
+
+    private AnswerKey(CompactQuiz quiz) {
+        questionCount = quiz.questionCount();
+        int optionCount = quiz.optionCount();
+
+        int[] optionIds = new int[optionCount];
+        questionOfOption = new int[optionCount];
+        correct = new long[(optionCount + 63) >>> 6];
+
+        for (int q = 0; q < questionCount; q++) {
+            for (int o = quiz.optionStart(q); o < quiz.optionEnd(q); o++) {
+                optionIds[o] = quiz.optionId(o);
+                questionOfOption[o] = q;
+                if (quiz.isCorrect(o)) {
+                    correct[o >>> 6] |= 1L << o;
+                }
+            }
+        }
+        optionIndex = new IntIndex(optionIds);
+    }
+
+    /**
+     * Builds the answer key of a quiz.
+     *
+     * @param quiz the packed quiz
+     * @return a new {@link AnswerKey}
+     */
+    public static AnswerKey of(CompactQuiz quiz) {
+        return new AnswerKey(quiz);
+    }
+
+    /**
+     * Grades a submission.
+     *
+     * @param responses the student's answers, as passed to {@code AttemptDao.submitAttempt}
+     * @return the score the database would store
+     */
+    public int score(List<QuestionResponse> responses) {
+        if (responses == null) {
+            return 0;
+        }
+        int n = responses.size();
+        int[] optionIds = new int[n];
+        for (int i = 0; i < n; i++) {
+            optionIds[i] = responses.get(i).getOption_id();
+        }
+        return score(optionIds, n);
+    }
+
+    /**
+     * Grades a submission given as the chosen option IDs, in submission order.
+     *
+     * @param optionIds the chosen option ID of each response
+     * @param count     how many leading entries of the array to grade
+     * @return the score the database would store
+     */
+    public int score(int[] optionIds, int count) {
+        long[] answered = new long[(questionCount + 63) >>> 6];
+
+        int score = 0;
+        for (int i = 0; i < count; i++) {
+            int o = optionIndex.get(optionIds[i]);
+            if (o < 0) {
+                continue;
+            }
+            int q = questionOfOption[o];
+            if ((answered[q >>> 6] & (1L << q)) != 0) {
+                continue;
+            }
+            answered[q >>> 6] |= 1L << q;
+            if ((correct[o >>> 6] & (1L << o)) != 0) {
+                score++;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Open-addressing map from positive {@code int} IDs to their position in the
+     * array the index was built from. Linear probing, load factor at most 0.5.
+     */
+    static final class IntIndex {
+        private final int[] keys;
+        private final int[] values;
+        private final int mask;
+
+        IntIndex(int[] ids) {
+            int capacity = Integer.highestOneBit(Math.max(ids.length, 1) * 2 - 1) << 1;
+            keys = new int[capacity];
+            values = new int[capacity];
+            mask = capacity - 1;
+            for (int i = 0; i < ids.length; i++) {
+                int id = ids[i];
+                if (id <= 0) {
+                    continue;
+                }
+                int slot = slot(id);
+                while (keys[slot] != 0 && keys[slot] != id) {
+                    slot = (slot + 1) & mask;
+                }
+                if (keys[slot] == 0) {
+                    // Duplicate IDs keep their first position
+                    keys[slot] = id;
+                    values[slot] = i;
+                }
+            }
+        }
+
+        /** @return the position of {@code id}, or -1 if absent */
+        int get(int id) {
+            if (id <= 0) {
+                return -1;
+            }
+            int slot = slot(id);
+            while (true) {
+                int key = keys[slot];
+                if (key == id) {
+                    return values[slot];
+                }
+                if (key == 0) {
+                    return -1;
+                }
+                slot = (slot + 1) & mask;
+            }
+        }
+
+        private int slot(int id) {
+            return (id * 0x9E3779B9 >>> 16 ^ id * 0x9E3779B9) & mask;
+        }
+    }
+}
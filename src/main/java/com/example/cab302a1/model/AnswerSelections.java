@@ -0,0 +1,93 @@
+package com.example.cab302a1.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The answers chosen so far in one quiz attempt, one byte per question.
+ * <p>
+ * The take-quiz page keeps its answer state here rather than in the question views,
+ * so that views can be recycled while scrolling (only the visible questions have
+ * one) and a long exam costs a few bytes per question instead of a live node graph.
+ * </p>
+ *
+ * <p>
+ * Each entry is the chosen option index (0 for A, 1 for B, ...) or {@link #NONE}.
+ * This class is not thread-safe; it is used on the FX thread only.
+ * </p>
+ */
+public final class AnswerSelections {
+
+    /** Marks a question without an answer. */
+    public static final int NONE = -1;
+
+    /** Highest option index that can be stored. */
+    public static final int MAX_OPTION = Byte.MAX_VALUE;
+
+    private final byte[] selections;
+    private int answered;
+
+    /**
+     * Creates an empty sheet.
+     *
+     * @param questionCount number of questions in the attempt
+     */
+    public AnswerSelections(int questionCount) {
+        if (questionCount < 0) {
+            throw new IllegalArgumentException("questionCount must not be negative: " + questionCount);
+        }
+        selections = new byte[questionCount];
+        Arrays.fill(selections, (byte) NONE);
+    }
+
+    /** @return the number of questions */
+    public int size() {
+        return selections.length;
+    }
+
+    /**
+     * @param question question index, 0-based
+     * @return the chosen option index, or {@link #NONE}
+     */
+    public int get(int question) {
+        return selections[question];
+    }
+
+    /**
+     * Records (or with {@link #NONE}, clears) the answer to a question.
+     *
+     * @param question question index, 0-based
+     * @param option   option index from 0 to {@link #MAX_OPTION}, or {@link #NONE}
+     */
+    public void set(int question, int option) {
+        if (option < NONE || option > MAX_OPTION) {
+            throw new IllegalArgumentException("Option index out of range: " + option);
+        }
+        int previous = selections[question];
+        if (previous == NONE && option != NONE) {
+            answered++;
+        } else if (previous != NONE && option == NONE) {
+            answered--;
+        }
+        selections[question] = (byte) option;
+    }
+
+    /** @return how many questions have an answer */
+    public int answeredCount() {
+        return answered;
+    }
+
+    /**
+     * Returns the answers in question order, in the form {@code StudentQuizFlow} expects.
+     *
+     * @return one option index (or {@link #NONE}) per question
+     */
+    public List<Integer> toList() {
+        List<Integer> list = new ArrayList<>(selections.length);
+        for (byte selection : selections) {
+            list.add((int) selection);
+        }
+        return list;
+    }
+}
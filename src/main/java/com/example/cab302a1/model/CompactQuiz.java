@@ -0,0 +1,281 @@
+package com.example.cab302a1.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only, memory-compact form of a fully loaded quiz, used for cached quizzes.
+ * <p>
+ * {@link Quiz}, {@link QuizQuestionCreate} and {@link QuizChoiceCreate} spend most of
+ * their footprint on object headers, boxed lists and one {@code String} per text.
+ * This class stores the same data as parallel arrays ("struct of arrays"):
+ * </p>
+ * <ul>
+ *   <li>Question and option IDs in {@code int[]}s, with each question's options
+ *       in the range {@code [optionStart(q), optionEnd(q))}</li>
+ *   <li>Correct answers as one packed bitset over all options</li>
+ *   <li>All texts in a single shared string; identical texts (such as
+ *       "True"/"False" options) are stored once and referenced by index</li>
+ * </ul>
+ *
+ * <p>
+ * Questions and options are addressed by index (0-based, in load order). Use
+ * {@link #toQuiz()} or {@link #toQuestions()} to get the regular mutable models back.
+ * </p>
+ */
+public final class CompactQuiz {
+
+    /** Text reference meaning {@code null}. */
+    private static final int NO_TEXT = -1;
+
+    private final int quizId;
+    private final String title;
+    private final String description;
+    private final int createdBy;
+    private final boolean hidden;
+    private final String authorUsername;
+
+    private final int[] questionIds;
+    private final int[] questionTexts;
+    private final int[] explanations;
+    /** Index of each question's first option; one extra trailing entry marks the end. */
+    private final int[] optionStarts;
+    private final int[] optionIds;
+    private final int[] optionTexts;
+    private final long[] correct;
+
+    /** Every distinct text, back to back. */
+    private final String textPool;
+    /** Start of each distinct text in {@link #textPool}; one extra trailing entry marks the end. */
+    private final int[] textStarts;
+
+    private CompactQuiz(Quiz quiz, int[] questionIds, int[] questionTexts, int[] explanations,
+                        int[] optionStarts, int[] optionIds, int[] optionTexts, long[] correct,
+                        String textPool, int[] textStarts) {
+        this.quizId = quiz.getQuizId();
+        this.title = quiz.getTitle();
+        this.description = quiz.getDescription();
+        this.createdBy = quiz.getCreated_by();
+        this.hidden = quiz.getIsHidden();
+        this.authorUsername = quiz.getAuthorUsername();
+        this.questionIds = questionIds;
+        this.questionTexts = questionTexts;
+        this.explanations = explanations;
+        this.optionStarts = optionStarts;
+        this.optionIds = optionIds;
+        this.optionTexts = optionTexts;
+        this.correct = correct;
+        this.textPool = textPool;
+        this.textStarts = textStarts;
+    }
+
+    /**
+     * Packs a loaded quiz and its questions.
+     *
+     * @param quiz      the quiz header
+     * @param questions its questions with their options
+     * @return a new {@link CompactQuiz}
+     */
+    public static CompactQuiz of(Quiz quiz, List<QuizQuestionCreate> questions) {
+        int questionCount = questions.size();
+        int optionCount = 0;
+        for (QuizQuestionCreate q : questions) {
+            optionCount += q.getChoices().size();
+        }
+
+        int[] questionIds = new int[questionCount];
+        int[] questionTexts = new int[questionCount];
+        int[] explanations = new int[questionCount];
+        int[] optionStarts = new int[questionCount + 1];
+        int[] optionIds = new int[optionCount];
+        int[] optionTexts = new int[optionCount];
+        long[] correct = new long[(optionCount + 63) >>> 6];
+        TextPool texts = new TextPool();
+
+        int o = 0;
+        for (int q = 0; q < questionCount; q++) {
+            QuizQuestionCreate question = questions.get(q);
+            questionIds[q] = question.getQuestionId();
+            questionTexts[q] = texts.add(question.getQuestionText());
+            explanations[q] = texts.add(question.getExplanation());
+            optionStarts[q] = o;
+            for (QuizChoiceCreate c : question.getChoices()) {
+                optionIds[o] = c.getOption_id();
+                optionTexts[o] = texts.add(c.getText());
+                if (c.isCorrect()) {
+                    correct[o >>> 6] |= 1L << o;
+                }
+                o++;
+            }
+        }
+        optionStarts[questionCount] = o;
+
+        return new CompactQuiz(quiz, questionIds, questionTexts, explanations, optionStarts,
+                optionIds, optionTexts, correct, texts.pool.toString(), texts.starts());
+    }
+
+    // === Header ===
+
+    /** @return the quiz ID */
+    public int getQuizId() { return quizId; }
+
+    /** @return the quiz title */
+    public String getTitle() { return title; }
+
+    /** @return the quiz description, or {@code null} if none */
+    public String getDescription() { return description; }
+
+    /** @return the user ID of the quiz author */
+    public int getCreatedBy() { return createdBy; }
+
+    /** @return whether the quiz is hidden from students */
+    public boolean isHidden() { return hidden; }
+
+    /** @return the author's username, or {@code null} if unknown */
+    public String getAuthorUsername() { return authorUsername; }
+
+    // === Questions ===
+
+    /** @return the number of questions */
+    public int questionCount() { return questionIds.length; }
+
+    /**
+     * @param q question index
+     * @return the question ID
+     */
+    public int questionId(int q) { return questionIds[q]; }
+
+    /**
+     * @param q question index
+     * @return the question statement
+     */
+    public String questionText(int q) { return text(questionTexts[q]); }
+
+    /**
+     * @param q question index
+     * @return the explanation, or {@code null} if none
+     */
+    public String explanation(int q) { return text(explanations[q]); }
+
+    /**
+     * @param q question index
+     * @return the index of the question's first option
+     */
+    public int optionStart(int q) { return optionStarts[q]; }
+
+    /**
+     * @param q question index
+     * @return one past the index of the question's last option
+     */
+    public int optionEnd(int q) { return optionStarts[q + 1]; }
+
+    // === Options ===
+
+    /** @return the number of options across all questions */
+    public int optionCount() { return optionIds.length; }
+
+    /**
+     * @param o option index
+     * @return the option ID
+     */
+    public int optionId(int o) { return optionIds[o]; }
+
+    /**
+     * @param o option index
+     * @return the option text
+     */
+    public String optionText(int o) { return text(optionTexts[o]); }
+
+    /**
+     * @param o option index
+     * @return whether the option is a correct answer
+     */
+    public boolean isCorrect(int o) { return (correct[o >>> 6] & (1L << o)) != 0; }
+
+    /** @return the number of distinct texts stored, for diagnostics */
+    public int distinctTextCount() { return textStarts.length - 1; }
+
+    // === Adapters ===
+
+    /**
+     * Builds a new mutable {@link Quiz} with fresh copies of every question and option.
+     *
+     * @return a quiz the caller may modify freely
+     */
+    public Quiz toQuiz() {
+        Quiz quiz = new Quiz(quizId, title, description, createdBy, hidden, authorUsername);
+        quiz.setQuestions(toQuestions());
+        return quiz;
+    }
+
+    /**
+     * Builds fresh, mutable copies of the questions and their options.
+     *
+     * @return a new list the caller may modify freely
+     */
+    public List<QuizQuestionCreate> toQuestions() {
+        List<QuizQuestionCreate> copies = new ArrayList<>(questionCount());
+        for (int q = 0; q < questionCount(); q++) {
+            copies.add(toQuestion(q));
+        }
+        return copies;
+    }
+
+    /**
+     * Builds a fresh, mutable copy of one question and its options.
+     *
+     * @param q question index
+     * @return a new {@link QuizQuestionCreate}
+     */
+    public QuizQuestionCreate toQuestion(int q) {
+        QuizQuestionCreate question = new QuizQuestionCreate(questionIds[q], quizId, questionText(q), explanation(q));
+        List<QuizChoiceCreate> choices = new ArrayList<>(optionEnd(q) - optionStart(q));
+        for (int o = optionStart(q); o < optionEnd(q); o++) {
+            QuizChoiceCreate choice = new QuizChoiceCreate(optionText(o), isCorrect(o));
+            choice.setOption_id(optionIds[o]);
+            choice.setQuestion_id(questionIds[q]);
+            choices.add(choice);
+        }
+        question.setOptions(choices);
+        return question;
+    }
+
+    private String text(int ref) {
+        return ref == NO_TEXT ? null : textPool.substring(textStarts[ref], textStarts[ref + 1]);
+    }
+
+    /**
+     * Collects distinct texts into one string while packing.
+     */
+    private static final class TextPool {
+        private final StringBuilder pool = new StringBuilder();
+        private final Map<String, Integer> refs = new HashMap<>();
+        private int[] starts = new int[16];
+
+        int add(String text) {
+            if (text == null) {
+                return NO_TEXT;
+            }
+            Integer existing = refs.get(text);
+            if (existing != null) {
+                return existing;
+            }
+            int ref = refs.size();
+            if (ref + 1 >= starts.length) {
+                starts = Arrays.copyOf(starts, starts.length * 2);
+            }
+            starts[ref] = pool.length();
+            pool.append(text);
+            starts[ref + 1] = pool.length();
+            refs.put(text, ref);
+            return ref;
+        }
+
+        int[] starts() {
+            return Arrays.copyOf(starts, refs.size() + 1);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.cab302a1.model;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Immutable, fully loaded copy of a quiz: its header, questions and options, as
+ * they were at one version stamp.
+ * <p>
+ * Snapshots are shared between threads and screens by {@code QuizSnapshotCache}, so
+ * nothing in them can be changed. The data is held in a {@link CompactQuiz}, which
+ * keeps large cached quizzes small. Callers that need the mutable model objects (for
+ * example to hand them to a controller) get fresh copies from {@link #toQuiz()} or
+ * {@link #toQuestions()}.
+ * </p>
+ */
+public final class QuizSnapshot {
+
+    /**
+     * One question of a snapshot.
+     *
+     * @param questionId  the question ID
+     * @param text        the question statement
+     * @param explanation the explanation shown after answering (may be {@code null})
+     * @param options     the answer options, in load order
+     */
+    public record Question(int questionId, String text, String explanation, List<Option> options) {
+        public Question {
+            options = List.copyOf(options);
+        }
+    }
+
+    /**
+     * One answer option of a snapshot question.
+     *
+     * @param optionId the option ID
+     * @param text     the option text
+     * @param correct  whether this option is a correct answer
+     */
+    public record Option(int optionId, String text, boolean correct) {}
+
+    private final long version;
+    private final CompactQuiz compact;
+    /** Built on first use; most snapshots are only displayed, never graded. */
+    private volatile AnswerKey answerKey;
+
+    private QuizSnapshot(CompactQuiz compact, long version) {
+        this.version = version;
+        this.compact = compact;
+    }
+
+    /**
+     * Copies a loaded quiz and its questions into a snapshot.
+     *
+     * @param quiz      the quiz header
+     * @param questions its questions with their options
+     * @param version   the version stamp read before loading
+     * @return a new {@link QuizSnapshot}
+     */
+    public static QuizSnapshot of(Quiz quiz, List<QuizQuestionCreate> questions, long version) {
+        return new QuizSnapshot(CompactQuiz.of(quiz, questions), version);
+    }
+
+    /** @return the quiz ID */
+    public int getQuizId() { return compact.getQuizId(); }
+
+    /** @return the version stamp this snapshot was loaded at */
+    public long getVersion() { return version; }
+
+    /** @return the quiz title */
+    public String getTitle() { return compact.getTitle(); }
+
+    /** @return the quiz description, or {@code null} if none */
+    public String getDescription() { return compact.getDescription(); }
+
+    /** @return the user ID of the quiz author */
+    public int getCreatedBy() { return compact.getCreatedBy(); }
+
+    /** @return whether the quiz is hidden from students */
+    public boolean isHidden() { return compact.isHidden(); }
+
+    /** @return the author's username, or {@code null} if unknown */
+    public String getAuthorUsername() { return compact.getAuthorUsername(); }
+
+    /** @return the packed quiz data behind this snapshot */
+    public CompactQuiz getCompact() { return compact; }
+
+    /**
+     * Returns the answer key of this snapshot, building it on first use.
+     *
+     * @return the {@link AnswerKey} for grading submissions in memory
+     */
+    public AnswerKey getAnswerKey() {
+        AnswerKey key = answerKey;
+        if (key == null) {
+            // Racing threads may both build it; the key is immutable, so either result is fine
+            key = AnswerKey.of(compact);
+            answerKey = key;
+        }
+        return key;
+    }
+
+    /**
+     * Returns the questions as an unmodifiable view; each element is unpacked on access.
+     *
+     * @return the questions, unmodifiable
+     */
+    public List<Question> getQuestions() {
+        return new AbstractList<>() {
+            @Override
+            public Question get(int q) {
+                List<Option> options = new ArrayList<>(compact.optionEnd(q) - compact.optionStart(q));
+                for (int o = compact.optionStart(q); o < compact.optionEnd(q); o++) {
+                    options.add(new Option(compact.optionId(o), compact.optionText(o), compact.isCorrect(o)));
+                }
+                return new Question(compact.questionId(q), compact.questionText(q), compact.explanation(q), options);
+            }
+
+            @Override
+            public int size() {
+                return compact.questionCount();
+            }
+        };
+    }
+
+    /**
+     * Builds a new mutable {@link Quiz} with fresh copies of every question and option.
+     *
+     * @return a quiz the caller may modify freely
+     */
+    public Quiz toQuiz() {
+        return compact.toQuiz();
+    }
+
+    /**
+     * Builds fresh, mutable copies of the questions and their options.
+     *
+     * @return a new list the caller may modify freely
+     */
+    public List<QuizQuestionCreate> toQuestions() {
+        return compact.toQuestions();
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.cab302a1.model;
+
+/**
+ * Lightweight, immutable projection of a quiz used for hover tooltips and info badges.
+ * <p>
+ * Holds only what the info popup needs (author, description, question count), so it
+ * can be built for a whole grid of quizzes from one bulk count query instead of
+ * loading every question and option.
+ * </p>
+ */
+public final class QuizSummary {
+    private final int quizId;
+    private final String authorUsername;
+    private final String description;
+    private final int questionCount;
+
+    /**
+     * Creates a quiz summary.
+     *
+     * @param quizId         the quiz ID
+     * @param authorUsername the username of the quiz author (may be {@code null})
+     * @param description    the quiz description (may be {@code null})
+     * @param questionCount  the number of questions in the quiz
+     */
+    public QuizSummary(int quizId, String authorUsername, String description, int questionCount) {
+        this.quizId = quizId;
+        this.authorUsername = authorUsername;
+        this.description = description;
+        this.questionCount = questionCount;
+    }
+
+    /**
+     * Builds a summary from an already loaded quiz and its question count.
+     *
+     * @param quiz          the quiz providing author and description
+     * @param questionCount the number of questions in the quiz
+     * @return a new {@link QuizSummary}
+     */
+    public static QuizSummary of(Quiz quiz, int questionCount) {
+        return new QuizSummary(quiz.getQuizId(), quiz.getAuthorUsername(), quiz.getDescription(), questionCount);
+    }
+
+    /** @return the quiz ID */
+    public int getQuizId() { return quizId; }
+
+    /** @return the author's username, or {@code null} if unknown */
+    public String getAuthorUsername() { return authorUsername; }
+
+    /** @return the quiz description, or {@code null} if none */
+    public String getDescription() { return description; }
+
+    /** @return the number of questions in the quiz */
+    public int getQuestionCount() { return questionCount; }
+}
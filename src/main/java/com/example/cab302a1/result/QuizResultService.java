@@ -6,7 +6,6 @@ import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.model.User;
 import com.example.cab302a1.util.Session;
 
-import java.util.List;
 
 /**
  * Service class for handling quiz result operations with database integration.
@@ -142,19 +141,15 @@ public class QuizResultService {
     }
     
     /**
-     * Helper method to find a quiz by ID from the available quizzes.
-     * Since QuizDao doesn't have getQuizById, we get all quizzes and find the one we need.
+     * Helper method to find a quiz by ID.
+     * Uses a direct primary-key lookup so the cost does not depend on how many quizzes exist.
      * 
      * @param quizId The ID of the quiz to find
      * @return Quiz object if found, null otherwise
      */
     private Quiz findQuizById(int quizId) {
         try {
-            List<Quiz> allQuizzes = quizDao.getAllQuizzes();
-            return allQuizzes.stream()
-                    .filter(quiz -> quiz.getQuizId() == quizId)
-                    .findFirst()
-                    .orElse(null);
+            return quizDao.getQuizById(quizId);
         } catch (Exception e) {
             System.err.println("Error finding quiz with id " + quizId + ": " + e.getMessage());
             return null;
@@ -163,19 +158,15 @@ public class QuizResultService {
     
     /**
      * Helper method to get question count for a quiz using QuestionDao.
+     * Runs a single {@code COUNT} query instead of loading every question row.
      * 
      * @param quizId The ID of the quiz
      * @return Number of questions in the quiz
      */
     private int getQuestionCountForQuiz(int quizId) {
         try {
-//            // Create a dummy quiz object to pass to QuestionDao
-//            Quiz dummyQuiz = new Quiz();
-//            dummyQuiz.setQuizId(quizId);
-            
-            // Get all questions for this quiz
-            List<?> questions = questionDao.getAllQuestions(quizId);
-            return questions != null ? questions.size() : 0;
+            int count = questionDao.getNumQuestion(quizId);
+            return count >= 0 ? count : 20; // Default fallback when the count query fails
         } catch (Exception e) {
             System.err.println("Error getting question count for quiz " + quizId + ": " + e.getMessage());
             return 20; // Default fallback
@@ -1,7 +1,10 @@
 package com.example.cab302a1.result;
 
+import com.example.cab302a1.model.QuizChoiceCreate;
 import com.example.cab302a1.model.QuizQuestionCreate;
 
+import java.util.List;
+
 /**
  * Holds the result information for a single quiz question,
  * including the original question data and the option chosen by the user.
@@ -69,4 +72,37 @@ public class ResultQuestion {
         this.chosenOption_id = _chosenOption_id;
     }
 
+    /**
+     * Returns the position of the correct option among the question's choices.
+     * If several options are correct, the last one is returned.
+     *
+     * @return the 0-based index of the correct option, or -1 if there is none
+     */
+    public int getCorrectIndex(){
+        List<QuizChoiceCreate> choices = choices();
+        int correctIndex = -1;
+        for (int i = 0; i < choices.size(); i++) {
+            if (choices.get(i).isCorrect()) correctIndex = i;
+        }
+        return correctIndex;
+    }
+
+    /**
+     * Returns the position of the chosen option among the question's choices.
+     *
+     * @return the 0-based index of the chosen option, or -1 if unanswered or not found
+     */
+    public int getSelectedIndex(){
+        List<QuizChoiceCreate> choices = choices();
+        int selectedIndex = -1;
+        for (int i = 0; i < choices.size(); i++) {
+            if (choices.get(i).getOption_id() == chosenOption_id) selectedIndex = i;
+        }
+        return selectedIndex;
+    }
+
+    private List<QuizChoiceCreate> choices(){
+        return (question == null || question.getChoices() == null) ? List.of() : question.getChoices();
+    }
+
 }
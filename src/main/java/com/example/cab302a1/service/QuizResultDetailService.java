@@ -1,16 +1,15 @@
 package com.example.cab302a1.service;
 
-import com.example.cab302a1.dao.OptionDao;
-import com.example.cab302a1.dao.QuestionDao;
-import com.example.cab302a1.dao.QuizDao;
 import com.example.cab302a1.dao.ResponseDao;
 import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.model.QuizSnapshot;
 import com.example.cab302a1.result.ResultDetail;
 import com.example.cab302a1.result.ResultQuestion;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service class responsible for assembling detailed quiz result information
@@ -24,9 +23,7 @@ import java.util.List;
  *
  * <p><b>Responsibilities:</b></p>
  * <ul>
- *   <li>Fetches quiz data via {@link QuizDao}</li>
- *   <li>Retrieves related questions via {@link QuestionDao}</li>
- *   <li>Populates question options via {@link OptionDao}</li>
+ *   <li>Reads the quiz with its questions and options from a {@link QuizSnapshotCache}</li>
  *   <li>Fetches student's selected answers via {@link ResponseDao}</li>
  *   <li>Combines all into a {@link ResultDetail} containing {@link ResultQuestion} entries</li>
  * </ul>
@@ -34,29 +31,24 @@ import java.util.List;
  * <p>
  * Example usage:
  * <pre>{@code
- * QuizResultDetailService service = new QuizResultDetailService(quizDao, questionDao, optionDao, responseDao);
+ * QuizResultDetailService service = new QuizResultDetailService(
+ *         QuizSnapshotCache.getInstance(), responseDao);
  * ResultDetail result = service.getResultDetail(5, 10);
  * }</pre>
  * </p>
  */
 public class QuizResultDetailService {
-    private final QuizDao quizDao;
-    private final QuestionDao questionDao;
-    private final OptionDao optionDao;
+    private final QuizSnapshotCache snapshots;
     private final ResponseDao responseDao;
 
     /**
-     * Constructs a {@code QuizResultDetailService} with the required DAO dependencies.
+     * Constructs a {@code QuizResultDetailService} that reads quizzes from the given cache.
      *
-     * @param quizDao      the DAO used for accessing quiz information
-     * @param questionDao  the DAO used for retrieving quiz questions
-     * @param optionDao    the DAO used for fetching options for each question
+     * @param snapshots    the cache of fully loaded quizzes
      * @param responseDao  the DAO used for obtaining student responses
      */
-    public QuizResultDetailService(QuizDao quizDao, QuestionDao questionDao, OptionDao optionDao, ResponseDao responseDao) {
-        this.quizDao = quizDao;
-        this.questionDao = questionDao;
-        this.optionDao = optionDao;
+    public QuizResultDetailService(QuizSnapshotCache snapshots, ResponseDao responseDao) {
+        this.snapshots = snapshots;
         this.responseDao = responseDao;
     }
 
@@ -65,31 +57,30 @@ public class QuizResultDetailService {
      * question, option, and response data.
      *
      * <p>
-     * The method performs the following steps:
+     * The method performs the following steps, using a constant number of
+     * queries regardless of how many questions the quiz has: one when the quiz
+     * is already cached, three otherwise.
      * </p>
      * <ol>
-     *   <li>Retrieves quiz details by quiz ID</li>
-     *   <li>Fetches all related questions</li>
-     *   <li>Attaches available options to each question</li>
-     *   <li>Retrieves the chosen option for each question based on attempt ID</li>
+     *   <li>Reads the quiz with its questions and options from the snapshot cache</li>
+     *   <li>Retrieves every chosen option for the attempt as one map</li>
      *   <li>Constructs a {@link ResultDetail} containing {@link ResultQuestion} objects</li>
      * </ol>
      *
      * @param attemptId the unique identifier of the student's quiz attempt
      * @param quizId    the unique identifier of the quiz
-     * @return a {@link ResultDetail} object containing quiz info and answered questions
+     * @return a {@link ResultDetail} object containing quiz info and answered questions;
+     *         the quiz is {@code null} and the list empty if the quiz does not exist
      */
     public ResultDetail getResultDetail(int attemptId, int quizId) {
-        Quiz quiz = quizDao.getQuizById(quizId);
-        List<QuizQuestionCreate> questions = questionDao.getQuestionsByQuizId(quizId);
-
-        for (QuizQuestionCreate q : questions) {
-            q.setOptions(optionDao.getOptionsByQuestionId(q.getQuestionId()));
-        }
+        QuizSnapshot snapshot = snapshots.get(quizId);
+        Quiz quiz = snapshot != null ? snapshot.toQuiz() : null;
+        List<QuizQuestionCreate> questions = quiz != null ? quiz.getQuestions() : List.of();
+        Map<Integer, Integer> chosenByQuestion = responseDao.getChosenOptionIds(attemptId);
 
         List<ResultQuestion> resultQuestions = new ArrayList<>();
         for (QuizQuestionCreate q : questions) {
-            int chosenOptionId = responseDao.getChosenOptionId(attemptId, q.getQuestionId());
+            int chosenOptionId = chosenByQuestion.getOrDefault(q.getQuestionId(), -1);
             ResultQuestion rq = new ResultQuestion(q, chosenOptionId);
             resultQuestions.add(rq);
         }
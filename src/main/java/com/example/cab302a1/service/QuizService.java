@@ -1,13 +1,9 @@
 package com.example.cab302a1.service;
 
-import com.example.cab302a1.dao.OptionDao;
-import com.example.cab302a1.dao.QuestionDao;
-import com.example.cab302a1.dao.DaoFactory;
 import com.example.cab302a1.model.Quiz;
-import com.example.cab302a1.model.QuizChoiceCreate;
-import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.model.QuizSnapshot;
 
-import java.util.List;
+import java.util.ArrayList;
 
 /**
  * Service class responsible for loading and assembling complete quiz data
@@ -19,34 +15,40 @@ import java.util.List;
  * </p>
  */
 public class QuizService {
-    private final QuestionDao questionDao = DaoFactory.getQuestionDao();
-    private final OptionDao optionDao = DaoFactory.getOptionDao();
+    private final QuizSnapshotCache snapshots;
+
+    /**
+     * Creates a service that reads from the application-wide {@link QuizSnapshotCache}.
+     */
+    public QuizService() {
+        this(QuizSnapshotCache.getInstance());
+    }
+
+    /**
+     * Creates a service that reads from the given cache.
+     *
+     * @param snapshots the cache of fully loaded quizzes
+     */
+    public QuizService(QuizSnapshotCache snapshots) {
+        this.snapshots = snapshots;
+    }
 
     /**
      * Loads a quiz with all its questions and corresponding answer options.
      * <p>
      * This method takes a basic Quiz object and enriches it with full question
-     * data including all available choices/options for each question. It performs
-     * the following steps:
+     * data including all available choices/options for each question. The data
+     * comes from {@link QuizSnapshotCache}, so re-opening a quiz that has not
+     * changed runs no queries. The quiz receives its own copies of the questions,
+     * replacing any it already had.
      * </p>
-     * <ol>
-     *   <li>Retrieves all questions associated with the quiz ID</li>
-     *   <li>For each question, fetches all available answer options</li>
-     *   <li>Attaches the options to their respective questions</li>
-     *   <li>Sets the complete question list on the quiz object</li>
-     * </ol>
      *
      * @param quiz the Quiz object to be populated with questions and options
      * @return the same Quiz object, now fully populated with questions and choices
      */
     public Quiz loadQuizFully(Quiz quiz) {
-        List<QuizQuestionCreate> questions = questionDao.getAllQuestions(quiz.getQuizId());
-        for (QuizQuestionCreate q : questions) {
-            List<QuizChoiceCreate> options = optionDao.getOptionsByQuestionId(q.getQuestionId());
-            q.getChoices().clear();
-            q.getChoices().addAll(options);
-        }
-        quiz.setQuestions(questions);
+        QuizSnapshot snapshot = snapshots.get(quiz.getQuizId());
+        quiz.setQuestions(snapshot != null ? snapshot.toQuestions() : new ArrayList<>());
         return quiz;
     }
 }
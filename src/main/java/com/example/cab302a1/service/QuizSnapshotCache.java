@@ -0,0 +1,251 @@
+package com.example.cab302a1.service;
+
+import com.example.cab302a1.dao.DaoFactory;
+import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.dao.QuizDao;
+import com.example.cab302a1.dao.QuizVersions;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.model.QuizSnapshot;
+import com.example.cab302a1.util.EnvSettings;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded, in-memory cache of immutable {@link QuizSnapshot}s keyed by quiz ID.
+ * <p>
+ * Starting an attempt, opening a result and showing a quiz's details all need the
+ * whole quiz (header, questions, options). The first read loads it with two queries;
+ * every later read is a memory lookup until the quiz changes.
+ * </p>
+ *
+ * <p>Key properties:</p>
+ * <ul>
+ *   <li>Each snapshot carries the {@link QuizVersions} stamp it was loaded at; a snapshot
+ *       whose stamp is no longer current (the quiz was edited in this process) is reloaded</li>
+ *   <li>Snapshots also expire after a time-to-live, bounding staleness from other
+ *       clients' edits</li>
+ *   <li>Loads bypass the DAO read cache, so a snapshot is never built from rows that
+ *       cache still holds after a write, and the TTL above is the only staleness bound</li>
+ *   <li>Least-recently-used eviction once the capacity is reached</li>
+ *   <li>Concurrent misses for the same quiz share a single load</li>
+ *   <li>Thread-safe; loads run outside the lock, so a slow query never blocks hits</li>
+ * </ul>
+ *
+ * <p>Settings (environment variables):</p>
+ * <ul>
+ *   <li>{@code QUIZ_SNAPSHOT_CAPACITY} – maximum cached quizzes (default 128)</li>
+ *   <li>{@code QUIZ_SNAPSHOT_TTL_S} – seconds before a snapshot is reloaded; 0 never expires (default 30)</li>
+ * </ul>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     QuizSnapshot snapshot = QuizSnapshotCache.getInstance().get(quizId);
+ *     Quiz editable = snapshot.toQuiz();
+ * </pre>
+ */
+public class QuizSnapshotCache {
+
+    /** Default maximum number of cached quizzes. */
+    public static final int DEFAULT_CAPACITY = 128;
+
+    /** Default time-to-live of a snapshot. */
+    public static final long DEFAULT_TTL_SECONDS = 30;
+
+    private static final QuizSnapshotCache INSTANCE = new QuizSnapshotCache(
+            DaoFactory.getUncachedQuizDao(), DaoFactory.getUncachedQuestionDao(), QuizVersions.getInstance(),
+            EnvSettings.intSetting("QUIZ_SNAPSHOT_CAPACITY", DEFAULT_CAPACITY),
+            EnvSettings.longSetting("QUIZ_SNAPSHOT_TTL_S", DEFAULT_TTL_SECONDS));
+
+    private record Entry(QuizSnapshot snapshot, long expiresAt) {}
+
+    private final QuizDao quizDao;
+    private final QuestionDao questionDao;
+    private final QuizVersions versions;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<Integer, Entry> entries;
+    private final Map<Integer, CompletableFuture<QuizSnapshot>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache backed by the given DAOs.
+     *
+     * @param quizDao     the DAO used to load the quiz header on a miss; should not be cached
+     * @param questionDao the DAO used to load questions with options on a miss; should not be cached
+     * @param versions    the stamps bumped when quiz content changes
+     * @param capacity    the maximum number of snapshots before LRU eviction
+     * @param ttlSeconds  snapshot time-to-live; 0 or less means snapshots never expire
+     */
+    public QuizSnapshotCache(QuizDao quizDao, QuestionDao questionDao, QuizVersions versions,
+                             int capacity, long ttlSeconds) {
+        this(quizDao, questionDao, versions, capacity, ttlSeconds, System::nanoTime);
+    }
+
+    /**
+     * Creates a cache with an explicit clock, for tests.
+     */
+    QuizSnapshotCache(QuizDao quizDao, QuestionDao questionDao, QuizVersions versions,
+                      int capacity, long ttlSeconds, LongSupplier clock) {
+        this.quizDao = quizDao;
+        this.questionDao = questionDao;
+        this.versions = versions;
+        this.ttlNanos = ttlSeconds > 0 ? TimeUnit.SECONDS.toNanos(ttlSeconds) : Long.MAX_VALUE;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, Entry> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the application-wide cache.
+     *
+     * @return the shared {@link QuizSnapshotCache}
+     */
+    public static QuizSnapshotCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Returns the current snapshot of a quiz, loading it on a miss.
+     * <p>
+     * If another thread is already loading the same quiz, this call waits for that
+     * load instead of starting its own. Safe to call from a background thread.
+     * </p>
+     *
+     * @param quizId the quiz ID
+     * @return the snapshot, or {@code null} if the quiz does not exist
+     */
+    public QuizSnapshot get(int quizId) {
+        long version = versions.current(quizId);
+        QuizSnapshot cached = getIfCurrent(quizId, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        CompletableFuture<QuizSnapshot> load = new CompletableFuture<>();
+        CompletableFuture<QuizSnapshot> running = inFlight.putIfAbsent(quizId, load);
+        if (running != null) {
+            QuizSnapshot shared = await(running);
+            // A load that started before the quiz changed again is not good enough
+            if (shared == null || shared.getVersion() >= version) {
+                return shared;
+            }
+            return loadAndStore(quizId);
+        }
+        try {
+            QuizSnapshot loaded = loadAndStore(quizId);
+            load.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            load.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(quizId, load);
+        }
+    }
+
+    /**
+     * Returns the cached snapshot if it is still current, without loading.
+     *
+     * @param quizId the quiz ID
+     * @return the cached {@link QuizSnapshot}, or {@code null}
+     */
+    public QuizSnapshot getIfPresent(int quizId) {
+        return getIfCurrent(quizId, versions.current(quizId));
+    }
+
+    /**
+     * Drops the cached snapshot of a quiz.
+     *
+     * @param quizId the quiz ID
+     */
+    public void invalidate(int quizId) {
+        synchronized (entries) {
+            entries.remove(quizId);
+        }
+    }
+
+    /**
+     * Drops all cached snapshots.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached snapshots, including stale ones not yet replaced.
+     *
+     * @return the current cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private QuizSnapshot getIfCurrent(int quizId, long version) {
+        synchronized (entries) {
+            Entry entry = entries.get(quizId);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.snapshot().getVersion() != version
+                    || (ttlNanos != Long.MAX_VALUE && clock.getAsLong() - entry.expiresAt() >= 0)) {
+                entries.remove(quizId);
+                return null;
+            }
+            return entry.snapshot();
+        }
+    }
+
+    /**
+     * Loads the quiz and stores it, unless it changed while loading.
+     */
+    private QuizSnapshot loadAndStore(int quizId) {
+        long version = versions.current(quizId);
+        Quiz quiz = quizDao.getQuizById(quizId);
+        if (quiz == null) {
+            return null;
+        }
+        List<QuizQuestionCreate> questions = questionDao.getQuestionsWithOptions(quizId);
+        QuizSnapshot snapshot = QuizSnapshot.of(quiz, questions, version);
+
+        List<Integer> questionIds = new ArrayList<>(questions.size());
+        for (QuizQuestionCreate q : questions) {
+            questionIds.add(q.getQuestionId());
+        }
+        versions.registerQuestions(quizId, questionIds);
+
+        synchronized (entries) {
+            if (versions.current(quizId) == version) {
+                long expiresAt = ttlNanos == Long.MAX_VALUE ? 0 : clock.getAsLong() + ttlNanos;
+                entries.put(quizId, new Entry(snapshot, expiresAt));
+            }
+        }
+        return snapshot;
+    }
+
+    private static QuizSnapshot await(CompletableFuture<QuizSnapshot> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
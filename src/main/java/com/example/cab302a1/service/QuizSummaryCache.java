@@ -0,0 +1,166 @@
+package com.example.cab302a1.service;
+
+import com.example.cab302a1.dao.DaoFactory;
+import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizSummary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded, in-memory cache of {@link QuizSummary} objects keyed by quiz ID.
+ * <p>
+ * The Home page warms the cache for all visible quizzes with one bulk count query
+ * ({@link #preload(Collection)}) while it loads the quiz list, so hovering an info
+ * badge is a memory lookup instead of a full question/option load.
+ * </p>
+ *
+ * <p>Key properties:</p>
+ * <ul>
+ *   <li>Least-recently-used eviction once {@link #DEFAULT_CAPACITY} entries are held</li>
+ *   <li>Thread-safe; may be filled from background loaders and read on the FX thread</li>
+ *   <li>Entries are dropped via {@link #invalidate(int)} when a quiz is edited,
+ *       and all of them via {@link #invalidateAll()} on logout</li>
+ *   <li>The shared instance looks up {@link DaoFactory#getQuestionDao()} on every load,
+ *       so it follows {@link DaoFactory#configure} instead of keeping the DAO it started with</li>
+ * </ul>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     QuizSummaryCache cache = QuizSummaryCache.getInstance();
+ *     cache.preload(visibleQuizzes);
+ *     QuizSummary summary = cache.getOrLoad(quiz);
+ * </pre>
+ */
+public class QuizSummaryCache {
+
+    /** Maximum number of summaries kept in memory. */
+    public static final int DEFAULT_CAPACITY = 512;
+
+    private static final QuizSummaryCache INSTANCE =
+            new QuizSummaryCache(DaoFactory::getQuestionDao, DEFAULT_CAPACITY);
+
+    private final Supplier<QuestionDao> questionDao;
+    private final Map<Integer, QuizSummary> entries;
+
+    /**
+     * Creates a cache backed by the given DAO.
+     *
+     * @param questionDao the DAO used to count questions on preload or miss
+     * @param capacity    the maximum number of entries before LRU eviction
+     */
+    public QuizSummaryCache(QuestionDao questionDao, int capacity) {
+        this(() -> questionDao, capacity);
+    }
+
+    private QuizSummaryCache(Supplier<QuestionDao> questionDao, int capacity) {
+        this.questionDao = questionDao;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, QuizSummary> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+    /**
+     * Returns the application-wide cache.
+     *
+     * @return the shared {@link QuizSummaryCache}
+     */
+    public static QuizSummaryCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Builds and caches summaries for the given quizzes using one bulk count query.
+     * <p>
+     * Safe to call from a background thread.
+     * </p>
+     *
+     * @param quizzes the quizzes to summarise (author and description are taken from them)
+     */
+    public void preload(Collection<Quiz> quizzes) {
+        if (quizzes == null || quizzes.isEmpty()) {
+            return;
+        }
+        List<Integer> ids = new ArrayList<>(quizzes.size());
+        for (Quiz q : quizzes) {
+            ids.add(q.getQuizId());
+        }
+        Map<Integer, Integer> counts = questionDao.get().getQuestionCounts(ids);
+
+        synchronized (entries) {
+            for (Quiz q : quizzes) {
+                entries.put(q.getQuizId(), QuizSummary.of(q, counts.getOrDefault(q.getQuizId(), 0)));
+            }
+        }
+    }
+
+    /**
+     * Returns the cached summary for a quiz, or {@code null} if not cached.
+     *
+     * @param quizId the quiz ID
+     * @return the cached {@link QuizSummary}, or {@code null}
+     */
+    public QuizSummary get(int quizId) {
+        synchronized (entries) {
+            return entries.get(quizId);
+        }
+    }
+
+    /**
+     * Returns the cached summary, counting the quiz's questions once on a miss.
+     *
+     * @param quiz the quiz to summarise
+     * @return the {@link QuizSummary} for the quiz
+     */
+    public QuizSummary getOrLoad(Quiz quiz) {
+        QuizSummary cached = get(quiz.getQuizId());
+        if (cached != null) {
+            return cached;
+        }
+        int count = Math.max(questionDao.get().getNumQuestion(quiz.getQuizId()), 0);
+        QuizSummary loaded = QuizSummary.of(quiz, count);
+        synchronized (entries) {
+            entries.put(quiz.getQuizId(), loaded);
+        }
+        return loaded;
+    }
+
+    /**
+     * Drops the cached summary for a quiz, e.g. after it was edited.
+     *
+     * @param quizId the quiz ID
+     */
+    public void invalidate(int quizId) {
+        synchronized (entries) {
+            entries.remove(quizId);
+        }
+    }
+
+    /**
+     * Drops all cached summaries; called on logout.
+     */
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached summaries.
+     *
+     * @return the current cache size
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+}
@@ -1,7 +1,6 @@
 package com.example.cab302a1.ui.flow;
 
 import com.example.cab302a1.dao.AttemptDao;
-import com.example.cab302a1.dao.ResponseDao;
 import com.example.cab302a1.model.QuestionResponse;
 import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.result.QuizResultController;
@@ -38,19 +37,16 @@ import java.util.List;
 public class StudentQuizFlow implements QuizFlow {
 
     private final AttemptDao attemptDao;
-    private final ResponseDao responseDao;
     private final QuizService quizService;
 
     /**
      * Constructs a StudentQuizFlow with required DAO dependencies.
      *
-     * @param attemptDao DAO for managing quiz attempts
-     * @param responseDao DAO for storing student responses
+     * @param attemptDao DAO for managing quiz attempts and submitting responses
      * @param quizService service for loading complete quiz data
      */
-    public StudentQuizFlow(AttemptDao attemptDao, ResponseDao responseDao, QuizService quizService) {
+    public StudentQuizFlow(AttemptDao attemptDao, QuizService quizService) {
         this.attemptDao = attemptDao;
-        this.responseDao = responseDao;
         this.quizService = quizService;
     }
 
@@ -133,9 +129,14 @@ public class StudentQuizFlow implements QuizFlow {
                         return;
                     }
 
-                    // Save responses & end attempt
-                    responseDao.saveResponse(attemptId, responses);
-                    attemptDao.endAttempt(attemptId);
+                    // Save, grade and close the attempt in one transaction
+                    if (!attemptDao.submitAttempt(attemptId, responses)) {
+                        // Already submitted (e.g. a double click) or the attempt no longer exists
+                        new Alert(Alert.AlertType.WARNING,
+                                "This attempt was already submitted or no longer exists. Your answers were not saved.",
+                                ButtonType.OK).showAndWait();
+                        return;
+                    }
 
                     // Show result
                     showResult(owner, fullQuiz, userId);
@@ -159,7 +160,8 @@ public class StudentQuizFlow implements QuizFlow {
      * Converts student selections into QuestionResponse objects.
      * <p>
      * Maps the list of selected option indices to QuestionResponse objects
-     * containing the attempt ID, question ID, chosen option ID, and correctness.
+     * containing the attempt ID, question ID and chosen option ID. Correctness is
+     * left unset; {@link AttemptDao#submitAttempt} grades each answer in the database.
      * </p>
      *
      * @param selections list of selected option indices (one per question)
@@ -181,7 +183,8 @@ public class StudentQuizFlow implements QuizFlow {
 
             var chosen = choices.get(selectedIndex);
 
-            QuestionResponse r = new QuestionResponse(attemptId, q.getQuestionId(), chosen.getOption_id(),chosen.isCorrect() );
+            // Correctness is graded from question_options when the response is saved
+            QuestionResponse r = new QuestionResponse(attemptId, q.getQuestionId(), chosen.getOption_id(), false);
 
             responses.add(r);
         }
@@ -202,7 +205,8 @@ public class StudentQuizFlow implements QuizFlow {
     private void showResult(Stage owner, Quiz quiz, int userId) {
         try {
             Integer score = attemptDao.getScore(quiz.getQuizId(), userId);
-            Quiz full = quizService.loadQuizFully(quiz);
+            // Reuse the graph loaded for the attempt; only hit the database when coming from the list
+            Quiz full = quiz.getQuestions().isEmpty() ? quizService.loadQuizFully(quiz) : quiz;
             int total = full.getQuestions().size();
 
             FXMLLoader fxml = new FXMLLoader(getClass().getResource("/com/example/cab302a1/result/QuizResult.fxml"));
@@ -1,20 +1,22 @@
 package com.example.cab302a1.ui.info;
 import com.example.cab302a1.model.Quiz;
-import com.example.cab302a1.service.QuizService;
+import com.example.cab302a1.model.QuizSummary;
+import com.example.cab302a1.service.QuizSummaryCache;
 
 
 
 public class QuizInfoProvider {
-    private final QuizService quizService;
-    public QuizInfoProvider(QuizService quizService) { this.quizService = quizService; }
+    private final QuizSummaryCache summaryCache;
+    public QuizInfoProvider(QuizSummaryCache summaryCache) { this.summaryCache = summaryCache; }
 
     public String build(Quiz quiz) {
         String teacher = (quiz.getAuthorUsername() != null && !quiz.getAuthorUsername().isBlank())
                 ? quiz.getAuthorUsername() : "Unknown";
         int count = 0;
         try {
-            Quiz full = quizService.loadQuizFully(quiz);
-            if (full.getQuestions() != null) count = full.getQuestions().size();
+            // Memory lookup when the Home page preloaded summaries; one COUNT query otherwise
+            QuizSummary summary = summaryCache.getOrLoad(quiz);
+            count = summary.getQuestionCount();
         } catch (Exception ignored) {}
         String desc = (quiz.getDescription() == null || quiz.getDescription().isBlank())
                 ? "(No description)" : quiz.getDescription();
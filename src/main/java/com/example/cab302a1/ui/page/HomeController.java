@@ -4,18 +4,21 @@ import com.example.cab302a1.ui.page.editor.QuizEditorController;
 import com.example.cab302a1.ui.action.HideQuizAction;
 import com.example.cab302a1.ui.info.QuizInfoProvider;
 import com.example.cab302a1.dao.QuizDao;
-import com.example.cab302a1.dao.AttemptDao;
 import com.example.cab302a1.dao.DaoFactory;
+import com.example.cab302a1.metrics.StartupTimer;
 import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.service.QuizService;
+import com.example.cab302a1.service.QuizSummaryCache;
 import com.example.cab302a1.ui.view.card.QuizCardFactory;
 import com.example.cab302a1.ui.action.CreateQuizAction;
 import com.example.cab302a1.ui.flow.QuizFlow;
 import com.example.cab302a1.ui.flow.StudentQuizFlow;
 import com.example.cab302a1.ui.flow.TeacherQuizFlow;
+import com.example.cab302a1.util.BackgroundLoader;
 import com.example.cab302a1.util.Session;
 import javafx.fxml.FXML;
 import javafx.fxml.Initializable;
+import javafx.scene.control.Alert;
 import javafx.scene.control.Label;
 import javafx.scene.layout.TilePane;
 import javafx.stage.Stage;
@@ -23,9 +26,11 @@ import javafx.application.Platform;
 import javafx.scene.Node;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.net.URL;
 import java.util.ResourceBundle;
 import com.example.cab302a1.components.NavigationManager;
+import com.example.cab302a1.components.ViewLifecycle;
 
 /**
  * Controller for the shared Home page used by both students and teachers.
@@ -40,7 +45,7 @@ import com.example.cab302a1.components.NavigationManager;
  *
  * @since 1.0
  */
-public class HomeController implements Initializable {
+public class HomeController implements Initializable, ViewLifecycle {
 
     /** Grid container displaying all quiz cards. */
     @FXML
@@ -58,7 +63,7 @@ public class HomeController implements Initializable {
 
     /** Handles quiz flow for student users (taking or reviewing quizzes). */
     private final QuizFlow studentFlow =
-            new StudentQuizFlow(DaoFactory.getAttemptDao(), DaoFactory.getResponseDao(), new QuizService());
+            new StudentQuizFlow(DaoFactory.getAttemptDao(), new QuizService());
 
     /** Handles quiz flow for teacher users (managing quizzes). */
     private final QuizFlow teacherFlow = new TeacherQuizFlow();
@@ -67,11 +72,14 @@ public class HomeController implements Initializable {
     private final HideQuizAction hideAction = new HideQuizAction(DaoFactory.getQuizDao());
 
     /** Provides detailed quiz info for display in tooltips or popups. */
-    private final QuizInfoProvider infoProvider = new QuizInfoProvider(new QuizService());
+    private final QuizInfoProvider infoProvider = new QuizInfoProvider(QuizSummaryCache.getInstance());
 
     /** Action for creating new quizzes (via '+' button). */
     private CreateQuizAction createAction;
 
+    /** Loads the quiz grid data off the FX thread; cancelled when the page is left. */
+    private final BackgroundLoader loader = new BackgroundLoader();
+
     /**
      * Initializes the Home page for either student or teacher role.
      * <p>
@@ -99,6 +107,9 @@ public class HomeController implements Initializable {
         // Update navigation bar to show "Home" as active
         com.example.cab302a1.components.NavbarController.updateNavbarState("home");
 
+        // Cancel in-flight loads when this page leaves the window
+        loader.bindTo(grid);
+
         // Refresh quiz cards after scene has been rendered
         Platform.runLater(this::refresh);
     }
@@ -109,31 +120,91 @@ public class HomeController implements Initializable {
      * - Teachers see only their own quizzes and can create new ones.<br>
      * - Students see all public quizzes available to them.
      * </p>
+     * <p>
+     * The quizzes and completion flags are fetched on a background thread via
+     * {@link BackgroundLoader}; the grid is then replaced in one step on the FX thread.
+     * Calling this again while a load is running supersedes the earlier load.
+     * </p>
      */
     public void refresh() {
-        grid.getChildren().clear();
-        quizzes.clear();
+        // Capture session state on the FX thread before going async
+        final boolean teacher = Session.isTeacher();
+        final boolean student = Session.isStudent();
+        final int userId = (Session.getCurrentUser() != null) ? Session.getCurrentUser().getUser_id() : 0;
+
+        loader.load(
+                () -> loadHomeData(teacher, student, userId),
+                this::render,
+                error -> {
+                    System.err.println("Failed to load quizzes: " + error.getMessage());
+                    new Alert(Alert.AlertType.ERROR, "Failed to load quizzes. Please try again.").show();
+                }
+        );
+    }
+
+    /**
+     * Reloads the quiz grid when {@link NavigationManager} shows this cached page again,
+     * so quizzes created, hidden or completed elsewhere are picked up.
+     */
+    @Override
+    public void onShow() {
+        refresh();
+    }
 
+    /**
+     * Fetches everything the home grid needs. Runs on a background thread and must not touch UI nodes.
+     *
+     * @param teacher whether the current user is a teacher
+     * @param student whether the current user is a student
+     * @param userId  the current user's ID
+     * @return the visible quizzes and, for students, which of them are completed
+     */
+    private static HomeData loadHomeData(boolean teacher, boolean student, int userId) {
         QuizDao quizDao = DaoFactory.getQuizDao();
         List<Quiz> all = new ArrayList<>();
 
-        if (Session.isTeacher()) {
-            all = quizDao.getQuizByTeacherId(Session.getCurrentUser().getUser_id());
-        } else if (Session.isStudent()) {
+        if (teacher) {
+            all = quizDao.getQuizByTeacherId(userId);
+        } else if (student) {
             all = quizDao.getAllQuizzes();
         }
 
+        List<Quiz> visible = new ArrayList<>();
         for (Quiz q : all) {
             Boolean hidden = q.getIsHidden();
             if (hidden == null || !hidden) {   // Only show visible quizzes
-                quizzes.add(q);
-                grid.getChildren().add(buildQuizCardForRole(q));
+                visible.add(q);
             }
         }
 
+        // Warm tooltip summaries with one bulk count so hovering needs no queries
+        QuizSummaryCache.getInstance().preload(visible);
+
+        // One query for all completion flags instead of one per card
+        Set<Integer> completed = student
+                ? DaoFactory.getAttemptDao().getCompletedQuizIds(userId)
+                : Set.of();
+        return new HomeData(visible, completed);
+    }
+
+    /**
+     * Publishes loaded data to the grid in a single update on the FX thread.
+     *
+     * @param data the model produced by {@link #loadHomeData(boolean, boolean, int)}
+     */
+    private void render(HomeData data) {
+        quizzes.clear();
+        quizzes.addAll(data.quizzes);
+
+        List<Node> cards = new ArrayList<>(data.quizzes.size() + 1);
+        for (Quiz q : data.quizzes) {
+            cards.add(buildQuizCardForRole(q, data.completedQuizIds.contains(q.getQuizId())));
+        }
         if (Session.isTeacher()) {
-            grid.getChildren().add(createAction.buildPlusCard());
+            cards.add(createAction.buildPlusCard());
         }
+        grid.getChildren().setAll(cards);
+        StartupTimer.getInstance().markAfterLayout(grid.getScene(), StartupTimer.HOME_RENDERED);
     }
 
     /**
@@ -143,15 +214,12 @@ public class HomeController implements Initializable {
      * - For teachers: Enables editing, hiding, and info viewing.
      * </p>
      *
-     * @param quiz the quiz object to render in the grid
+     * @param quiz        the quiz object to render in the grid
+     * @param isCompleted whether the current student has completed this quiz (ignored for teachers)
      * @return a JavaFX Node representing the quiz card
      */
-    private javafx.scene.Node buildQuizCardForRole(Quiz quiz) {
+    private javafx.scene.Node buildQuizCardForRole(Quiz quiz, boolean isCompleted) {
         if (Session.isStudent()) {
-            AttemptDao attemptDao = DaoFactory.getAttemptDao();
-            int userId = (Session.getCurrentUser() != null) ? Session.getCurrentUser().getUser_id() : 0;
-            boolean isCompleted = attemptDao.hasCompleted(quiz.getQuizId(), userId);
-
             return cardFactory.buildStudentCard(
                     quiz,
                     () -> infoProvider.build(quiz),
@@ -174,4 +242,17 @@ public class HomeController implements Initializable {
             );
         }
     }
+
+    /**
+     * Immutable snapshot of the data shown on the home grid.
+     */
+    private static final class HomeData {
+        private final List<Quiz> quizzes;
+        private final Set<Integer> completedQuizIds;
+
+        private HomeData(List<Quiz> quizzes, Set<Integer> completedQuizIds) {
+            this.quizzes = quizzes;
+            this.completedQuizIds = completedQuizIds;
+        }
+    }
 }
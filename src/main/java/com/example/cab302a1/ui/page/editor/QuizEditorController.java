@@ -13,12 +13,11 @@ package com.example.cab302a1.ui.page.editor;
  *  - Opened from HomeController (teacher '+' button) as a modal dialog.
  */
 
-import com.example.cab302a1.dao.OptionDao;
-import com.example.cab302a1.dao.QuestionDao;
 import com.example.cab302a1.dao.QuizDao;
 import com.example.cab302a1.dao.DaoFactory;
 import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.service.QuizSummaryCache;
 import com.example.cab302a1.ui.view.components.question.QuestionItemController;
 import com.example.cab302a1.util.Session;
 import javafx.fxml.FXML;
@@ -125,69 +124,35 @@ public class QuizEditorController {
 
 
     private void onDone() {
+        // Only the form checks count as validation; failures while saving are real errors
+        Quiz built;
+        try {
+            built = buildQuizFromUI();
+        } catch (IllegalStateException ex) {
+            showAlert("Validation", ex.getMessage(), Alert.AlertType.WARNING);
+            return;
+        }
+
         try {
-            Quiz built = buildQuizFromUI();
             built.setCreated_by(Session.getCurrentUser().getUser_id());
 
             QuizDao quizDao = DaoFactory.getQuizDao();
-            QuestionDao questionDao = DaoFactory.getQuestionDao();
-            OptionDao optionDao =DaoFactory.getOptionDao();
-
-            if(editing != null){
-                built.setQuizId(editing.getQuizId());
-                quizDao.updateQuiz(built);
-
-                for(QuizQuestionCreate q : built.getQuestions()){
-                    if(q.getQuestionId() > 0){
-                        questionDao.updateQuestion(q);
-                    }else{
-                        q.setQuizId(built.getQuizId());
-                        int newIdForQuestion = questionDao.insertQuestion(q);
-                        q.setQuestionId(newIdForQuestion);
-                    }
-
-                    for (QuizChoiceCreate choice : q.getChoices()) {
-                        if (choice.getOption_id() > 0) {
-                            optionDao.updateOption(choice);
-                        } else {
-                            choice.setQuestion_id(q.getQuestionId());
-                            int newOid = optionDao.insertOption(choice);
-                            choice.setOption_id(newOid);
-                        }
-                    }
-
-                }
-            } else{
-                int quiz_id = quizDao.insertQuiz(built);
-                built.setQuizId(quiz_id);
-
-
-                for (QuizQuestionCreate q : built.getQuestions()) {
-                    q.setQuizId(quiz_id);
-                    int questionId = questionDao.insertQuestion(q);
-                    q.setQuestionId(questionId);
-
-
-                    for (QuizChoiceCreate choice : q.getChoices()) {
-                        choice.setQuestion_id(questionId);
-                        int optionId = optionDao.insertOption(choice);
-                        choice.setOption_id(optionId);
-                    }
-                }
-            }
 
+            // One transaction: new rows are batch-inserted, unchanged rows are skipped
+            built.setQuizId(editing != null ? editing.getQuizId() : 0);
+            quizDao.saveQuizGraph(built);
 
+            // Question count / description may have changed
+            QuizSummaryCache.getInstance().invalidate(built.getQuizId());
 
             if (onSave != null) {
                 onSave.accept(built);
             }
 
             if (myStage != null) myStage.close();
-        } catch (IllegalStateException ex) {
-            showAlert("Validation", ex.getMessage(), Alert.AlertType.WARNING);
         } catch (Exception ex) {
             ex.printStackTrace();
-            showAlert("Error", "Failed to build quiz: " + ex.getMessage(), Alert.AlertType.ERROR);
+            showAlert("Error", "Failed to save quiz: " + ex.getMessage(), Alert.AlertType.ERROR);
         }
     }
 
@@ -0,0 +1,66 @@
+package com.example.cab302a1.ui.page.review.result;
+
+import com.example.cab302a1.model.QuizChoiceCreate;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.result.ResultQuestion;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * List cell showing one reviewed question on the result detail page.
+ * <p>
+ * Each cell parses {@code ResultQuestionItem.fxml} once and keeps the node as a template;
+ * the {@code ListView} only creates cells for the rows in view and re-binds them to other
+ * questions while scrolling. Binding resets the text, highlights and explanation, so a
+ * reused view never shows state from the question it displayed before.
+ * </p>
+ */
+public class ResultQuestionCell extends ListCell<ResultQuestion> {
+
+    private static final String FXML = "/com/example/cab302a1/result/ResultQuestionItem.fxml";
+
+    private final Node view;
+    private final ResultQuestionItemController item;
+
+    /** Creates a cell and parses its question view. */
+    public ResultQuestionCell() {
+        try {
+            FXMLLoader fxml = new FXMLLoader(ResultQuestionCell.class.getResource(FXML));
+            view = fxml.load();
+            item = fxml.getController();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // Size to the list width rather than the card's preferred width (no horizontal scrolling)
+        setPrefWidth(0);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        getStyleClass().add("result-question-cell");
+    }
+
+    @Override
+    protected void updateItem(ResultQuestion rq, boolean empty) {
+        super.updateItem(rq, empty);
+        if (empty || rq == null || rq.getQuestion() == null) {
+            setGraphic(null);
+            return;
+        }
+
+        QuizQuestionCreate question = rq.getQuestion();
+        List<String> answerTexts = question.getChoices() == null ? List.of()
+                : question.getChoices().stream().map(QuizChoiceCreate::getText).toList();
+
+        item.setIndex(getIndex() + 1, getListView().getItems().size());
+        item.setQuestionText(question.getQuestionText());
+        item.setAnswers(answerTexts);
+        item.highlightAnswers(rq.getCorrectIndex(), rq.getSelectedIndex());
+        item.setExplanation(question.getExplanation());
+        setGraphic(view);
+    }
+}
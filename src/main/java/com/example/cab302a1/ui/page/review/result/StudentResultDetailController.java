@@ -1,25 +1,24 @@
 package com.example.cab302a1.ui.page.review.result;
 
 import com.example.cab302a1.dao.DaoFactory;
-import com.example.cab302a1.model.QuizChoiceCreate;
 import com.example.cab302a1.result.ResultDetail;
 import com.example.cab302a1.result.ResultQuestion;
 import com.example.cab302a1.service.QuizResultDetailService;
+import com.example.cab302a1.service.QuizSnapshotCache;
+import com.example.cab302a1.util.BackgroundLoader;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.layout.VBox;
+import javafx.scene.control.ListView;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Controller for displaying a student's detailed quiz results.
@@ -28,6 +27,11 @@ import java.util.stream.Collectors;
  * selected responses. Used in the result review page after a student
  * completes a quiz.
  * </p>
+ * <p>
+ * The window opens straight away and the result is loaded in the background.
+ * Questions are shown in a virtualized {@link ListView} of {@link ResultQuestionCell}s,
+ * so only the first screenful is rendered up front and the rest as they scroll into view.
+ * </p>
  *
  * @since 1.0
  */
@@ -39,8 +43,8 @@ public class StudentResultDetailController {
     /** Label displaying quiz description. */
     @FXML private Label descriptionLabel;
 
-    /** Container for dynamically loaded question items. */
-    @FXML private VBox questionsBox;
+    /** Virtualized list of the reviewed questions. */
+    @FXML private ListView<ResultQuestion> questionList;
 
     /** Button to close the review window. */
     @FXML private Button doneButton;
@@ -51,6 +55,9 @@ public class StudentResultDetailController {
     /** Optional callback executed when the done button is pressed. */
     private Runnable onDone;
 
+    /** Loads the result off the FX thread; cancelled if the window is closed first. */
+    private final BackgroundLoader loader = new BackgroundLoader();
+
     /**
      * Opens the result detail page in a modal dialog window.
      *
@@ -96,92 +103,64 @@ public class StudentResultDetailController {
     /**
      * Loads and displays the detailed quiz result for a given attempt.
      * <p>
-     * Retrieves data via {@link QuizResultDetailService}, populates
-     * question views, and highlights correct/selected answers.
+     * Retrieves data via {@link QuizResultDetailService} on a background thread,
+     * then hands the questions to the virtualized list, which populates and
+     * highlights each question view as it becomes visible.
      * </p>
      *
      * @param quizId the quiz ID
      * @param attemptId the attempt ID
      */
     private void loadResultDetail(int quizId, int attemptId) {
-        try {
-            QuizResultDetailService service = new QuizResultDetailService(
-                    DaoFactory.getQuizDao(), DaoFactory.getQuestionDao(), DaoFactory.getOptionDao(), DaoFactory.getResponseDao()
-            );
-
-            ResultDetail resultDetail = service.getResultDetail(attemptId, quizId);
-
-            if (resultDetail == null) {
-                new Alert(Alert.AlertType.ERROR, "Failed to load quiz results").showAndWait();
-                if (stage != null) stage.close();
-                return;
-            }
-
-            var quiz = resultDetail.getQuiz();
-            String title = (quiz != null && quiz.getTitle() != null) ? quiz.getTitle() : "Quiz Results";
-            String desc  = (quiz != null && quiz.getDescription() != null) ? quiz.getDescription() : "Review your answers below";
-
-            titleLabel.setText(title);
-            descriptionLabel.setText(desc);
-
-            // Populate question list
-            questionsBox.getChildren().clear();
-            List<ResultQuestion> questions = resultDetail.getResultQuestions();
-
-            if (questions == null || questions.isEmpty()) {
-                Label noQuestions = new Label("No questions found");
-                questionsBox.getChildren().add(noQuestions);
-                return;
-            }
+        doneButton.setOnAction(ev -> {
+            if (onDone != null) onDone.run();
+            stage.close();
+        });
+        if (stage != null) {
+            // Drop the load if the window is closed before it completes
+            stage.setOnHidden(ev -> loader.cancel());
+        }
 
-            int total = questions.size();
-            for (int i = 0; i < total; i++) {
-                ResultQuestion rq = questions.get(i);
-
-                try {
-                    FXMLLoader fxml = new FXMLLoader(getClass().getResource(
-                            "/com/example/cab302a1/result/ResultQuestionItem.fxml"));
-                    Node node = fxml.load();
-                    ResultQuestionItemController item = fxml.getController();
-
-                    item.setIndex(i + 1, total);
-                    item.setQuestionText(rq.getQuestion().getQuestionText());
-
-                    List<QuizChoiceCreate> choices = rq.getQuestion().getChoices();
-                    List<String> answerTexts = choices.stream()
-                            .map(QuizChoiceCreate::getText)
-                            .collect(Collectors.toList());
-                    item.setAnswers(answerTexts);
-
-                    int correctIndex = -1;
-                    int selectedIndex = -1;
-                    int chosenOptionId = rq.getChosenOption_id();
-
-                    for (int j = 0; j < choices.size(); j++) {
-                        QuizChoiceCreate choice = choices.get(j);
-                        if (choice.isCorrect()) correctIndex = j;
-                        if (choice.getOption_id() == chosenOptionId) selectedIndex = j;
-                    }
-
-                    item.highlightAnswers(correctIndex, selectedIndex);
-                    item.setExplanation(rq.getQuestion().getExplanation());
-                    questionsBox.getChildren().add(node);
-
-                } catch (IOException ex) {
-                    ex.printStackTrace();
-                    System.err.println("Failed to load question item: " + ex.getMessage());
+        questionList.setCellFactory(lv -> new ResultQuestionCell());
+        questionList.setPlaceholder(new Label("Loading results..."));
+        loader.bindTo(questionList);
+
+        QuizResultDetailService service = new QuizResultDetailService(
+                QuizSnapshotCache.getInstance(), DaoFactory.getResponseDao()
+        );
+        loader.load(
+                () -> service.getResultDetail(attemptId, quizId),
+                this::showResultDetail,
+                e -> {
+                    e.printStackTrace();
+                    new Alert(Alert.AlertType.ERROR, "Error loading quiz results: " + e.getMessage()).showAndWait();
+                    if (stage != null) stage.close();
                 }
-            }
-
-            doneButton.setOnAction(ev -> {
-                if (onDone != null) onDone.run();
-                stage.close();
-            });
+        );
+    }
 
-        } catch (Exception e) {
-            e.printStackTrace();
-            new Alert(Alert.AlertType.ERROR, "Error loading quiz results: " + e.getMessage()).showAndWait();
+    /**
+     * Shows a loaded result: header texts and the question list.
+     *
+     * @param resultDetail the loaded result, or null if it could not be built
+     */
+    private void showResultDetail(ResultDetail resultDetail) {
+        if (resultDetail == null) {
+            new Alert(Alert.AlertType.ERROR, "Failed to load quiz results").showAndWait();
             if (stage != null) stage.close();
+            return;
         }
+
+        var quiz = resultDetail.getQuiz();
+        String title = (quiz != null && quiz.getTitle() != null) ? quiz.getTitle() : "Quiz Results";
+        String desc  = (quiz != null && quiz.getDescription() != null) ? quiz.getDescription() : "Review your answers below";
+
+        titleLabel.setText(title);
+        descriptionLabel.setText(desc);
+
+        // Populate question list; cells are built for the visible rows only
+        List<ResultQuestion> questions = resultDetail.getResultQuestions();
+        questionList.setPlaceholder(new Label("No questions found"));
+        questionList.getItems().setAll(questions == null ? List.of() : questions);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.cab302a1.ui.page.review.student;
 
+import com.example.cab302a1.components.ViewLifecycle;
 import com.example.cab302a1.dao.DaoFactory;
 import com.example.cab302a1.dao.QuestionDao;
 import com.example.cab302a1.dao.ReviewDao;
@@ -8,6 +9,7 @@ import com.example.cab302a1.model.User;
 import com.example.cab302a1.result.QuizResultController;
 import com.example.cab302a1.result.QuizResultService;
 import com.example.cab302a1.ui.page.review.ReviewPageController;
+import com.example.cab302a1.util.BackgroundLoader;
 import com.example.cab302a1.util.Session;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +20,7 @@ import javafx.stage.Stage;
 
 import java.io.IOException;
 import java.net.URL;
+import java.util.List;
 import java.util.ResourceBundle;
 
 /**
@@ -25,7 +28,7 @@ import java.util.ResourceBundle;
  * Displays all quiz attempts and feedback for the currently logged-in student
  * in a tabular format, providing options to view results and feedback.
  */
-public class StudentReviewController implements Initializable, ReviewPageController {
+public class StudentReviewController implements Initializable, ReviewPageController, ViewLifecycle {
 
     /**
      * The TableView displaying all quiz attempts.
@@ -61,6 +64,9 @@ public class StudentReviewController implements Initializable, ReviewPageControl
      */
     private final ReviewDao reviewDao = DaoFactory.getReviewDao();
 
+    /** Loads attempt history off the FX thread. */
+    private final BackgroundLoader loader = new BackgroundLoader();
+
     private Stage stage;
 
     /**
@@ -73,6 +79,9 @@ public class StudentReviewController implements Initializable, ReviewPageControl
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         setupTableColumns(); // Configure columns and buttons
+        if (studentQuizTable != null) {
+            loader.bindTo(studentQuizTable); // Cancel loading if the page is left early
+        }
         loadReviewData(); // Load data immediately upon entering the scene
     }
 
@@ -192,26 +201,47 @@ public class StudentReviewController implements Initializable, ReviewPageControl
     /**
      * Loads quiz attempt data for the currently logged-in student from the database
      * and populates the {@code studentQuizTable}.
-     * Clears the table and sets a placeholder if no attempts are found.
+     * The query runs in the background; the table is filled in one step once it completes.
+     * Sets a placeholder if no attempts are found.
      */
     @Override
     public void loadReviewData() {
-        reviewData.clear();
-
         User currentUser = Session.getCurrentUser();
 
-        if (currentUser != null) {
-            int studentId = currentUser.getUser_id();
-
-            try {
-                reviewData.addAll(reviewDao.getAllAttemptsById(studentId));
-            } catch (Exception e) {
-                System.err.println("Error fetching quiz attempts for current user: " + e.getMessage());
-            }
-        } else {
+        if (currentUser == null) {
             System.err.println("Load data failed: No current user found in Session.");
+            publishReviewData(List.of());
+            return;
         }
 
+        int studentId = currentUser.getUser_id();
+        loader.load(
+                () -> reviewDao.getAllAttemptsById(studentId),
+                this::publishReviewData,
+                e -> {
+                    System.err.println("Error fetching quiz attempts for current user: " + e.getMessage());
+                    publishReviewData(List.of());
+                }
+        );
+    }
+
+    /**
+     * Reloads the attempt history when the cached page is shown again,
+     * so attempts submitted since the last visit are listed.
+     */
+    @Override
+    public void onShow() {
+        loadReviewData();
+    }
+
+    /**
+     * Replaces the table contents with the loaded attempts.
+     *
+     * @param attempts the attempts to display
+     */
+    private void publishReviewData(List<QuizReview> attempts) {
+        reviewData.setAll(attempts);
+
         if (reviewData.isEmpty() && studentQuizTable != null) {
             studentQuizTable.setPlaceholder(new Label("You have not completed any quizzes yet."));
         }
@@ -220,4 +250,4 @@ public class StudentReviewController implements Initializable, ReviewPageControl
             studentQuizTable.setItems(reviewData);
         }
     }
-}
\ No newline at end of file
+}
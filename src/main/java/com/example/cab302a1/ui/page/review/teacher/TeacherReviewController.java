@@ -1,5 +1,6 @@
 package com.example.cab302a1.ui.page.review.teacher;
 
+import com.example.cab302a1.components.ViewLifecycle;
 import com.example.cab302a1.dao.ReviewDao;
 import com.example.cab302a1.dao.AttemptDao;
 import com.example.cab302a1.dao.UserDao;
@@ -27,7 +28,7 @@ import java.util.ResourceBundle;
  * Displays a list of all students and allows the teacher to select a student
  * to view their quiz attempts and assign feedback.
  */
-public class TeacherReviewController implements Initializable, ReviewPageController {
+public class TeacherReviewController implements Initializable, ReviewPageController, ViewLifecycle {
 
     /**
      * The TableView displaying the quiz attempts for the currently selected student.
@@ -219,6 +220,18 @@ public class TeacherReviewController implements Initializable, ReviewPageControl
         }
     }
 
+    /**
+     * Refreshes the student list and, if a student is selected, their attempts
+     * when the cached page is shown again.
+     */
+    @Override
+    public void onShow() {
+        loadStudentList();
+        if (currentSelectedStudentId != -1) {
+            loadReviewData();
+        }
+    }
+
     /**
      * Configures the TableView columns, setting up cell value factories and delegating
      * button column creation to helper methods.
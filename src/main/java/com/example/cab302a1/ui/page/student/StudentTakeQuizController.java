@@ -1,25 +1,23 @@
 package com.example.cab302a1.ui.page.student;
 
+import com.example.cab302a1.model.AnswerSelections;
 import com.example.cab302a1.model.Quiz;
-import com.example.cab302a1.model.QuizChoiceCreate;
-import com.example.cab302a1.ui.view.components.question.StudentQuestionItemController;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.ui.view.components.question.StudentQuestionCell;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
-import javafx.scene.Node;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
-import javafx.scene.layout.VBox;
+import javafx.scene.control.ListView;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * Controller responsible for handling the student quiz-taking interface.
@@ -28,6 +26,11 @@ import java.util.stream.Collectors;
  * collects the student's selected answers, and triggers a callback when
  * the quiz is submitted.
  * </p>
+ * <p>
+ * Questions are shown in a virtualized {@link ListView}: only the questions in view
+ * have a (recycled) {@link StudentQuestionCell}, and the answers are kept in an
+ * {@link AnswerSelections}, so opening a long exam costs the same as a short one.
+ * </p>
  */
 public class StudentTakeQuizController {
 
@@ -37,14 +40,14 @@ public class StudentTakeQuizController {
     /** Label showing the quiz description. */
     @FXML private Label descriptionLabel;
 
-    /** Container for dynamically loaded question items. */
-    @FXML private VBox questionsBox;
+    /** Virtualized list of the quiz questions. */
+    @FXML private ListView<QuizQuestionCreate> questionList;
 
     /** Button for submitting answers and closing the quiz. */
     @FXML private Button doneButton;
 
-    /** List of controllers for each displayed question. */
-    private final List<StudentQuestionItemController> itemControllers = new ArrayList<>();
+    /** The answers chosen so far, one entry per question. */
+    private AnswerSelections selections = new AnswerSelections(0);
 
     /** Reference to the quiz stage (modal window). */
     private Stage stage;
@@ -86,9 +89,9 @@ public class StudentTakeQuizController {
     /**
      * Loads the quiz content into the UI and prepares question items.
      * <p>
-     * This method dynamically generates each question component,
-     * binds question text and answer choices, and attaches submit logic
-     * to the Done button.
+     * This method hands the questions to the virtualized list, which binds
+     * question text and answer choices as cells scroll into view, and attaches
+     * submit logic to the Done button.
      * </p>
      *
      * @param quiz the {@link Quiz} object to load and display
@@ -97,44 +100,15 @@ public class StudentTakeQuizController {
         titleLabel.setText(quiz.getTitle() == null ? "Quiz" : quiz.getTitle());
         descriptionLabel.setText(quiz.getDescription() == null ? "" : quiz.getDescription());
 
-        questionsBox.getChildren().clear();
-        itemControllers.clear();
-
-        // Load each question if available
-        if (quiz.getQuestions() == null || quiz.getQuestions().isEmpty()) {
-            // No questions to display
-        } else {
-            int total = quiz.getQuestions().size();
-            for (int i = 0; i < total; i++) {
-                var q = quiz.getQuestions().get(i);
-
-                try {
-                    FXMLLoader fxml = new FXMLLoader(getClass().getResource(
-                            "/com/example/cab302a1/StudentQuizPage/StudentQuestionItem.fxml"));
-                    Node node = fxml.load();
-                    StudentQuestionItemController item = fxml.getController();
-
-                    item.setIndex(i + 1, total);
-                    item.setQuestionText(q.getQuestionText());
-
-                    var texts = q.getChoices().stream()
-                            .map(QuizChoiceCreate::getText)
-                            .collect(Collectors.toList());
-                    item.setAnswers(texts);
-
-                    itemControllers.add(item);
-                    questionsBox.getChildren().add(node);
-                } catch (IOException ex) {
-                    throw new RuntimeException(ex);
-                }
-            }
-        }
+        List<QuizQuestionCreate> questions = quiz.getQuestions() == null ? List.of() : quiz.getQuestions();
+        selections = new AnswerSelections(questions.size());
+
+        AnswerSelections sheet = selections;
+        questionList.setCellFactory(lv -> new StudentQuestionCell(sheet));
+        questionList.getItems().setAll(questions);
 
         doneButton.setOnAction(ev -> {
-            List<Integer> selections = itemControllers.stream()
-                    .map(StudentQuestionItemController::getSelectedIndex)
-                    .toList();
-            if (onSubmit != null) onSubmit.accept(selections);
+            if (onSubmit != null) onSubmit.accept(selections.toList());
             stage.close();
         });
     }
@@ -1,11 +1,9 @@
 package com.example.cab302a1.ui.page.teacher;
 
-import com.example.cab302a1.dao.OptionDao;
-import com.example.cab302a1.dao.QuestionDao;
-import com.example.cab302a1.dao.DaoFactory;
 import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.model.QuizChoiceCreate;
 import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.service.QuizService;
 import com.example.cab302a1.ui.page.editor.QuizEditorController;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
@@ -16,7 +14,6 @@ import javafx.stage.Modality;
 import javafx.stage.Stage;
 
 import java.net.URL;
-import java.util.List;
 import java.util.function.Consumer;
 
 /**
@@ -76,15 +73,8 @@ public class TeacherQuizDetailController {
             c.stage.setTitle("Quiz Detail");
             c.stage.setScene(new Scene(root, 700, 650));
 
-            // Load questions and options from the database
-            QuestionDao questionDao = DaoFactory.getQuestionDao();
-            List<QuizQuestionCreate> loadedQuestions = questionDao.getAllQuestions(quiz.getQuizId());
-
-            OptionDao optionDao = DaoFactory.getOptionDao();
-            for (QuizQuestionCreate q : loadedQuestions) {
-                q.getChoices().addAll(optionDao.getOptionsByQuestionId(q.getQuestionId()));
-            }
-            quiz.setQuestions(loadedQuestions);
+            // Load questions and options from the database (single query)
+            new QuizService().loadQuizFully(quiz);
 
             c.setData(quiz, onUpdated);
             c.stage.show();
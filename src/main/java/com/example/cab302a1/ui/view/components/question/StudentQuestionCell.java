@@ -0,0 +1,85 @@
+package com.example.cab302a1.ui.view.components.question;
+
+import com.example.cab302a1.model.AnswerSelections;
+import com.example.cab302a1.model.QuizChoiceCreate;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Node;
+import javafx.scene.control.ContentDisplay;
+import javafx.scene.control.ListCell;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * List cell showing one question of the take-quiz page.
+ * <p>
+ * {@code StudentQuestionItem.fxml} is parsed once per cell, and a {@code ListView} only
+ * creates enough cells to fill the viewport; while scrolling, the same cells are bound to
+ * other questions. The chosen answers therefore live in a shared {@link AnswerSelections},
+ * which every cell reads when it is bound and writes when the user picks an answer.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     AnswerSelections selections = new AnswerSelections(questions.size());
+ *     listView.setCellFactory(lv -&gt; new StudentQuestionCell(selections));
+ *     listView.getItems().setAll(questions);
+ * </pre>
+ */
+public class StudentQuestionCell extends ListCell<QuizQuestionCreate> {
+
+    private static final String FXML = "/com/example/cab302a1/StudentQuizPage/StudentQuestionItem.fxml";
+
+    private final AnswerSelections selections;
+    private final Node view;
+    private final StudentQuestionItemController item;
+
+    /**
+     * Creates a cell and parses its question view.
+     *
+     * @param selections the attempt's answers, indexed like the list items
+     */
+    public StudentQuestionCell(AnswerSelections selections) {
+        this.selections = selections;
+        try {
+            FXMLLoader fxml = new FXMLLoader(StudentQuestionCell.class.getResource(FXML));
+            view = fxml.load();
+            item = fxml.getController();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        item.setOnSelect(option -> {
+            int index = getIndex();
+            if (!isEmpty() && index >= 0 && index < selections.size()) {
+                selections.set(index, option);
+            }
+        });
+
+        // Size to the list width rather than the card's preferred width (no horizontal scrolling)
+        setPrefWidth(0);
+        setContentDisplay(ContentDisplay.GRAPHIC_ONLY);
+        getStyleClass().add("student-question-cell");
+    }
+
+    @Override
+    protected void updateItem(QuizQuestionCreate question, boolean empty) {
+        super.updateItem(question, empty);
+        if (empty || question == null) {
+            setGraphic(null);
+            return;
+        }
+
+        int index = getIndex();
+        item.setIndex(index + 1, getListView().getItems().size());
+        item.setQuestionText(question.getQuestionText());
+        List<String> texts = question.getChoices().stream()
+                .map(QuizChoiceCreate::getText)
+                .toList();
+        item.setAnswers(texts);
+        item.setSelectedIndex(index < selections.size() ? selections.get(index) : AnswerSelections.NONE);
+        setGraphic(view);
+    }
+}
@@ -4,9 +4,11 @@ import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 import javafx.scene.control.ToggleButton;
+import javafx.scene.control.Toggle;
 import javafx.scene.control.ToggleGroup;
 
 import java.util.List;
+import java.util.function.IntConsumer;
 
 public class StudentQuestionItemController {
 
@@ -19,6 +21,10 @@ public class StudentQuestionItemController {
 
     private final ToggleGroup group = new ToggleGroup();
 
+    /** Told about selections made by the user, not about {@link #setSelectedIndex}. */
+    private IntConsumer onSelect;
+    private boolean updating;
+
     @FXML
     public void initialize() {
         btnA.setToggleGroup(group);
@@ -26,6 +32,12 @@ public class StudentQuestionItemController {
         btnC.setToggleGroup(group);
         btnD.setToggleGroup(group);
 
+        group.selectedToggleProperty().addListener((obs, oldToggle, newToggle) -> {
+            if (!updating && onSelect != null) {
+                onSelect.accept(indexOf(newToggle));
+            }
+        });
+
         // only button can click
         questionField.setEditable(false);
         questionField.setMouseTransparent(true);
@@ -48,11 +60,45 @@ public class StudentQuestionItemController {
     }
 
     public int getSelectedIndex() {
-        if (group.getSelectedToggle() == null) return -1;
-        if (group.getSelectedToggle() == btnA) return 0;
-        if (group.getSelectedToggle() == btnB) return 1;
-        if (group.getSelectedToggle() == btnC) return 2;
-        if (group.getSelectedToggle() == btnD) return 3;
+        return indexOf(group.getSelectedToggle());
+    }
+
+    /**
+     * Shows a stored answer, e.g. when this view is reused for another question.
+     * Does not notify the {@link #setOnSelect} listener.
+     *
+     * @param index option index 0-3, or -1 for none
+     */
+    public void setSelectedIndex(int index) {
+        updating = true;
+        try {
+            switch (index) {
+                case 0 -> group.selectToggle(btnA);
+                case 1 -> group.selectToggle(btnB);
+                case 2 -> group.selectToggle(btnC);
+                case 3 -> group.selectToggle(btnD);
+                default -> group.selectToggle(null);
+            }
+        } finally {
+            updating = false;
+        }
+    }
+
+    /**
+     * Sets the listener for answers picked by the user.
+     *
+     * @param onSelect receives the new option index, or -1 when deselected
+     */
+    public void setOnSelect(IntConsumer onSelect) {
+        this.onSelect = onSelect;
+    }
+
+    private int indexOf(Toggle toggle) {
+        if (toggle == null) return -1;
+        if (toggle == btnA) return 0;
+        if (toggle == btnB) return 1;
+        if (toggle == btnC) return 2;
+        if (toggle == btnD) return 3;
         return -1;
     }
 }
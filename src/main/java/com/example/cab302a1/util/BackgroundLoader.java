@@ -0,0 +1,172 @@
+package com.example.cab302a1.util;
+
+import com.example.cab302a1.metrics.QueryTracker;
+import javafx.beans.value.ChangeListener;
+import javafx.concurrent.Task;
+import javafx.scene.Node;
+import javafx.stage.Window;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Runs page data loading off the JavaFX Application Thread.
+ * <p>
+ * Each page controller owns one {@code BackgroundLoader}. A call to
+ * {@link #load(Callable, Consumer, Consumer)} runs the database work as a
+ * {@link Task} on a shared virtual-thread executor and hands the finished model
+ * back to the FX thread in a single step, so the UI is updated once instead of
+ * once per DAO call.
+ * </p>
+ *
+ * <p>Behaviour:</p>
+ * <ul>
+ *   <li>Starting a new load cancels the previous one, so stale results never overwrite newer ones</li>
+ *   <li>After {@link #bindTo(Node)}, the running load is cancelled when the page leaves its window
+ *       (e.g. {@link com.example.cab302a1.components.NavigationManager} swaps the scene)</li>
+ *   <li>Results of a cancelled task are dropped; only the latest successful task publishes</li>
+ *   <li>When {@code N_PLUS_ONE_THRESHOLD} is set, each load is a {@link QueryTracker} operation
+ *       named after the calling class, and repeated queries are reported</li>
+ * </ul>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     private final BackgroundLoader loader = new BackgroundLoader();
+ *
+ *     loader.bindTo(grid);
+ *     loader.load(() -> dao.getAllQuizzes(),
+ *                 quizzes -> render(quizzes),
+ *                 error -> showError(error));
+ * </pre>
+ */
+public final class BackgroundLoader {
+
+    /** Shared executor; virtual threads keep blocking JDBC calls cheap. */
+    private static final ExecutorService EXECUTOR =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("page-loader-", 0).factory());
+
+    /** The most recently started task, or {@code null} if none is running. */
+    private Task<?> current;
+
+    /** Cancels the running load when the bound node's scene is removed from its window. */
+    private final ChangeListener<Window> windowListener = (obs, oldWindow, newWindow) -> {
+        if (oldWindow != null && newWindow == null) {
+            cancel();
+        }
+    };
+
+    /**
+     * Ties the lifetime of running loads to a node on the page.
+     * <p>
+     * When the node is detached from its scene, or the scene is detached from its
+     * window, the current task is cancelled. Call once, typically from {@code initialize}.
+     * </p>
+     *
+     * @param node any node that lives on the owning page
+     * @return this loader, for chaining
+     */
+    public BackgroundLoader bindTo(Node node) {
+        if (node.getScene() != null) {
+            node.getScene().windowProperty().addListener(windowListener);
+        }
+        node.sceneProperty().addListener((obs, oldScene, newScene) -> {
+            if (oldScene != null) {
+                oldScene.windowProperty().removeListener(windowListener);
+            }
+            if (newScene != null) {
+                newScene.windowProperty().addListener(windowListener);
+            } else if (oldScene != null) {
+                cancel();
+            }
+        });
+        return this;
+    }
+
+    /**
+     * Loads data in the background and publishes it on the FX thread.
+     * <p>
+     * Must be called from the FX thread. Any load still running on this
+     * loader is cancelled first.
+     * </p>
+     *
+     * @param work      the blocking work to run (DAO calls); must not touch UI nodes
+     * @param onSuccess receives the result on the FX thread
+     * @param onError   receives any failure on the FX thread; may be {@code null}
+     * @param <T>       the type of the loaded model
+     * @return the started {@link Task}
+     */
+    public <T> Task<T> load(Callable<T> work, Consumer<T> onSuccess, Consumer<Throwable> onError) {
+        cancel();
+
+        Task<T> task = new Task<>() {
+            @Override
+            protected T call() throws Exception {
+                QueryTracker tracker = QueryTracker.getInstance();
+                if (!tracker.isEnabled()) {
+                    return work.call();
+                }
+                try (QueryTracker.Scope ignored = tracker.begin(operationName(work))) {
+                    return work.call();
+                }
+            }
+        };
+        task.setOnSucceeded(e -> {
+            if (current == task) {
+                current = null;
+                onSuccess.accept(task.getValue());
+            }
+        });
+        task.setOnFailed(e -> {
+            if (current == task) {
+                current = null;
+                if (onError != null) {
+                    onError.accept(task.getException());
+                } else {
+                    System.err.println("Background load failed: " + task.getException());
+                }
+            }
+        });
+
+        current = task;
+        EXECUTOR.execute(task);
+        return task;
+    }
+
+    /**
+     * Names a load after the class that created the lambda, e.g. {@code HomeController}.
+     */
+    private static String operationName(Object work) {
+        String name = work.getClass().getName();
+        int lambda = name.indexOf("$$");
+        if (lambda > 0) {
+            name = name.substring(0, lambda);
+        }
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Cancels the running load, if any. Its result will not be published.
+     * <p>
+     * The worker thread is not interrupted: an interrupt during a JDBC call makes the pool
+     * evict the connection. The query finishes and its late result is dropped instead.
+     * </p>
+     */
+    public void cancel() {
+        Task<?> running = current;
+        current = null;
+        if (running != null) {
+            running.cancel(false);
+        }
+    }
+
+    /**
+     * Indicates whether a load is currently in progress.
+     *
+     * @return true if a task has been started and has not yet published or failed
+     */
+    public boolean isLoading() {
+        return current != null;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.cab302a1.util;
+
+import java.util.function.UnaryOperator;
+
+/**
+ * Reads numeric and boolean settings from environment variables.
+ * <p>
+ * A variable that is missing or blank yields the default. A value that cannot be
+ * parsed also yields the default, and is reported on {@code System.err} so that a
+ * typo in a deployment does not go unnoticed.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     int capacity = EnvSettings.intSetting("QUIZ_SNAPSHOT_CAPACITY", 128);
+ *     long ttl = EnvSettings.longSetting("QUIZ_SNAPSHOT_TTL_S", 30);
+ *     boolean prewarm = EnvSettings.booleanSetting("VIEW_PREWARM", true);
+ * </pre>
+ */
+public final class EnvSettings {
+
+    private EnvSettings() {}
+
+    /**
+     * @param key          the environment variable
+     * @param defaultValue the value if it is unset or invalid
+     * @return the variable as a {@code long}
+     */
+    public static long longSetting(String key, long defaultValue) {
+        return longSetting(System::getenv, key, defaultValue);
+    }
+
+    /**
+     * @param key          the environment variable
+     * @param defaultValue the value if it is unset or invalid
+     * @return the variable as an {@code int}
+     */
+    public static int intSetting(String key, int defaultValue) {
+        return intSetting(System::getenv, key, defaultValue);
+    }
+
+    /**
+     * @param key          the environment variable
+     * @param defaultValue the value if it is unset
+     * @return {@code true} if the variable is {@code true} (ignoring case), {@code false}
+     *         for any other non-blank value
+     */
+    public static boolean booleanSetting(String key, boolean defaultValue) {
+        return booleanSetting(System::getenv, key, defaultValue);
+    }
+
+    static long longSetting(UnaryOperator<String> env, String key, long defaultValue) {
+        String raw = env.apply(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Long.parseLong(raw.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring invalid value for " + key + ": " + raw);
+            return defaultValue;
+        }
+    }
+
+    static int intSetting(UnaryOperator<String> env, String key, int defaultValue) {
+        String raw = env.apply(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(raw.trim());
+        } catch (NumberFormatException e) {
+            System.err.println("Ignoring invalid value for " + key + ": " + raw);
+            return defaultValue;
+        }
+    }
+
+    static boolean booleanSetting(UnaryOperator<String> env, String key, boolean defaultValue) {
+        String raw = env.apply(key);
+        if (raw == null || raw.isBlank()) {
+            return defaultValue;
+        }
+        return Boolean.parseBoolean(raw.trim());
+    }
+}
@@ -11,6 +11,7 @@ module com.example.cab302a1 {
     requires javafx.graphics;
     requires jbcrypt;
     requires org.jdbi.v3.core;
+    requires com.zaxxer.hikari;
     //requires com.example.cab302a;
 
     // FXML
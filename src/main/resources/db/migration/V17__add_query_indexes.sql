@@ -0,0 +1,22 @@
+-- Adds composite indexes for the hot DAO predicates.
+-- questions(quiz_id), question_options(question_id), quizzes(created_by) and
+-- users(email) are already covered by their foreign key / UNIQUE indexes.
+
+
+-- getScore / getAttemptId / hasCompleted:
+-- WHERE quiz_id = ? AND answered_by = ? AND is_completed = true ORDER BY attempt_id DESC LIMIT 1
+CREATE INDEX idx_attempts_quiz_user_completed
+    ON quiz_attempts (quiz_id, answered_by, is_completed, attempt_id);
+
+-- Review history and completed-quiz lookups:
+-- WHERE answered_by = ? AND is_completed = true
+CREATE INDEX idx_attempts_user_completed
+    ON quiz_attempts (answered_by, is_completed);
+
+-- getChosenOptionId: WHERE attempt_id = ? AND question_id = ?
+CREATE INDEX idx_responses_attempt_question
+    ON question_responses (attempt_id, question_id);
+
+-- getAllStudents: WHERE role = 'Student'
+CREATE INDEX idx_users_role
+    ON users (role);
@@ -3,6 +3,12 @@ package com.example.cab302a1;
 import org.jdbi.v3.core.Jdbi;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -34,4 +40,73 @@ public class DBconnectionTest {
     void testFlywayMigrationRunsSuccessfully() {
         assertDoesNotThrow(DBconnection::migrate, "Flyway migration should run without exceptions");
     }
+
+    /**
+     * Verifies that {@link DBconnection#EXPECTED_SCHEMA_VERSION} was bumped together
+     * with the newest migration script, so the startup fast path never skips a migration.
+     */
+    @Test
+    void testExpectedSchemaVersion_MatchesNewestMigration() throws Exception {
+        Path dir = Path.of(DBconnection.class.getResource("/db/migration").toURI());
+        Pattern script = Pattern.compile("V(\\d+)__.*\\.sql");
+        int newest;
+        try (Stream<Path> files = Files.list(dir)) {
+            newest = files.map(f -> script.matcher(f.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .mapToInt(m -> Integer.parseInt(m.group(1)))
+                    .max()
+                    .orElse(0);
+        }
+        assertEquals(String.valueOf(newest), DBconnection.EXPECTED_SCHEMA_VERSION,
+                "Bump EXPECTED_SCHEMA_VERSION when adding a migration");
+    }
+
+    /**
+     * Verifies which recorded schema versions count as current.
+     */
+    @Test
+    void testIsCurrent_ComparesVersions() {
+        int expected = Integer.parseInt(DBconnection.EXPECTED_SCHEMA_VERSION);
+        assertTrue(DBconnection.isCurrent(String.valueOf(expected)));
+        assertTrue(DBconnection.isCurrent(String.valueOf(expected + 1)), "Newer schemas need no migration");
+        assertFalse(DBconnection.isCurrent(String.valueOf(expected - 1)));
+        assertFalse(DBconnection.isCurrent(null), "Missing history must migrate");
+        assertFalse(DBconnection.isCurrent(""));
+    }
+
+    /**
+     * Verifies that once migrated, startup takes the fast path and skips Flyway.
+     */
+    @Test
+    void testMigrateIfNeeded_SkipsFlywayWhenSchemaIsCurrent() {
+        DBconnection.migrate();
+
+        assertTrue(DBconnection.isCurrent(DBconnection.currentSchemaVersion()));
+        assertFalse(DBconnection.migrateIfNeeded(), "Flyway should not run on a current schema");
+    }
+
+    /**
+     * Verifies that the connection pool reports sane statistics and that a
+     * borrowed connection is returned to the pool once closed.
+     */
+    @Test
+    void testPoolStatsTrackBorrowedConnections() throws Exception {
+        PoolStats before = DBconnection.getPoolStats();
+        assertNotNull(before, "Pool stats should never be null");
+        if (!DBconnection.isPooled()) {
+            assertFalse(before.isPooled(), "Non-pooled mode should report pooled=false");
+            return;
+        }
+        assertTrue(before.getMaximumPoolSize() >= before.getMinimumIdle(),
+                "Maximum pool size should not be below minimum idle");
+
+        try (java.sql.Connection conn = DBconnection.getConnection()) {
+            assertTrue(conn.isValid(2), "Borrowed connection should be valid");
+            assertTrue(DBconnection.getPoolStats().getActiveConnections() >= 1,
+                    "Borrowed connection should be counted as active");
+        }
+        PoolStats after = DBconnection.getPoolStats();
+        assertTrue(after.getTotalConnections() <= after.getMaximumPoolSize(),
+                "Pool should never exceed its maximum size");
+    }
 }
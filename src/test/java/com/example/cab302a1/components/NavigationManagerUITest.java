@@ -0,0 +1,125 @@
+package com.example.cab302a1.components;
+
+import javafx.scene.Scene;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.testfx.api.FxRobot;
+import org.testfx.framework.junit5.ApplicationExtension;
+import org.testfx.framework.junit5.Start;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UI tests and navigation latency benchmark for the {@link NavigationManager} view cache.
+ * <p>
+ * Needs a display (or Monocle), so like the other UI tests it is excluded from the
+ * default surefire run. Run it with
+ * {@code mvn test -Dtest=NavigationManagerUITest}.
+ * No user is logged in, so the pages render empty and no database is needed.
+ * </p>
+ */
+@ExtendWith(ApplicationExtension.class)
+class NavigationManagerUITest {
+
+    private static final int WARMUP = 20;
+    private static final int ROUNDS = 100;
+
+    private Stage stage;
+
+    @Start
+    void start(Stage stage) throws Exception {
+        this.stage = stage;
+        NavigationManager.getInstance().clearHistory();
+        NavigationManager.getInstance().navigateTo(stage, NavigationManager.Pages.HOME);
+        stage.show();
+    }
+
+    @Test
+    void testRevisitedPage_ReusesSceneAndController(FxRobot robot) {
+        NavigationManager nav = NavigationManager.getInstance();
+        Scene[] scenes = new Scene[2];
+
+        robot.interact(() -> {
+            try {
+                scenes[0] = stage.getScene();
+                nav.navigateTo(stage, NavigationManager.Pages.STUDENT_REVIEW);
+                nav.navigateBack(stage);
+                scenes[1] = stage.getScene();
+            } catch (Exception e) {
+                fail(e);
+            }
+        });
+
+        assertSame(scenes[0], scenes[1]);
+        assertEquals(2, nav.getViewCacheSize());
+
+        robot.interact(() -> {
+            try {
+                nav.invalidate(NavigationManager.Pages.STUDENT_REVIEW);
+                nav.navigateTo(stage, NavigationManager.Pages.STUDENT_REVIEW);
+                nav.clearHistory();
+            } catch (Exception e) {
+                fail(e);
+            }
+        });
+        assertEquals(0, nav.getViewCacheSize());
+    }
+
+    @Test
+    void benchmarkNavigationLatency(FxRobot robot) {
+        long[] cold = measure(robot, true);
+        long[] warm = measure(robot, false);
+
+        System.out.printf("Navigation HOME <-> STUDENT_REVIEW, %d switches%n", ROUNDS * 2);
+        System.out.printf("%-14s %10s %10s %10s%n", "mode", "p50 (us)", "p95 (us)", "mean (us)");
+        print("parse FXML", cold);
+        print("view cache", warm);
+        // Timings only: wall-clock comparisons are too noisy on shared CI machines to assert on
+    }
+
+    /**
+     * Switches between two pages and times each switch on the FX thread: loading or
+     * reusing the view, putting it on the stage and the {@code onShow} refresh.
+     */
+    private long[] measure(FxRobot robot, boolean parseEveryTime) {
+        NavigationManager nav = NavigationManager.getInstance();
+        NavigationManager.PageInfo[] pages = {
+                NavigationManager.Pages.STUDENT_REVIEW, NavigationManager.Pages.HOME
+        };
+        long[] samples = new long[ROUNDS * 2];
+
+        robot.interact(() -> {
+            try {
+                for (int i = -WARMUP * 2; i < samples.length; i++) {
+                    if (parseEveryTime) {
+                        nav.clearViewCache();
+                    }
+                    long start = System.nanoTime();
+                    nav.navigateToReplace(stage, pages[Math.floorMod(i, 2)]);
+                    long elapsed = System.nanoTime() - start;
+                    if (i >= 0) {
+                        samples[i] = elapsed;
+                    }
+                }
+            } catch (Exception e) {
+                fail(e);
+            }
+        });
+        Arrays.sort(samples);
+        return samples;
+    }
+
+    private static long percentile(long[] sorted, int p) {
+        return sorted[Math.min(sorted.length - 1, sorted.length * p / 100)];
+    }
+
+    private static void print(String mode, long[] sorted) {
+        System.out.printf("%-14s %10.1f %10.1f %10.1f%n", mode,
+                percentile(sorted, 50) / 1_000.0,
+                percentile(sorted, 95) / 1_000.0,
+                Arrays.stream(sorted).average().orElse(0) / 1_000.0);
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.cab302a1.components;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ViewPrewarmer.
+ * Checks how FXML is rewritten so that pre-warming runs no controller code;
+ * building the nodes needs the JavaFX toolkit and is not covered here.
+ */
+class ViewPrewarmerTest {
+
+    private static final String FXML = """
+            <BorderPane xmlns:fx="http://javafx.com/fxml/1"
+                        fx:controller="com.example.Page" stylesheets="@../styles.css">
+                <left>
+                    <fx:include source="../components/Navbar.fxml"/>
+                </left>
+                <Button fx:id="back" text="Back" onAction="#handleBack"/>
+                <Label onMouseClicked="#handleClick" text="onAction=&quot;x&quot;"/>
+            </BorderPane>
+            """;
+
+    @Test
+    void testStripBindings_RemovesControllerHandlersAndIncludes() {
+        String stripped = ViewPrewarmer.stripBindings(FXML);
+
+        assertFalse(stripped.contains("fx:controller"));
+        assertFalse(stripped.contains("#handle"));
+        assertFalse(stripped.contains("fx:include"));
+        assertTrue(stripped.contains("<javafx.scene.layout.Region/>"));
+        // Everything else is kept
+        assertTrue(stripped.contains("fx:id=\"back\""));
+        assertTrue(stripped.contains("stylesheets=\"@../styles.css\""));
+        assertTrue(stripped.contains("text=\"onAction=&quot;x&quot;\""));
+    }
+
+    @Test
+    void testReferences_AreFound() {
+        assertEquals(List.of("com.example.Page"), ViewPrewarmer.controllers(FXML));
+        assertEquals(List.of("../components/Navbar.fxml"), ViewPrewarmer.includes(FXML));
+        assertEquals(List.of("../styles.css"), ViewPrewarmer.stylesheets(FXML));
+        assertEquals("Navbar.css", ViewPrewarmer.siblingStylesheet("/com/example/cab302a1/components/Navbar.fxml"));
+    }
+
+    @Test
+    void testLikelyNextPages_AllStripCleanly() throws Exception {
+        for (NavigationManager.PageInfo page : NavigationManager.Pages.LIKELY_NEXT) {
+            String fxml;
+            try (InputStream in = ViewPrewarmer.class.getResourceAsStream(page.getFxmlPath())) {
+                assertNotNull(in, page.getFxmlPath());
+                fxml = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            String stripped = ViewPrewarmer.stripBindings(fxml);
+
+            assertFalse(stripped.matches("(?s).*\\son[A-Z]\\w*=\"#.*"), page.getFxmlPath());
+            assertFalse(stripped.contains("fx:controller"), page.getFxmlPath());
+            assertFalse(stripped.contains("fx:include"), page.getFxmlPath());
+            for (String controller : ViewPrewarmer.controllers(fxml)) {
+                assertDoesNotThrow(() -> Class.forName(controller, false, ViewPrewarmer.class.getClassLoader()));
+            }
+        }
+    }
+}
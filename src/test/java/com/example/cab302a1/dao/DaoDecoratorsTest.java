@@ -0,0 +1,84 @@
+package com.example.cab302a1.dao;
+
+import com.example.cab302a1.dao.cache.CachingQuizDao;
+import com.example.cab302a1.dao.cache.DaoCache;
+import com.example.cab302a1.metrics.MetricsRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DaoDecorators.
+ * Tests spec parsing, decorator order, and that caching only wraps quiz/question/option DAOs.
+ */
+class DaoDecoratorsTest {
+
+    @Test
+    void testFromSpec_ParsesNamesInOrder_AndSkipsUnknown() {
+        assertEquals(2, DaoDecorators.fromSpec("metrics, cache").size());
+        assertEquals(1, DaoDecorators.fromSpec("cache,bogus").size());
+        assertTrue(DaoDecorators.fromSpec("none").isEmpty());
+        assertTrue(DaoDecorators.fromSpec("").isEmpty());
+    }
+
+    @Test
+    void testCaching_WrapsOnlyCachedDaoTypes() {
+        DaoDecorator caching = DaoDecorators.caching(new DaoCache(8, 0));
+        QuizDao quizDao = mock(QuizDao.class);
+        UserDao userDao = mock(UserDao.class);
+
+        assertInstanceOf(CachingQuizDao.class, caching.decorate(QuizDao.class, quizDao));
+        assertSame(userDao, caching.decorate(UserDao.class, userDao));
+    }
+
+    @Test
+    void testIsCache_OnlyForCaching() {
+        assertTrue(DaoDecorators.caching(new DaoCache(8, 0)).isCache());
+        assertFalse(DaoDecorators.metrics(new MetricsRegistry(true, 0)).isCache());
+    }
+
+    @Test
+    void testDecorators_AreAppliedInnermostFirst() {
+        List<String> order = new ArrayList<>();
+        DaoDecorator first = recording("first", order);
+        DaoDecorator second = recording("second", order);
+        QuizDao quizDao = mock(QuizDao.class);
+
+        QuizDao decorated = quizDao;
+        for (DaoDecorator d : List.of(first, second)) {
+            decorated = d.decorate(QuizDao.class, decorated);
+        }
+
+        assertEquals(List.of("first", "second"), order);
+        assertSame(quizDao, decorated);
+    }
+
+    @Test
+    void testMetricsThenCache_CacheHitsAreNotRecordedAsDatabaseCalls() {
+        MetricsRegistry registry = new MetricsRegistry(true, 0);
+        QuizDao quizDao = mock(QuizDao.class);
+
+        QuizDao withMetrics = DaoDecorators.metrics(registry).decorate(QuizDao.class, quizDao);
+        QuizDao decorated = DaoDecorators.caching(new DaoCache(8, 0)).decorate(QuizDao.class, withMetrics);
+        decorated.getAllQuizzes();
+        decorated.getAllQuizzes();
+
+        assertTrue(Proxy.isProxyClass(withMetrics.getClass()));
+        assertEquals(1, registry.snapshot().get(0).getCount());
+    }
+
+    private static DaoDecorator recording(String name, List<String> order) {
+        return new DaoDecorator() {
+            @Override
+            public <T> T decorate(Class<T> type, T dao) {
+                order.add(name);
+                return dao;
+            }
+        };
+    }
+}
@@ -1,13 +1,16 @@
 package com.example.cab302a1.dao;
 
 import com.example.cab302a1.dao.jdbi.JdbiAttemptDao;
-import com.example.cab302a1.dao.ResponseDao;
+import com.example.cab302a1.model.QuestionResponse;
+import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.result.ResultBearing;
 import org.jdbi.v3.core.result.ResultIterable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -20,14 +23,12 @@ import static org.mockito.Mockito.*;
  */
 class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
 
-    private ResponseDao mockResponseDao;
     private ResultBearing mockResultBearing;
     private ResultIterable<Integer> mockResultIterable;
 
     @BeforeEach
     protected void setupMocks() {
         super.setupCommonMocks();
-        mockResponseDao = mock(ResponseDao.class);
         mockResultBearing = mock(ResultBearing.class);
         mockResultIterable = mock(ResultIterable.class);
     }
@@ -41,7 +42,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockResultBearing.mapTo(Integer.class)).thenReturn(mockResultIterable);
         when(mockResultIterable.findOne()).thenReturn(Optional.of(42));
 
-        int result = new JdbiAttemptDao(mockResponseDao).startAttempt(1, 10);
+        int result = new JdbiAttemptDao().startAttempt(1, 10);
 
         assertEquals(42, result);
         verify(mockUpdate).bind("quizId", 1);
@@ -57,7 +58,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockResultBearing.mapTo(Integer.class)).thenReturn(mockResultIterable);
         when(mockResultIterable.findOne()).thenReturn(Optional.empty());
 
-        int result = new JdbiAttemptDao(mockResponseDao).startAttempt(1, 10);
+        int result = new JdbiAttemptDao().startAttempt(1, 10);
 
         assertEquals(-1, result);
         verify(mockUpdate).bind("quizId", 1);
@@ -70,7 +71,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         reset(mockJdbi);
         when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("Simulated DB failure"));
         assertThrows(RuntimeException.class, () ->
-                new JdbiAttemptDao(mockResponseDao).startAttempt(1, 10));
+                new JdbiAttemptDao().startAttempt(1, 10));
     }
 
     /** ✅ attemptExist(): returns true when record found */
@@ -81,7 +82,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockQuery.mapTo(Integer.class)).thenReturn(mockResultIterable);
         when(mockResultIterable.findOne()).thenReturn(Optional.of(1));
 
-        boolean result = new JdbiAttemptDao(mockResponseDao).attemptExist(5);
+        boolean result = new JdbiAttemptDao().attemptExist(5);
 
         assertTrue(result);
         verify(mockQuery).bind("id", 5);
@@ -95,39 +96,100 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockQuery.mapTo(Integer.class)).thenReturn(mockResultIterable);
         when(mockResultIterable.findOne()).thenReturn(Optional.empty());
 
-        boolean result = new JdbiAttemptDao(mockResponseDao).attemptExist(999);
+        boolean result = new JdbiAttemptDao().attemptExist(999);
 
         assertFalse(result);
         verify(mockQuery).bind("id", 999);
     }
 
-    /** ✅ endAttempt(): updates score when attempt exists */
+    /** ✅ endAttempt(): grades and closes the attempt in one UPDATE */
     @Test
     void testEndAttemptSuccess() {
-        JdbiAttemptDao daoSpy = spy(new JdbiAttemptDao(mockResponseDao));
-        doReturn(true).when(daoSpy).attemptExist(anyInt());
-        when(mockResponseDao.calculateScoreFromResponses(anyInt())).thenReturn(85);
         when(mockHandle.createUpdate(anyString())).thenReturn(mockUpdate);
-        when(mockUpdate.bind(anyString(), (Object) any())).thenReturn(mockUpdate);
         when(mockUpdate.execute()).thenReturn(1);
 
-        daoSpy.endAttempt(10);
+        new JdbiAttemptDao().endAttempt(10);
 
-        verify(mockUpdate).bind("score", 85);
+        verify(mockHandle).createUpdate(argThat(sql ->
+                sql.contains("UPDATE quiz_attempts") && sql.contains("COUNT(DISTINCT r.question_id)")));
         verify(mockUpdate).bind("id", 10);
+        verify(mockUpdate, never()).bind(eq("score"), anyInt());
         verify(mockUpdate).execute();
+        verify(mockHandle, never()).createQuery(anyString());
     }
 
-    /** ❌ endAttempt(): skips update when attempt doesn't exist */
+    /** ❌ endAttempt(): unknown attempt is a no-op update */
     @Test
     void testEndAttemptAttemptDoesNotExist() {
-        JdbiAttemptDao daoSpy = spy(new JdbiAttemptDao(mockResponseDao));
-        doReturn(false).when(daoSpy).attemptExist(anyInt());
+        when(mockHandle.createUpdate(anyString())).thenReturn(mockUpdate);
+        when(mockUpdate.execute()).thenReturn(0);
+
+        assertDoesNotThrow(() -> new JdbiAttemptDao().endAttempt(99));
+
+        verify(mockUpdate).bind("id", 99);
+        verify(mockHandle, never()).createQuery(anyString());
+    }
 
-        daoSpy.endAttempt(99);
+    /** Runs {@code jdbi.inTransaction} callbacks against the mock handle. */
+    @SuppressWarnings("unchecked")
+    private void mockTransaction() {
+        when(mockJdbi.inTransaction(any())).thenAnswer(invocation -> {
+            HandleCallback<Object, Exception> callback = invocation.getArgument(0);
+            return callback.withHandle(mockHandle);
+        });
+    }
 
-        verify(mockResponseDao, never()).calculateScoreFromResponses(anyInt());
-        verify(mockHandle, never()).createUpdate(anyString());
+    /** ✅ submitAttempt(): inserts graded responses and closes the attempt in one transaction */
+    @Test
+    void testSubmitAttemptSuccess() {
+        mockTransaction();
+        when(mockHandle.createUpdate(anyString())).thenReturn(mockUpdate);
+        doReturn(mockUpdate).when(mockUpdate).bindList(anyString(), anyList());
+        when(mockUpdate.execute()).thenReturn(2, 1);
+
+        boolean submitted = new JdbiAttemptDao().submitAttempt(10, List.of(
+                new QuestionResponse(10, 1, 101, false),
+                new QuestionResponse(10, 2, 205, false)));
+
+        assertTrue(submitted);
+        var order = inOrder(mockHandle);
+        order.verify(mockHandle).createUpdate(contains("INSERT INTO question_responses"));
+        order.verify(mockHandle).createUpdate(contains("UPDATE quiz_attempts"));
+        verify(mockUpdate).bindList("optionIds", List.of(101, 205));
+        verify(mockJdbi).inTransaction(any());
+        verify(mockJdbi, never()).useHandle(any());
+        verify(mockJdbi, never()).withHandle(any());
+    }
+
+    /** ❌ submitAttempt(): returns false when the attempt was already completed */
+    @Test
+    void testSubmitAttemptAlreadyCompleted() {
+        mockTransaction();
+        when(mockHandle.createUpdate(anyString())).thenReturn(mockUpdate);
+        doReturn(mockUpdate).when(mockUpdate).bindList(anyString(), anyList());
+        when(mockUpdate.execute()).thenReturn(0, 0);
+
+        assertFalse(new JdbiAttemptDao().submitAttempt(10,
+                List.of(new QuestionResponse(10, 1, 101, false))));
+    }
+
+    /** ✅ submitAttempt(): with no answers it only closes the attempt */
+    @Test
+    void testSubmitAttemptWithoutResponses() {
+        mockTransaction();
+        when(mockHandle.createUpdate(anyString())).thenReturn(mockUpdate);
+        when(mockUpdate.execute()).thenReturn(1);
+
+        assertTrue(new JdbiAttemptDao().submitAttempt(10, List.of()));
+        verify(mockHandle, times(1)).createUpdate(anyString());
+        verify(mockHandle).createUpdate(contains("UPDATE quiz_attempts"));
+    }
+
+    /** 💥 submitAttempt(): propagates failures so the transaction rolls back */
+    @Test
+    void testSubmitAttemptThrowsException() {
+        when(mockJdbi.inTransaction(any())).thenThrow(new RuntimeException("Deadlock"));
+        assertThrows(RuntimeException.class, () -> new JdbiAttemptDao().submitAttempt(10, List.of()));
     }
 
     /** ✅ getScore(): returns value when record exists */
@@ -139,7 +201,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockQuery.mapTo(Integer.class)).thenReturn(mockResultIterable);
         when(mockResultIterable.findOne()).thenReturn(Optional.of(85));
 
-        Integer score = new JdbiAttemptDao(mockResponseDao).getScore(1, 10);
+        Integer score = new JdbiAttemptDao().getScore(1, 10);
 
         assertEquals(85, score);
         verify(mockQuery).bind("quizId", 1);
@@ -155,7 +217,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockQuery.mapTo(Integer.class)).thenReturn(mockResultIterable);
         when(mockResultIterable.findOne()).thenReturn(Optional.empty());
 
-        Integer score = new JdbiAttemptDao(mockResponseDao).getScore(9, 77);
+        Integer score = new JdbiAttemptDao().getScore(9, 77);
 
         assertNull(score);
         verify(mockQuery).bind("quizId", 9);
@@ -173,7 +235,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockResultIterable.findOne()).thenReturn(Optional.of(2)); // COUNT(*) = 2 → true
 
         // Act
-        boolean result = new JdbiAttemptDao(mockResponseDao).hasCompleted(1, 10);
+        boolean result = new JdbiAttemptDao().hasCompleted(1, 10);
 
         // Assert
         assertTrue(result);
@@ -192,7 +254,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockResultIterable.findOne()).thenReturn(Optional.of(0)); // COUNT(*) = 0 → false
 
         // Act
-        boolean result = new JdbiAttemptDao(mockResponseDao).hasCompleted(5, 22);
+        boolean result = new JdbiAttemptDao().hasCompleted(5, 22);
 
         // Assert
         assertFalse(result);
@@ -210,7 +272,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockUpdate.execute()).thenReturn(1);
 
         // Act
-        new JdbiAttemptDao(mockResponseDao).updateFeedback(42, "Well done!");
+        new JdbiAttemptDao().updateFeedback(42, "Well done!");
 
         // Assert
         verify(mockHandle).createUpdate(contains("UPDATE quiz_attempts SET feedback"));
@@ -230,7 +292,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
 
         // Act + Assert
         assertThrows(RuntimeException.class, () ->
-                new JdbiAttemptDao(mockResponseDao).updateFeedback(7, "error test"));
+                new JdbiAttemptDao().updateFeedback(7, "error test"));
     }
 
 
@@ -245,7 +307,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockResultIterable.findOne()).thenReturn(Optional.of(99));
 
         // Act
-        Integer attemptId = new JdbiAttemptDao(mockResponseDao).getAttemptId(3, 15);
+        Integer attemptId = new JdbiAttemptDao().getAttemptId(3, 15);
 
         // Assert
         assertEquals(99, attemptId);
@@ -264,7 +326,7 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
         when(mockResultIterable.findOne()).thenReturn(Optional.empty());
 
         // Act
-        Integer attemptId = new JdbiAttemptDao(mockResponseDao).getAttemptId(4, 77);
+        Integer attemptId = new JdbiAttemptDao().getAttemptId(4, 77);
 
         // Assert
         assertNull(attemptId);
@@ -282,8 +344,39 @@ class JdbiAttemptDaoTest extends BaseJdbiDaoTest {
 
         // Act + Assert
         assertThrows(RuntimeException.class, () ->
-                new JdbiAttemptDao(mockResponseDao).getAttemptId(2, 9));
+                new JdbiAttemptDao().getAttemptId(2, 9));
     }
 
 
+
+    /** ✅ getCompletedQuizIds(): returns distinct completed quiz IDs as a set */
+    @Test
+    void testGetCompletedQuizIdsReturnsSet() {
+        // Arrange
+        when(mockHandle.createQuery(anyString())).thenReturn(mockQuery);
+        when(mockQuery.bind(eq("userId"), anyInt())).thenReturn(mockQuery);
+        when(mockQuery.mapTo(Integer.class)).thenReturn(mockResultIterable);
+        when(mockResultIterable.list()).thenReturn(List.of(3, 7, 12));
+
+        // Act
+        Set<Integer> result = new JdbiAttemptDao().getCompletedQuizIds(10);
+
+        // Assert
+        assertEquals(Set.of(3, 7, 12), result);
+        verify(mockQuery).bind("userId", 10);
+        verify(mockHandle, times(1)).createQuery(anyString());
+    }
+
+    /** ❌ getCompletedQuizIds(): returns empty set when nothing completed */
+    @Test
+    void testGetCompletedQuizIdsEmpty() {
+        // Arrange
+        when(mockHandle.createQuery(anyString())).thenReturn(mockQuery);
+        when(mockQuery.bind(eq("userId"), anyInt())).thenReturn(mockQuery);
+        when(mockQuery.mapTo(Integer.class)).thenReturn(mockResultIterable);
+        when(mockResultIterable.list()).thenReturn(List.of());
+
+        // Act & Assert
+        assertTrue(new JdbiAttemptDao().getCompletedQuizIds(22).isEmpty());
+    }
 }
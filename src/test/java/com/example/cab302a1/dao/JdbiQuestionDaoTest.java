@@ -1,6 +1,7 @@
 package com.example.cab302a1.dao;
 
 import com.example.cab302a1.dao.jdbi.JdbiQuestionDao;
+import com.example.cab302a1.model.QuizChoiceCreate;
 import com.example.cab302a1.model.QuizQuestionCreate;
 import org.jdbi.v3.core.result.ResultBearing;
 import org.jdbi.v3.core.result.ResultIterable;
@@ -8,6 +9,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -237,4 +239,99 @@ class JdbiQuestionDaoTest extends BaseJdbiDaoTest {
         when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("SQL error"));
         assertThrows(RuntimeException.class, () -> new JdbiQuestionDao().getQuestionsByQuizId(10));
     }
+
+    // ============================================================
+    // ✅ getQuestionsWithOptions()
+    // ============================================================
+
+    /** Helper: one joined row = a question carrying at most one option */
+    private static QuizQuestionCreate joinedRow(int questionId, String text, Integer optionId) {
+        QuizQuestionCreate q = new QuizQuestionCreate(questionId, 3, text, null);
+        if (optionId != null) {
+            QuizChoiceCreate c = new QuizChoiceCreate("opt" + optionId, optionId % 2 == 0);
+            c.setOption_id(optionId);
+            c.setQuestion_id(questionId);
+            q.getChoices().add(c);
+        }
+        return q;
+    }
+
+    /** ✅ getQuestionsWithOptions(): merges joined rows into one question per ID, preserving order */
+    @Test
+    void testGetQuestionsWithOptionsMergesRows() {
+        when(mockQuery.bind(eq("quizId"), eq(3))).thenReturn(mockQuery);
+
+        @SuppressWarnings("unchecked")
+        ResultIterable<QuizQuestionCreate> mockListIterable = mock(ResultIterable.class);
+        when(mockQuery.map(any(org.jdbi.v3.core.mapper.RowMapper.class))).thenReturn(mockListIterable);
+        when(mockListIterable.list()).thenReturn(List.of(
+                joinedRow(10, "Q10", 100),
+                joinedRow(10, "Q10", 101),
+                joinedRow(11, "Q11", null),
+                joinedRow(12, "Q12", 120)
+        ));
+
+        List<QuizQuestionCreate> result = new JdbiQuestionDao().getQuestionsWithOptions(3);
+
+        assertEquals(3, result.size());
+        assertEquals(10, result.get(0).getQuestionId());
+        assertEquals(2, result.get(0).getChoices().size());
+        assertEquals(100, result.get(0).getChoices().get(0).getOption_id());
+        assertEquals(101, result.get(0).getChoices().get(1).getOption_id());
+        assertTrue(result.get(1).getChoices().isEmpty());
+        assertEquals(120, result.get(2).getChoices().get(0).getOption_id());
+
+        // Single round trip for the whole graph
+        verify(mockHandle, times(1)).createQuery(anyString());
+        verify(mockQuery).bind("quizId", 3);
+    }
+
+    /** ❌ getQuestionsWithOptions(): returns empty list when quiz has no questions */
+    @Test
+    void testGetQuestionsWithOptionsEmptyList() {
+        when(mockQuery.bind(eq("quizId"), eq(4))).thenReturn(mockQuery);
+
+        @SuppressWarnings("unchecked")
+        ResultIterable<QuizQuestionCreate> mockListIterable = mock(ResultIterable.class);
+        when(mockQuery.map(any(org.jdbi.v3.core.mapper.RowMapper.class))).thenReturn(mockListIterable);
+        when(mockListIterable.list()).thenReturn(List.of());
+
+        assertTrue(new JdbiQuestionDao().getQuestionsWithOptions(4).isEmpty());
+    }
+
+    /** 💥 getQuestionsWithOptions(): propagates runtime exception */
+    @Test
+    void testGetQuestionsWithOptionsThrowsException() {
+        reset(mockJdbi);
+        when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("SQL error"));
+        assertThrows(RuntimeException.class, () -> new JdbiQuestionDao().getQuestionsWithOptions(3));
+    }
+
+    // ============================================================
+    // ✅ getQuestionCounts()
+    // ============================================================
+
+    /** ✅ getQuestionCounts(): one grouped query, missing quizzes filled with 0 */
+    @Test
+    void testGetQuestionCountsFillsMissingWithZero() {
+        when(mockQuery.bindList(eq("quizIds"), anyList())).thenReturn(mockQuery);
+
+        @SuppressWarnings("unchecked")
+        ResultIterable<Map.Entry<Integer, Integer>> mockEntries = mock(ResultIterable.class);
+        when(mockQuery.map(any(org.jdbi.v3.core.mapper.RowMapper.class))).thenReturn(mockEntries);
+        when(mockEntries.list()).thenReturn(List.of(Map.entry(1, 5), Map.entry(3, 2)));
+
+        Map<Integer, Integer> counts = new JdbiQuestionDao().getQuestionCounts(List.of(1, 2, 3));
+
+        assertEquals(Map.of(1, 5, 2, 0, 3, 2), counts);
+        verify(mockHandle, times(1)).createQuery(anyString());
+        verify(mockQuery).bindList("quizIds", List.of(1, 2, 3));
+    }
+
+    /** ❌ getQuestionCounts(): empty input skips the database */
+    @Test
+    void testGetQuestionCountsEmptyInput() {
+        assertTrue(new JdbiQuestionDao().getQuestionCounts(List.of()).isEmpty());
+        verify(mockJdbi, never()).withHandle(any());
+    }
 }
@@ -2,6 +2,11 @@ package com.example.cab302a1.dao;
 
 import com.example.cab302a1.dao.jdbi.JdbiQuizDao;
 import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizChoiceCreate;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import org.jdbi.v3.core.HandleCallback;
+import org.jdbi.v3.core.result.BatchResultBearing;
+import org.jdbi.v3.core.result.BatchResultIterable;
 import org.jdbi.v3.core.result.ResultBearing;
 import org.jdbi.v3.core.result.ResultIterable;
 import org.junit.jupiter.api.BeforeEach;
@@ -266,4 +271,167 @@ class JdbiQuizDaoTest extends BaseJdbiDaoTest {
         when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("DB failure"));
         assertThrows(RuntimeException.class, () -> new JdbiQuizDao().getQuizByTeacherId(1));
     }
+
+    // ============================================================
+    // 7️⃣ saveQuizGraph()
+    // ============================================================
+
+    /** Runs {@code jdbi.inTransaction} callbacks against the mock handle. */
+    @SuppressWarnings("unchecked")
+    private void mockTransaction() {
+        when(mockJdbi.inTransaction(any())).thenAnswer(invocation -> {
+            HandleCallback<Object, Exception> callback = invocation.getArgument(0);
+            return callback.withHandle(mockHandle);
+        });
+    }
+
+    /** Stubs the generated keys returned by a batch insert for the given key column. */
+    @SuppressWarnings("unchecked")
+    private void mockBatchKeys(String column, List<Integer> keys) {
+        BatchResultBearing keyBearing = mock(BatchResultBearing.class);
+        BatchResultIterable<Integer> keyIterable = mock(BatchResultIterable.class);
+        when(mockBatch.executePreparedBatch(column)).thenReturn(keyBearing);
+        when(keyBearing.mapTo(Integer.class)).thenReturn(keyIterable);
+        when(keyIterable.list()).thenReturn(keys);
+    }
+
+    /** Stubs the stored quiz row and the stored question/option graph for an edit. */
+    @SuppressWarnings("unchecked")
+    private void mockStoredGraph(Quiz storedQuiz, List<QuizQuestionCreate> storedQuestions) {
+        ResultIterable<Quiz> quizRow = mock(ResultIterable.class);
+        ResultIterable<QuizQuestionCreate> graphRows = mock(ResultIterable.class);
+        when(mockQuery.map(any(org.jdbi.v3.core.mapper.RowMapper.class))).thenReturn(quizRow, graphRows);
+        when(quizRow.findOne()).thenReturn(Optional.ofNullable(storedQuiz));
+        when(graphRows.list()).thenReturn(storedQuestions);
+    }
+
+    private static QuizQuestionCreate question(int id, int quizId, String text, QuizChoiceCreate... choices) {
+        QuizQuestionCreate q = new QuizQuestionCreate(id, quizId, text, "Because");
+        for (QuizChoiceCreate c : choices) {
+            c.setQuestion_id(id);
+            q.getChoices().add(c);
+        }
+        return q;
+    }
+
+    private static QuizChoiceCreate choice(int id, String text, boolean correct) {
+        QuizChoiceCreate c = new QuizChoiceCreate(text, correct);
+        c.setOption_id(id);
+        return c;
+    }
+
+    /** ✅ saveQuizGraph(): new quiz inserts questions and options in two batches and assigns keys */
+    @Test
+    void testSaveQuizGraphInsertsNewQuizWithBatches() {
+        mockTransaction();
+        when(mockUpdate.executeAndReturnGeneratedKeys(eq("quiz_id"))).thenReturn(mockResultBearing);
+        when(mockResultBearing.mapTo(Integer.class)).thenReturn(mockIntIterable);
+        when(mockIntIterable.one()).thenReturn(10);
+        mockBatchKeys("question_id", List.of(100, 101));
+        mockBatchKeys("option_id", List.of(200, 201, 202));
+
+        Quiz quiz = new Quiz(0, "New", "Desc", 2, false, null);
+        quiz.setQuestions(List.of(
+                question(0, 0, "Q1", choice(0, "A", true), choice(0, "B", false)),
+                question(0, 0, "Q2", choice(0, "C", true))));
+
+        int id = new JdbiQuizDao().saveQuizGraph(quiz);
+
+        assertEquals(10, id);
+        assertEquals(10, quiz.getQuizId());
+        assertEquals(100, quiz.getQuestions().get(0).getQuestionId());
+        assertEquals(101, quiz.getQuestions().get(1).getQuestionId());
+        assertEquals(200, quiz.getQuestions().get(0).getChoices().get(0).getOption_id());
+        assertEquals(202, quiz.getQuestions().get(1).getChoices().get(0).getOption_id());
+        assertEquals(101, quiz.getQuestions().get(1).getChoices().get(0).getQuestion_id());
+        verify(mockHandle).prepareBatch(contains("INSERT INTO questions"));
+        verify(mockHandle).prepareBatch(contains("INSERT INTO question_options"));
+        verify(mockBatch, times(5)).add();
+        verify(mockHandle, never()).createQuery(anyString());
+        verify(mockJdbi, never()).withHandle(any());
+    }
+
+    /** ✅ saveQuizGraph(): an unchanged edit writes nothing */
+    @Test
+    void testSaveQuizGraphSkipsUnchangedRows() {
+        mockTransaction();
+        mockStoredGraph(new Quiz(5, "Same", "Desc", 2, false, null),
+                List.of(question(50, 5, "Q1", choice(500, "A", true), choice(501, "B", false))));
+
+        Quiz quiz = new Quiz(5, "Same", "Desc", 2, false, null);
+        quiz.setQuestions(List.of(question(50, 5, "Q1", choice(500, "A", true), choice(501, "B", false))));
+
+        assertEquals(5, new JdbiQuizDao().saveQuizGraph(quiz));
+
+        verify(mockHandle, never()).createUpdate(anyString());
+        verify(mockHandle, never()).prepareBatch(anyString());
+    }
+
+    /** ✅ saveQuizGraph(): an edit only writes the changed and added rows */
+    @Test
+    void testSaveQuizGraphWritesOnlyDiff() {
+        mockTransaction();
+        mockStoredGraph(new Quiz(5, "Same", "Desc", 2, false, null),
+                List.of(question(50, 5, "Q1", choice(500, "A", true), choice(501, "B", false))));
+        mockBatchKeys("question_id", List.of(51));
+        mockBatchKeys("option_id", List.of(510));
+
+        Quiz quiz = new Quiz(5, "Same", "Desc", 2, false, null);
+        quiz.setQuestions(List.of(
+                question(50, 5, "Q1", choice(500, "A", false), choice(501, "B", true)),
+                question(0, 5, "Q2", choice(0, "C", true))));
+
+        new JdbiQuizDao().saveQuizGraph(quiz);
+
+        verify(mockHandle, never()).createUpdate(anyString());
+        verify(mockHandle).prepareBatch(contains("INSERT INTO questions"));
+        verify(mockHandle, never()).prepareBatch(contains("UPDATE questions"));
+        verify(mockHandle).prepareBatch(contains("INSERT INTO question_options"));
+        verify(mockHandle).prepareBatch(contains("UPDATE question_options"));
+        verify(mockBatch).bind("optionId", 500);
+        verify(mockBatch).bind("optionId", 501);
+        assertEquals(51, quiz.getQuestions().get(1).getQuestionId());
+        assertEquals(510, quiz.getQuestions().get(1).getChoices().get(0).getOption_id());
+    }
+
+    /** ✅ saveQuizGraph(): a changed title updates the quiz row */
+    @Test
+    void testSaveQuizGraphUpdatesChangedQuizRow() {
+        mockTransaction();
+        mockStoredGraph(new Quiz(5, "Old", "Desc", 2, false, null), List.of());
+
+        Quiz quiz = new Quiz(5, "New", "Desc", 2, false, null);
+        new JdbiQuizDao().saveQuizGraph(quiz);
+
+        verify(mockHandle).createUpdate(contains("UPDATE quizzes"));
+        verify(mockUpdate).bind("title", "New");
+    }
+
+    /** ❌ saveQuizGraph(): editing a deleted quiz fails */
+    @Test
+    void testSaveQuizGraphMissingQuizThrows() {
+        mockTransaction();
+        mockStoredGraph(null, List.of());
+
+        Quiz quiz = new Quiz(5, "Gone", "Desc", 2, false, null);
+        assertThrows(IllegalStateException.class, () -> new JdbiQuizDao().saveQuizGraph(quiz));
+        verify(mockHandle, never()).prepareBatch(anyString());
+    }
+
+    /** 💥 saveQuizGraph(): a failed batch restores the original quiz ID */
+    @Test
+    void testSaveQuizGraphFailureRestoresQuizId() {
+        mockTransaction();
+        when(mockUpdate.executeAndReturnGeneratedKeys(eq("quiz_id"))).thenReturn(mockResultBearing);
+        when(mockResultBearing.mapTo(Integer.class)).thenReturn(mockIntIterable);
+        when(mockIntIterable.one()).thenReturn(10);
+        when(mockBatch.executePreparedBatch("question_id")).thenThrow(new RuntimeException("Batch failed"));
+
+        Quiz quiz = new Quiz(0, "New", "Desc", 2, false, null);
+        quiz.setQuestions(List.of(question(0, 0, "Q1", choice(0, "A", true))));
+
+        assertThrows(RuntimeException.class, () -> new JdbiQuizDao().saveQuizGraph(quiz));
+        assertEquals(0, quiz.getQuizId());
+    }
 }
+
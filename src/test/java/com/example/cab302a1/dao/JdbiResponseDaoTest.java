@@ -8,10 +8,11 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 /**
@@ -35,37 +36,50 @@ class JdbiResponseDaoTest extends BaseJdbiDaoTest {
     // 1️⃣ saveResponse()
     // ============================================================
 
-    /** ✅ saveResponse(): inserts multiple responses successfully */
+    /** ✅ saveResponse(): grades all responses with one INSERT ... SELECT */
     @Test
     void testSaveResponseSuccess() {
-        // Arrange
+        // Arrange: client-side correctness flags must be ignored
         QuestionResponse r1 = new QuestionResponse(1, 10, 101, true);
         QuestionResponse r2 = new QuestionResponse(1, 11, 102, false);
         List<QuestionResponse> responses = List.of(r1, r2);
 
-        when(mockHandle.prepareBatch(anyString())).thenReturn(mockBatch);
-        when(mockBatch.bind(anyString(), anyInt())).thenReturn(mockBatch);
-        when(mockBatch.bind(anyString(), anyBoolean())).thenReturn(mockBatch);
-        when(mockBatch.add()).thenReturn(mockBatch);
-        when(mockBatch.execute()).thenReturn(new int[]{1, 1});
-
-        // ✅ override useHandle() to ensure our mockHandle is used
-        doAnswer(invocation -> {
-            org.jdbi.v3.core.HandleConsumer<?> consumer = invocation.getArgument(0);
-            consumer.useHandle(mockHandle); // our mockHandle, not new one
-            return null;
-        }).when(mockJdbi).useHandle(any());
+        when(mockHandle.createUpdate(anyString())).thenReturn(mockUpdate);
+        doReturn(mockUpdate).when(mockUpdate).bindList(anyString(), anyList());
+        when(mockUpdate.execute()).thenReturn(2);
 
         // Act
         new JdbiResponseDao().saveResponse(5, responses);
 
         // Assert
-        verify(mockHandle).prepareBatch(argThat(sql -> sql.trim().startsWith("INSERT")));
-        verify(mockBatch, atLeastOnce()).bind(eq("attemptId"), eq(5));
-        verify(mockBatch, atLeastOnce()).add();
-        verify(mockBatch).execute();
+        verify(mockHandle).createUpdate(argThat(sql ->
+                sql.trim().startsWith("INSERT") && sql.contains("SELECT") && sql.contains("o.is_correct")));
+        verify(mockUpdate).bind("attemptId", 5);
+        verify(mockUpdate).bindList("optionIds", List.of(101, 102));
+        verify(mockUpdate, never()).bind(eq("isCorrect"), anyBoolean());
+        verify(mockHandle, never()).prepareBatch(anyString());
+        verify(mockUpdate).execute();
     }
 
+    /** ✅ saveResponse(): keeps one answer per real question and drops missing options */
+    @Test
+    void testSaveResponseDeduplicatesQuestions() {
+        // The named question IDs are not trusted: dedup happens per o.question_id in SQL
+        List<QuestionResponse> responses = List.of(
+                new QuestionResponse(1, 10, 101, false),
+                new QuestionResponse(1, 10, 102, true),
+                new QuestionResponse(1, 11, 0, true),
+                new QuestionResponse(1, 12, 101, true));
+
+        when(mockHandle.createUpdate(anyString())).thenReturn(mockUpdate);
+        doReturn(mockUpdate).when(mockUpdate).bindList(anyString(), anyList());
+
+        new JdbiResponseDao().saveResponse(5, responses);
+
+        verify(mockHandle).createUpdate(argThat(sql ->
+                sql.contains("PARTITION BY o.question_id") && sql.contains("pick = 1")));
+        verify(mockUpdate).bindList("optionIds", List.of(101, 102));
+    }
 
     /** ❌ saveResponse(): skips when list is null or empty */
     @Test
@@ -88,45 +102,7 @@ class JdbiResponseDaoTest extends BaseJdbiDaoTest {
     }
 
     // ============================================================
-    // 2️⃣ calculateScoreFromResponses()
-    // ============================================================
-
-    /** ✅ calculateScoreFromResponses(): returns valid score */
-    @Test
-    void testCalculateScoreFromResponsesSuccess() {
-        when(mockHandle.createQuery(startsWith("SELECT"))).thenReturn(mockQuery);
-        when(mockQuery.bind("attemptId", 5)).thenReturn(mockQuery);
-        when(mockQuery.mapTo(Integer.class)).thenReturn(mockIntResultIterable);
-        when(mockIntResultIterable.findOne()).thenReturn(Optional.of(3));
-
-        int score = new JdbiResponseDao().calculateScoreFromResponses(5);
-
-        assertEquals(3, score);
-        verify(mockQuery).bind("attemptId", 5);
-    }
-
-    /** ❌ calculateScoreFromResponses(): returns -1 when no result */
-    @Test
-    void testCalculateScoreFromResponsesNoResult() {
-        when(mockHandle.createQuery(startsWith("SELECT"))).thenReturn(mockQuery);
-        when(mockQuery.bind("attemptId", 8)).thenReturn(mockQuery);
-        when(mockQuery.mapTo(Integer.class)).thenReturn(mockIntResultIterable);
-        when(mockIntResultIterable.findOne()).thenReturn(Optional.empty());
-
-        int score = new JdbiResponseDao().calculateScoreFromResponses(8);
-        assertEquals(-1, score);
-    }
-
-    /** 💥 calculateScoreFromResponses(): propagates runtime exception */
-    @Test
-    void testCalculateScoreFromResponsesThrowsException() {
-        reset(mockJdbi);
-        when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("SQL fail"));
-        assertThrows(RuntimeException.class, () -> new JdbiResponseDao().calculateScoreFromResponses(1));
-    }
-
-    // ============================================================
-    // 3️⃣ getChosenOptionId()
+    // 2️⃣ getChosenOptionId()
     // ============================================================
 
     /** ✅ getChosenOptionId(): returns option id when found */
@@ -164,4 +140,48 @@ class JdbiResponseDaoTest extends BaseJdbiDaoTest {
         when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("Query failed"));
         assertThrows(RuntimeException.class, () -> new JdbiResponseDao().getChosenOptionId(1, 1));
     }
+
+    // ============================================================
+    // 3️⃣ getChosenOptionIds()
+    // ============================================================
+
+    /** ✅ getChosenOptionIds(): returns question → option map for the attempt */
+    @Test
+    void testGetChosenOptionIdsReturnsMap() {
+        when(mockHandle.createQuery(startsWith("SELECT"))).thenReturn(mockQuery);
+        when(mockQuery.bind("attemptId", 4)).thenReturn(mockQuery);
+
+        @SuppressWarnings("unchecked")
+        ResultIterable<Map.Entry<Integer, Integer>> mockEntries = mock(ResultIterable.class);
+        when(mockQuery.map(any(org.jdbi.v3.core.mapper.RowMapper.class))).thenReturn(mockEntries);
+        when(mockEntries.list()).thenReturn(List.of(Map.entry(10, 100), Map.entry(11, 104)));
+
+        Map<Integer, Integer> chosen = new JdbiResponseDao().getChosenOptionIds(4);
+
+        assertEquals(Map.of(10, 100, 11, 104), chosen);
+        verify(mockQuery).bind("attemptId", 4);
+        verify(mockHandle, times(1)).createQuery(anyString());
+    }
+
+    /** ❌ getChosenOptionIds(): returns empty map when attempt has no responses */
+    @Test
+    void testGetChosenOptionIdsEmpty() {
+        when(mockHandle.createQuery(startsWith("SELECT"))).thenReturn(mockQuery);
+        when(mockQuery.bind("attemptId", 4)).thenReturn(mockQuery);
+
+        @SuppressWarnings("unchecked")
+        ResultIterable<Map.Entry<Integer, Integer>> mockEntries = mock(ResultIterable.class);
+        when(mockQuery.map(any(org.jdbi.v3.core.mapper.RowMapper.class))).thenReturn(mockEntries);
+        when(mockEntries.list()).thenReturn(List.of());
+
+        assertTrue(new JdbiResponseDao().getChosenOptionIds(4).isEmpty());
+    }
+
+    /** 💥 getChosenOptionIds(): propagates runtime exception */
+    @Test
+    void testGetChosenOptionIdsThrowsException() {
+        reset(mockJdbi);
+        when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("Query failed"));
+        assertThrows(RuntimeException.class, () -> new JdbiResponseDao().getChosenOptionIds(1));
+    }
 }
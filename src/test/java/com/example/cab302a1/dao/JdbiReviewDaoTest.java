@@ -1,7 +1,6 @@
 package com.example.cab302a1.dao;
 
 import com.example.cab302a1.dao.jdbi.JdbiReviewDao;
-import com.example.cab302a1.dao.QuestionDao;
 import com.example.cab302a1.model.QuizReview;
 import org.jdbi.v3.core.mapper.RowMapper;
 import org.jdbi.v3.core.statement.StatementContext;
@@ -10,7 +9,6 @@ import org.junit.jupiter.api.Test;
 
 import java.sql.ResultSet;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -24,19 +22,16 @@ import static org.mockito.Mockito.*;
  */
 class JdbiReviewDaoTest extends BaseJdbiDaoTest {
 
-    private QuestionDao mockQuestionDao;
-
     @BeforeEach
     protected void setupMocks() {
         super.setupCommonMocks();
-        mockQuestionDao = mock(QuestionDao.class);
     }
 
     // ----------------------------------------------------------------------
     // getAllAttemptsById(userId)
     // ----------------------------------------------------------------------
 
-    /** ✅ returns list with one row and calls QuestionDao for totalQuestions */
+    /** ✅ returns list with one row, reading totalQuestions from the same query */
     @Test
     void testGetAllAttemptsById_ReturnsList() throws Exception {
         final int userId = 42;
@@ -62,8 +57,8 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
             when(rs.getString("feedback")).thenReturn("good job");
             when(rs.getString("title")).thenReturn("Algebra");
 
-            // QuestionDao should be called with quiz_id=7
-            when(mockQuestionDao.getNumQuestion(7)).thenReturn(12);
+            // Question count comes from the folded subquery column
+            when(rs.getInt("question_count")).thenReturn(12);
 
             // Create a ResultIterable that, on list(), maps one row
             @SuppressWarnings("unchecked")
@@ -73,7 +68,7 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
         });
 
         // Act
-        List<QuizReview> list = new JdbiReviewDao(mockQuestionDao).getAllAttemptsById(userId);
+        List<QuizReview> list = new JdbiReviewDao().getAllAttemptsById(userId);
 
         // Assert
         assertEquals(1, list.size());
@@ -87,7 +82,8 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
         assertEquals(12, r.getTotal());
 
         verify(mockQuery).bind("userId", userId);
-        verify(mockQuestionDao, times(1)).getNumQuestion(7);
+        // One statement only: no nested per-row COUNT query
+        verify(mockHandle, times(1)).createQuery(anyString());
     }
 
     /** ❌ returns empty list when no rows */
@@ -104,12 +100,10 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
         when(mockQuery.map(any(RowMapper.class))).thenReturn(ri);
         when(ri.list()).thenReturn(List.of()); // empty
 
-        List<QuizReview> list = new JdbiReviewDao(mockQuestionDao).getAllAttemptsById(userId);
+        List<QuizReview> list = new JdbiReviewDao().getAllAttemptsById(userId);
 
         assertTrue(list.isEmpty());
         verify(mockQuery).bind("userId", userId);
-        // QuestionDao should NOT be called if there are no rows
-        verify(mockQuestionDao, never()).getNumQuestion(anyInt());
     }
 
     /** 💥 propagates runtime exception from Jdbi.withHandle */
@@ -119,7 +113,7 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
         when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("DB failure"));
 
         assertThrows(RuntimeException.class,
-                () -> new JdbiReviewDao(mockQuestionDao).getAllAttemptsById(1));
+                () -> new JdbiReviewDao().getAllAttemptsById(1));
     }
 
     // ----------------------------------------------------------------------
@@ -150,7 +144,7 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
             when(rs.getString("feedback")).thenReturn("great");
             when(rs.getString("title")).thenReturn("Geometry");
 
-            when(mockQuestionDao.getNumQuestion(77)).thenReturn(20);
+            when(rs.getInt("question_count")).thenReturn(20);
 
             @SuppressWarnings("unchecked")
             org.jdbi.v3.core.result.ResultIterable<QuizReview> ri = mock(org.jdbi.v3.core.result.ResultIterable.class);
@@ -159,7 +153,7 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
         });
 
         List<QuizReview> list =
-                new JdbiReviewDao(mockQuestionDao).getStudentAttemptsforTeacher(userId, teacherId);
+                new JdbiReviewDao().getStudentAttemptsforTeacher(userId, teacherId);
 
         assertEquals(1, list.size());
         QuizReview r = list.get(0);
@@ -173,7 +167,7 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
 
         verify(mockQuery).bind("userId", userId);
         verify(mockQuery).bind("teacherId", teacherId);
-        verify(mockQuestionDao, times(1)).getNumQuestion(77);
+        verify(mockHandle, times(1)).createQuery(anyString());
     }
 
     /** ❌ returns empty list for no matching rows */
@@ -193,10 +187,9 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
         when(ri.list()).thenReturn(List.of()); // empty
 
         List<QuizReview> list =
-                new JdbiReviewDao(mockQuestionDao).getStudentAttemptsforTeacher(userId, teacherId);
+                new JdbiReviewDao().getStudentAttemptsforTeacher(userId, teacherId);
 
         assertTrue(list.isEmpty());
-        verify(mockQuestionDao, never()).getNumQuestion(anyInt());
     }
 
     /** 💥 propagates runtime exception from Jdbi.withHandle */
@@ -206,6 +199,6 @@ class JdbiReviewDaoTest extends BaseJdbiDaoTest {
         when(mockJdbi.withHandle(any())).thenThrow(new RuntimeException("boom"));
 
         assertThrows(RuntimeException.class,
-                () -> new JdbiReviewDao(mockQuestionDao).getStudentAttemptsforTeacher(1, 2));
+                () -> new JdbiReviewDao().getStudentAttemptsforTeacher(1, 2));
     }
 }
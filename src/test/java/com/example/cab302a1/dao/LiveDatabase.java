@@ -0,0 +1,69 @@
+package com.example.cab302a1.dao;
+
+import com.example.cab302a1.DBconnection;
+import org.jdbi.v3.core.Jdbi;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Shared setup for tests that run against the real database configured by {@code DB_URL}
+ * (any MySQL-compatible engine, e.g. a local MariaDB) instead of mocked JDBI.
+ * <p>
+ * Such tests are skipped, not failed, when the database is unreachable, so the suite
+ * still passes on machines without one.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     &#64;BeforeEach
+ *     void setUp() {
+ *         Jdbi jdbi = LiveDatabase.assumeDatabase("query budget checks");
+ *         LiveDatabase.usePlainDaos();
+ *     }
+ *
+ *     &#64;AfterEach
+ *     void tearDown() {
+ *         LiveDatabase.restoreDaos();
+ *     }
+ * </pre>
+ */
+public final class LiveDatabase {
+
+    private LiveDatabase() {}
+
+    /**
+     * Skips the calling test unless the database answers, then applies pending migrations.
+     *
+     * @param checks what is skipped, for the skip message (e.g. {@code "EXPLAIN checks"})
+     * @return the shared {@link Jdbi} instance
+     */
+    public static Jdbi assumeDatabase(String checks) {
+        boolean reachable;
+        try (var conn = DBconnection.getConnection()) {
+            reachable = conn.isValid(2);
+        } catch (Exception e) {
+            reachable = false;
+        }
+        assumeTrue(reachable, "Database not reachable; skipping " + checks);
+
+        DBconnection.migrate();
+        return DBconnection.getJdbi();
+    }
+
+    /**
+     * Makes {@link DaoFactory} hand out plain JDBI DAOs, so every call is a database
+     * round trip. Undo with {@link #restoreDaos()}.
+     */
+    public static void usePlainDaos() {
+        DaoFactory.configure(List.of());
+    }
+
+    /**
+     * Puts back the decorators configured by {@code DAO_DECORATORS}.
+     */
+    public static void restoreDaos() {
+        DaoFactory.configure(DaoDecorators.fromEnvironment());
+    }
+}
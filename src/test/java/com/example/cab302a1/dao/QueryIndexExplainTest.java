@@ -0,0 +1,164 @@
+package com.example.cab302a1.dao;
+
+import com.example.cab302a1.dao.jdbi.*;
+import org.jdbi.v3.core.Jdbi;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.core.statement.StatementContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EXPLAIN-based regression test for the indexes added in {@code V17__add_query_indexes.sql}.
+ * <p>
+ * Unlike the other DAO tests this one runs against the real database (see
+ * {@link LiveDatabase}). It runs the read methods of every {@code dao/jdbi} class,
+ * captures the SQL they issue, and checks via {@code EXPLAIN} that no table is read
+ * with a full scan when an index could serve the predicate.
+ * </p>
+ */
+class QueryIndexExplainTest {
+
+    /** Every SELECT issued by the DAOs while the capture logger is installed. */
+    private final Set<String> capturedSql = new LinkedHashSet<>();
+
+    private Jdbi jdbi;
+    private SqlLogger previousLogger;
+
+    @BeforeEach
+    void setUp() {
+        jdbi = LiveDatabase.assumeDatabase("EXPLAIN checks");
+        previousLogger = jdbi.getConfig(SqlStatements.class).getSqlLogger();
+        jdbi.setSqlLogger(new SqlLogger() {
+            @Override
+            public void logBeforeExecution(StatementContext context) {
+                String sql = context.getRenderedSql();
+                if (sql != null && sql.trim().toUpperCase().startsWith("SELECT")) {
+                    capturedSql.add(sql.trim());
+                }
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (jdbi != null) {
+            jdbi.setSqlLogger(previousLogger);
+        }
+    }
+
+    /**
+     * Runs each filtered DAO read, then EXPLAINs every captured statement.
+     */
+    @Test
+    void testHotDaoQueriesUseIndexes() {
+        int quizId = 1;
+        int userId = 3;
+        int teacherId = 2;
+        int attemptId = 1;
+        int questionId = 1;
+
+        AttemptDao attemptDao = new JdbiAttemptDao();
+        attemptDao.attemptExist(attemptId);
+        attemptDao.getScore(quizId, userId);
+        attemptDao.hasCompleted(quizId, userId);
+        attemptDao.getAttemptId(quizId, userId);
+        attemptDao.getCompletedQuizIds(userId);
+
+        QuestionDao questionDao = new JdbiQuestionDao();
+        questionDao.getAllQuestions(quizId);
+        questionDao.getNumQuestion(quizId);
+        questionDao.getQuestionsByQuizId(quizId);
+        questionDao.getQuestionsWithOptions(quizId);
+        questionDao.getQuestionCounts(List.of(quizId, 2));
+
+        new JdbiOptionDao().getOptionsByQuestionId(questionId);
+
+        QuizDao quizDao = new JdbiQuizDao();
+        quizDao.getQuizById(quizId);
+        quizDao.getQuizByTeacherId(teacherId);
+
+        ResponseDao responseDao = new JdbiResponseDao();
+        responseDao.getChosenOptionId(attemptId, questionId);
+        responseDao.getChosenOptionIds(attemptId);
+
+        ReviewDao reviewDao = new JdbiReviewDao();
+        reviewDao.getAllAttemptsById(userId);
+        reviewDao.getStudentAttemptsforTeacher(userId, teacherId);
+
+        UserDao userDao = new JdbiUserDao();
+        userDao.getUserById(userId);
+        userDao.getAllStudents();
+        userDao.existsByEmail("nobody@example.com");
+
+        assertFalse(capturedSql.isEmpty(), "No DAO statements were captured");
+
+        List<String> failures = new ArrayList<>();
+        for (String sql : capturedSql) {
+            for (Map<String, Object> row : explain(sql)) {
+                String type = String.valueOf(row.get("type"));
+                Object possibleKeys = row.get("possible_keys");
+                Object table = row.get("table");
+                // A full scan is only acceptable when no index could serve the predicate
+                // (e.g. the derived/subquery rows MySQL reports without a table).
+                if ("ALL".equalsIgnoreCase(type) && possibleKeys == null && table != null
+                        && !String.valueOf(table).startsWith("<")) {
+                    failures.add(table + " full scan without usable index in:\n" + sql);
+                }
+            }
+        }
+        assertTrue(failures.isEmpty(), String.join("\n\n", failures));
+    }
+
+    /**
+     * Verifies the composite indexes from V17 exist with the expected leading columns.
+     */
+    @Test
+    void testCompositeIndexesExist() {
+        assertIndexColumns("quiz_attempts", "idx_attempts_quiz_user_completed",
+                List.of("quiz_id", "answered_by", "is_completed", "attempt_id"));
+        assertIndexColumns("quiz_attempts", "idx_attempts_user_completed",
+                List.of("answered_by", "is_completed"));
+        assertIndexColumns("question_responses", "idx_responses_attempt_question",
+                List.of("attempt_id", "question_id"));
+        assertIndexColumns("users", "idx_users_role", List.of("role"));
+    }
+
+    private void assertIndexColumns(String table, String index, List<String> expected) {
+        List<String> columns = jdbi.withHandle(handle ->
+                handle.createQuery("""
+                    SELECT column_name
+                    FROM information_schema.statistics
+                    WHERE table_schema = DATABASE() AND table_name = :table AND index_name = :index
+                    ORDER BY seq_in_index
+                """)
+                        .bind("table", table)
+                        .bind("index", index)
+                        .mapTo(String.class)
+                        .list()
+        );
+        assertEquals(expected, columns, "Unexpected columns for " + table + "." + index);
+    }
+
+    /**
+     * Runs {@code EXPLAIN} for a captured statement, replacing named parameters
+     * with a quoted literal so the optimizer sees a constant predicate.
+     */
+    private List<Map<String, Object>> explain(String sql) {
+        String literalSql = sql.replaceAll("(?<!:):(\\w+)", "'1'");
+        return jdbi.withHandle(handle ->
+                handle.createQuery("EXPLAIN " + literalSql)
+                        .mapToMap()
+                        .list()
+        );
+    }
+}
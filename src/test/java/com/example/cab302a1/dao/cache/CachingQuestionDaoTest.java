@@ -0,0 +1,94 @@
+package com.example.cab302a1.dao.cache;
+
+import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingQuestionDao.
+ * Tests per-quiz count caching, bulk count top-up, invalidation on insert, and pass-through of question reads.
+ */
+class CachingQuestionDaoTest {
+
+    private QuestionDao mockQuestionDao;
+    private CachingQuestionDao questionDao;
+
+    @BeforeEach
+    void setUp() {
+        mockQuestionDao = mock(QuestionDao.class);
+        questionDao = new CachingQuestionDao(mockQuestionDao, new DaoCache(16, 0));
+    }
+
+    @Test
+    void testQuestionsWithOptions_AlwaysReadFromDelegate() {
+        when(mockQuestionDao.getQuestionsWithOptions(1)).thenReturn(List.of(new QuizQuestionCreate(10, 1, "Q1", "E")));
+
+        questionDao.getQuestionsWithOptions(1);
+        questionDao.getQuestionsWithOptions(1);
+
+        verify(mockQuestionDao, times(2)).getQuestionsWithOptions(1);
+    }
+
+    @Test
+    void testGetQuestionCounts_LoadsOnlyMissingIds() {
+        when(mockQuestionDao.getQuestionCounts(Set.of(1, 2))).thenReturn(Map.of(1, 5, 2, 0));
+        when(mockQuestionDao.getQuestionCounts(Set.of(3))).thenReturn(Map.of(3, 4));
+
+        assertEquals(Map.of(1, 5, 2, 0), questionDao.getQuestionCounts(List.of(1, 2)));
+        assertEquals(Map.of(1, 5, 2, 0, 3, 4), questionDao.getQuestionCounts(List.of(1, 2, 3)));
+        assertEquals(5, questionDao.getNumQuestion(1));
+
+        verify(mockQuestionDao, never()).getNumQuestion(anyInt());
+        verify(mockQuestionDao, times(2)).getQuestionCounts(anyCollection());
+    }
+
+    @Test
+    void testInsertQuestion_InvalidatesOnlyCountOfItsQuiz() {
+        when(mockQuestionDao.getNumQuestion(1)).thenReturn(1, 2);
+        when(mockQuestionDao.getNumQuestion(2)).thenReturn(3);
+        questionDao.getNumQuestion(1);
+        questionDao.getNumQuestion(2);
+
+        questionDao.insertQuestion(new QuizQuestionCreate(0, 1, "New", "E"));
+
+        assertEquals(2, questionDao.getNumQuestion(1));
+        assertEquals(3, questionDao.getNumQuestion(2));
+        verify(mockQuestionDao, times(1)).getNumQuestion(2);
+    }
+
+    @Test
+    void testInsertQuestion_WithoutQuizId_InvalidatesAllCounts() {
+        when(mockQuestionDao.getNumQuestion(1)).thenReturn(1);
+        when(mockQuestionDao.getNumQuestion(2)).thenReturn(3);
+        questionDao.getNumQuestion(1);
+        questionDao.getNumQuestion(2);
+
+        questionDao.insertQuestion(new QuizQuestionCreate());
+        questionDao.getNumQuestion(1);
+        questionDao.getNumQuestion(2);
+
+        verify(mockQuestionDao, times(2)).getNumQuestion(1);
+        verify(mockQuestionDao, times(2)).getNumQuestion(2);
+    }
+
+    @Test
+    void testUpdateQuestion_KeepsCounts() {
+        when(mockQuestionDao.getNumQuestion(1)).thenReturn(1);
+        questionDao.getNumQuestion(1);
+
+        QuizQuestionCreate edit = new QuizQuestionCreate(10, 1, "Edited", "E");
+        questionDao.updateQuestion(edit);
+        questionDao.getNumQuestion(1);
+
+        verify(mockQuestionDao).updateQuestion(edit);
+        verify(mockQuestionDao, times(1)).getNumQuestion(1);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.cab302a1.dao.cache;
+
+import com.example.cab302a1.dao.QuizDao;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for CachingQuizDao.
+ * Tests read-through caching, defensive copies, precise invalidation on writes and TTL expiry.
+ */
+class CachingQuizDaoTest {
+
+    private QuizDao mockQuizDao;
+    private AtomicLong clock;
+    private DaoCache cache;
+    private CachingQuizDao quizDao;
+
+    @BeforeEach
+    void setUp() {
+        mockQuizDao = mock(QuizDao.class);
+        clock = new AtomicLong();
+        cache = new DaoCache(16, 30, clock::get);
+        quizDao = new CachingQuizDao(mockQuizDao, cache);
+
+        when(mockQuizDao.getQuizById(1)).thenReturn(new Quiz(1, "One", "d1", 7, false, "teacher"));
+        when(mockQuizDao.getQuizById(2)).thenReturn(new Quiz(2, "Two", "d2", 7, false, "teacher"));
+        when(mockQuizDao.getAllQuizzes()).thenReturn(List.of(
+                new Quiz(1, "One", "d1", 7, false, "teacher"),
+                new Quiz(2, "Two", "d2", 7, false, "teacher")));
+    }
+
+    @Test
+    void testReads_HitDatabaseOnce() {
+        quizDao.getAllQuizzes();
+        quizDao.getAllQuizzes();
+        quizDao.getQuizById(1);
+        Quiz again = quizDao.getQuizById(1);
+
+        assertEquals("One", again.getTitle());
+        verify(mockQuizDao, times(1)).getAllQuizzes();
+        verify(mockQuizDao, times(1)).getQuizById(1);
+    }
+
+    @Test
+    void testReturnedQuizzes_AreCopies() {
+        Quiz first = quizDao.getQuizById(1);
+        first.setTitle("changed");
+        first.getQuestions().add(new QuizQuestionCreate());
+
+        Quiz second = quizDao.getQuizById(1);
+        assertNotSame(first, second);
+        assertEquals("One", second.getTitle());
+        assertTrue(second.getQuestions().isEmpty());
+    }
+
+    @Test
+    void testMissingQuiz_IsNotCached() {
+        assertNull(quizDao.getQuizById(99));
+        assertNull(quizDao.getQuizById(99));
+
+        verify(mockQuizDao, times(2)).getQuizById(99);
+    }
+
+    @Test
+    void testUpdateQuizStatus_InvalidatesOnlyThatQuizAndLists() {
+        quizDao.getQuizById(1);
+        quizDao.getQuizById(2);
+        quizDao.getAllQuizzes();
+
+        quizDao.updateQuizStatus(1, true);
+        quizDao.getQuizById(1);
+        quizDao.getQuizById(2);
+        quizDao.getAllQuizzes();
+
+        verify(mockQuizDao).updateQuizStatus(1, true);
+        verify(mockQuizDao, times(2)).getQuizById(1);
+        verify(mockQuizDao, times(1)).getQuizById(2);
+        verify(mockQuizDao, times(2)).getAllQuizzes();
+    }
+
+    @Test
+    void testUpdateQuiz_InvalidatesThatQuiz() {
+        quizDao.getQuizById(2);
+
+        quizDao.updateQuiz(new Quiz(2, "Two!", "d2", 7, false, "teacher"));
+        quizDao.getQuizById(2);
+
+        verify(mockQuizDao, times(2)).getQuizById(2);
+    }
+
+    @Test
+    void testInsertQuiz_InvalidatesListsButNotRows() {
+        when(mockQuizDao.getQuizByTeacherId(7)).thenReturn(List.of());
+        quizDao.getQuizByTeacherId(7);
+        quizDao.getQuizById(1);
+
+        quizDao.insertQuiz(new Quiz());
+        quizDao.getQuizByTeacherId(7);
+        quizDao.getQuizById(1);
+
+        verify(mockQuizDao, times(2)).getQuizByTeacherId(7);
+        verify(mockQuizDao, times(1)).getQuizById(1);
+    }
+
+    @Test
+    void testSaveQuizGraph_InvalidatesQuizAndItsCount_EvenOnFailure() {
+        cache.questionCounts.put(1, 1);
+        quizDao.getQuizById(1);
+
+        Quiz quiz = new Quiz(1, "One", "d1", 7, false, "teacher");
+        when(mockQuizDao.saveQuizGraph(quiz)).thenThrow(new IllegalStateException("boom"));
+        assertThrows(IllegalStateException.class, () -> quizDao.saveQuizGraph(quiz));
+
+        assertNull(cache.quizzes.getIfPresent(1));
+        assertNull(cache.questionCounts.getIfPresent(1));
+    }
+
+    @Test
+    void testEntries_ExpireAfterTtl() {
+        quizDao.getQuizById(1);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(29));
+        quizDao.getQuizById(1);
+        verify(mockQuizDao, times(1)).getQuizById(1);
+
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(2));
+        quizDao.getQuizById(1);
+        verify(mockQuizDao, times(2)).getQuizById(1);
+    }
+
+    @Test
+    void testLoadRacingAWrite_IsNotStored() {
+        // The load sees the old row, but the quiz is updated before it returns
+        when(mockQuizDao.getQuizById(1)).thenAnswer(inv -> {
+            quizDao.updateQuizStatus(1, true);
+            return new Quiz(1, "One", "d1", 7, false, "teacher");
+        });
+
+        quizDao.getQuizById(1);
+
+        assertNull(cache.quizzes.getIfPresent(1));
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.cab302a1.metrics;
+
+import com.example.cab302a1.dao.QuizDao;
+import com.example.cab302a1.model.Quiz;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DaoMetrics and MetricsRegistry.
+ * Tests call/row/error counting through the proxy, disabled mode and sink publishing.
+ */
+class DaoMetricsTest {
+
+    private QuizDao mockQuizDao;
+    private MetricsRegistry registry;
+    private QuizDao quizDao;
+
+    @BeforeEach
+    void setUp() {
+        mockQuizDao = mock(QuizDao.class);
+        registry = new MetricsRegistry(true, 0);
+        quizDao = DaoMetrics.instrument(QuizDao.class, mockQuizDao, registry);
+    }
+
+    private MetricSnapshot snapshotOf(String name) {
+        return registry.snapshot().stream()
+                .filter(s -> s.getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("no metric " + name));
+    }
+
+    @Test
+    void testInstrument_CountsCallsAndRows() {
+        // Arrange
+        List<Quiz> quizzes = List.of(new Quiz(), new Quiz(), new Quiz());
+        when(mockQuizDao.getAllQuizzes()).thenReturn(quizzes);
+        when(mockQuizDao.getQuizById(1)).thenReturn(new Quiz());
+        when(mockQuizDao.getQuizById(2)).thenReturn(null);
+
+        // Act
+        assertSame(quizzes, quizDao.getAllQuizzes());
+        quizDao.getAllQuizzes();
+        quizDao.getQuizById(1);
+        quizDao.getQuizById(2);
+        quizDao.updateQuizStatus(1, true);
+
+        // Assert
+        MetricSnapshot all = snapshotOf("QuizDao.getAllQuizzes");
+        assertEquals(2, all.getCount());
+        assertEquals(6, all.getRows());
+        assertEquals(0, all.getErrors());
+
+        MetricSnapshot byId = snapshotOf("QuizDao.getQuizById");
+        assertEquals(2, byId.getCount());
+        assertEquals(1, byId.getRows());
+
+        assertEquals(0, snapshotOf("QuizDao.updateQuizStatus").getRows());
+        verify(mockQuizDao).updateQuizStatus(1, true);
+    }
+
+    @Test
+    void testInstrument_CountsAndRethrowsErrors() {
+        // Arrange
+        IllegalStateException failure = new IllegalStateException("Quiz 9 no longer exists.");
+        when(mockQuizDao.saveQuizGraph(any())).thenThrow(failure);
+
+        // Act
+        IllegalStateException thrown = assertThrows(IllegalStateException.class,
+                () -> quizDao.saveQuizGraph(new Quiz()));
+
+        // Assert
+        assertSame(failure, thrown);
+        MetricSnapshot save = snapshotOf("QuizDao.saveQuizGraph");
+        assertEquals(0, save.getCount());
+        assertEquals(1, save.getErrors());
+    }
+
+    @Test
+    void testInstrument_Disabled_ReturnsTargetUnwrapped() {
+        MetricsRegistry disabled = new MetricsRegistry(false, 0);
+
+        assertSame(mockQuizDao, DaoMetrics.instrument(QuizDao.class, mockQuizDao, disabled));
+    }
+
+    @Test
+    void testPublish_SendsSortedSnapshotsToSinks_AndSurvivesFailingSink() {
+        // Arrange
+        List<List<MetricSnapshot>> received = new ArrayList<>();
+        registry.addSink(snapshots -> { throw new RuntimeException("boom"); });
+        registry.addSink(received::add);
+        quizDao.getQuizById(1);
+        quizDao.getAllQuizzes();
+
+        // Act
+        registry.publish();
+
+        // Assert
+        assertEquals(1, received.size());
+        List<String> names = received.get(0).stream().map(MetricSnapshot::getName).toList();
+        assertEquals(List.of("QuizDao.getAllQuizzes", "QuizDao.getQuizById"), names);
+    }
+
+    @Test
+    void testRowsOf_CountsCollectionsOptionalsAndScalars() {
+        assertEquals(0, DaoMetrics.rowsOf(null));
+        assertEquals(2, DaoMetrics.rowsOf(List.of(1, 2)));
+        assertEquals(3, DaoMetrics.rowsOf(new int[3]));
+        assertEquals(0, DaoMetrics.rowsOf(java.util.Optional.empty()));
+        assertEquals(1, DaoMetrics.rowsOf(42));
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.cab302a1.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for LatencyHistogram.
+ * Tests bucket layout, percentile accuracy against exact values, and clamping.
+ */
+class LatencyHistogramTest {
+
+    @Test
+    void testEmptyHistogram_ReportsZero() {
+        LatencyHistogram h = new LatencyHistogram();
+
+        assertEquals(0, h.getCount());
+        assertEquals(0, h.getPercentile(99));
+        assertEquals(0, h.getMax());
+        assertEquals(0.0, h.getMean());
+    }
+
+    @Test
+    void testSmallValues_AreExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        for (int v = 1; v <= 100; v++) {
+            h.record(v);
+        }
+
+        assertEquals(100, h.getCount());
+        assertEquals(50, h.getPercentile(50));
+        assertEquals(90, h.getPercentile(90));
+        assertEquals(100, h.getPercentile(100));
+        assertEquals(50.5, h.getMean(), 1e-9);
+    }
+
+    @Test
+    void testBuckets_AreContiguousAndContainTheirValues() {
+        // Every value maps to a bucket whose upper bound is >= the value and within 1/64 of it
+        for (long v : new long[]{0, 127, 128, 129, 255, 256, 1_000, 65_535, 1_000_000, 123_456_789L}) {
+            int index = LatencyHistogram.indexOf(v);
+            long high = LatencyHistogram.highestValueOf(index);
+            assertTrue(high >= v, "bucket of " + v);
+            assertTrue(high - v <= v / 64, "bucket of " + v + " too wide: " + high);
+            assertEquals(index + 1, LatencyHistogram.indexOf(high + 1), "next bucket after " + v);
+        }
+    }
+
+    @Test
+    void testPercentiles_WithinTwoPercentOfExact() {
+        LatencyHistogram h = new LatencyHistogram();
+        Random random = new Random(42);
+        long[] values = new long[50_000];
+        for (int i = 0; i < values.length; i++) {
+            // Log-normal-ish spread from ~100 µs to a few seconds
+            values[i] = (long) Math.exp(5 + random.nextDouble() * 10);
+            h.record(values[i]);
+        }
+        Arrays.sort(values);
+
+        for (double p : new double[]{50, 90, 99, 99.9}) {
+            long exact = values[(int) Math.ceil(p / 100 * values.length) - 1];
+            long estimate = h.getPercentile(p);
+            assertTrue(estimate >= exact, "p" + p + " underestimates");
+            assertTrue(estimate <= exact * 1.02, "p" + p + " estimate " + estimate + " vs exact " + exact);
+        }
+        assertEquals(values[values.length - 1], h.getMax());
+    }
+
+    @Test
+    void testHugeAndNegativeValues_AreClamped() {
+        LatencyHistogram h = new LatencyHistogram();
+        h.record(-5);
+        h.record(Long.MAX_VALUE);
+
+        assertEquals(2, h.getCount());
+        assertEquals(0, h.getPercentile(50));
+        assertEquals(LatencyHistogram.MAX_TRACKABLE_MICROS, h.getPercentile(100));
+    }
+}
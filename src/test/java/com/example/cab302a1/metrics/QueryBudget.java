@@ -0,0 +1,37 @@
+package com.example.cab302a1.metrics;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limits the SQL statements a test may execute through the shared JDBI instance.
+ * <p>
+ * The test body runs inside a {@link QueryTracker} scope; the test fails when it
+ * executes more than {@link #maxStatements()} statements in total, or runs any one
+ * SQL shape more than {@link #maxRepeats()} times (the signature of a query in a loop).
+ * Only statements issued on the test thread are counted, and only against a real
+ * database: mocked JDBI calls never reach the tracker.
+ * </p>
+ *
+ * <p>Usage Example:</p>
+ * <pre>
+ *     &#64;Test
+ *     &#64;QueryBudget(maxStatements = 1)
+ *     void loadQuizFully_UsesOneQuery() { ... }
+ * </pre>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(QueryBudgetExtension.class)
+public @interface QueryBudget {
+
+    /** Maximum statements for the whole test. */
+    int maxStatements() default Integer.MAX_VALUE;
+
+    /** Maximum executions of any single SQL shape. */
+    int maxRepeats() default 1;
+}
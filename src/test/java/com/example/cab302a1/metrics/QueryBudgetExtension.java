@@ -0,0 +1,59 @@
+package com.example.cab302a1.metrics;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * JUnit extension behind {@link QueryBudget}.
+ * <p>
+ * Opens a {@link QueryTracker} scope right before the test method runs (after any
+ * {@code @BeforeEach} set-up queries) and checks the budget right after it returns.
+ * </p>
+ */
+public class QueryBudgetExtension implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace NAMESPACE =
+            ExtensionContext.Namespace.create(QueryBudgetExtension.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        QueryTracker.Scope scope = QueryTracker.getInstance().begin(context.getDisplayName());
+        context.getStore(NAMESPACE).put(context.getUniqueId(), scope);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        QueryTracker.Scope scope = context.getStore(NAMESPACE)
+                .remove(context.getUniqueId(), QueryTracker.Scope.class);
+        if (scope == null) {
+            return;
+        }
+        scope.close();
+        if (context.getExecutionException().isPresent()) {
+            return; // report the original failure, not the budget
+        }
+
+        QueryBudget budget = budgetFor(context);
+        Map<String, Integer> repeated = scope.getRepeatedShapes(budget.maxRepeats());
+        if (!repeated.isEmpty()) {
+            fail("Query budget exceeded (a statement ran more than " + budget.maxRepeats()
+                    + " time(s), likely a query in a loop): " + scope.describe(repeated));
+        }
+        if (scope.getStatementCount() > budget.maxStatements()) {
+            fail("Query budget exceeded (max " + budget.maxStatements() + " statement(s)): "
+                    + scope.describe(scope.getCountsByShape()));
+        }
+    }
+
+    private static QueryBudget budgetFor(ExtensionContext context) {
+        return AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), QueryBudget.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), QueryBudget.class))
+                .orElseThrow();
+    }
+}
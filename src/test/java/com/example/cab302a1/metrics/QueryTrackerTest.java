@@ -0,0 +1,87 @@
+package com.example.cab302a1.metrics;
+
+import org.jdbi.v3.core.statement.StatementContext;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QueryTracker.
+ * Tests shape normalisation, per-scope counting, nesting and repeated-shape detection.
+ */
+class QueryTrackerTest {
+
+    private final QueryTracker tracker = new QueryTracker(0);
+
+    private void execute(String sql) {
+        StatementContext ctx = mock(StatementContext.class);
+        when(ctx.getRawSql()).thenReturn(sql);
+        tracker.logAfterExecution(ctx);
+    }
+
+    @Test
+    void testStatementsOutsideScope_AreIgnored() {
+        execute("SELECT 1");
+
+        try (QueryTracker.Scope scope = tracker.begin("op")) {
+            assertEquals(0, scope.getStatementCount());
+        }
+    }
+
+    @Test
+    void testSameShape_IsCountedOnce_RegardlessOfWhitespace() {
+        try (QueryTracker.Scope scope = tracker.begin("loadQuiz")) {
+            execute("SELECT * FROM options WHERE question_id = :id");
+            execute("SELECT *\n    FROM options\n    WHERE question_id = :id  ");
+            execute("SELECT * FROM questions WHERE quiz_id = :id");
+
+            assertEquals(3, scope.getStatementCount());
+            assertEquals(Map.of(
+                    "SELECT * FROM options WHERE question_id = :id", 2,
+                    "SELECT * FROM questions WHERE quiz_id = :id", 1), scope.getCountsByShape());
+            assertEquals(Map.of("SELECT * FROM options WHERE question_id = :id", 2),
+                    scope.getRepeatedShapes(1));
+            assertTrue(scope.getRepeatedShapes(2).isEmpty());
+        }
+    }
+
+    @Test
+    void testNestedScopes_CountIntoParent_AndRestoreOnClose() {
+        try (QueryTracker.Scope outer = tracker.begin("page")) {
+            execute("SELECT a");
+            try (QueryTracker.Scope inner = tracker.begin("service")) {
+                execute("SELECT b");
+                assertEquals(1, inner.getStatementCount());
+            }
+            execute("SELECT c");
+
+            assertEquals(3, outer.getStatementCount());
+        }
+    }
+
+    @Test
+    void testFailedStatements_AreCounted() {
+        StatementContext ctx = mock(StatementContext.class);
+        when(ctx.getRawSql()).thenReturn("UPDATE quizzes SET title = :t");
+
+        try (QueryTracker.Scope scope = tracker.begin("save")) {
+            tracker.logException(ctx, new java.sql.SQLException("boom"));
+            assertEquals(1, scope.getStatementCount());
+        }
+    }
+
+    @Test
+    void testDescribe_ListsShapesWithCounts() {
+        try (QueryTracker.Scope scope = tracker.begin("HomeController")) {
+            execute("SELECT x");
+            execute("SELECT x");
+
+            String text = scope.describe(scope.getCountsByShape());
+            assertTrue(text.startsWith("HomeController ran 2 statement(s)"));
+            assertTrue(text.contains("2x SELECT x"));
+        }
+    }
+}
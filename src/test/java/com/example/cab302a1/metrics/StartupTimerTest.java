@@ -0,0 +1,64 @@
+package com.example.cab302a1.metrics;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for StartupTimer.
+ * Uses a manual clock to check first-mark-wins, the report contents and when it is printed.
+ */
+class StartupTimerTest {
+
+    private long nowNanos;
+    private ByteArrayOutputStream printed;
+    private StartupTimer timer;
+
+    @BeforeEach
+    void setUp() {
+        nowNanos = 1_000_000_000L;
+        printed = new ByteArrayOutputStream();
+        timer = new StartupTimer(() -> nowNanos, nowNanos, new PrintStream(printed, true, StandardCharsets.UTF_8));
+    }
+
+    private void advanceMillis(long millis) {
+        nowNanos += millis * 1_000_000;
+    }
+
+    @Test
+    void testMark_FirstOneWins() {
+        advanceMillis(120);
+        assertTrue(timer.mark(StartupTimer.LOGIN_SHOWN));
+        advanceMillis(50);
+        assertFalse(timer.mark(StartupTimer.LOGIN_SHOWN));
+
+        assertEquals(120, timer.elapsedMillis(StartupTimer.LOGIN_SHOWN));
+        assertEquals(-1, timer.elapsedMillis(StartupTimer.HOME_RENDERED));
+    }
+
+    @Test
+    void testReport_PrintedOnceWhenHomeRendered() {
+        advanceMillis(800);
+        timer.mark(StartupTimer.LOGIN_SHOWN);
+        advanceMillis(400);
+        timer.mark(StartupTimer.PREWARM_DONE);
+        assertEquals("", printed.toString(StandardCharsets.UTF_8));
+
+        advanceMillis(5_000);
+        timer.mark(StartupTimer.LOGIN_SUBMITTED);
+        advanceMillis(250);
+        timer.mark(StartupTimer.HOME_RENDERED);
+        timer.mark(StartupTimer.HOME_RENDERED);
+
+        String report = printed.toString(StandardCharsets.UTF_8);
+        assertEquals(1, report.split("Startup timing", -1).length - 1);
+        assertTrue(report.matches("(?s).*time-to-login-screen\\s+800\\b.*"), report);
+        assertTrue(report.matches("(?s).*time-to-first-home-render\\s+250\\s+\\(at 6450\\).*"), report);
+        assertTrue(report.matches("(?s).*prewarm-done\\s+1200\\b.*"), report);
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.cab302a1.model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnswerKey.
+ * Each rule of the SQL grading path is checked on a small quiz:
+ * question 10 (options 100 correct, 101 wrong), question 11 (110 wrong, 111 correct),
+ * question 12 (120 and 121 both correct) and question 13 (130 wrong only).
+ */
+class AnswerKeyTest {
+
+    private AnswerKey key;
+
+    private static QuizQuestionCreate question(int id, int[] optionIds, boolean... correct) {
+        QuizQuestionCreate q = new QuizQuestionCreate(id, 1, "Q" + id, null);
+        List<QuizChoiceCreate> choices = new ArrayList<>();
+        for (int i = 0; i < optionIds.length; i++) {
+            QuizChoiceCreate c = new QuizChoiceCreate("O" + optionIds[i], correct[i]);
+            c.setOption_id(optionIds[i]);
+            choices.add(c);
+        }
+        q.setOptions(choices);
+        return q;
+    }
+
+    private static QuestionResponse answer(int questionId, int optionId) {
+        return new QuestionResponse(1, questionId, optionId, false);
+    }
+
+    @BeforeEach
+    void setUp() {
+        key = AnswerKey.of(CompactQuiz.of(new Quiz(), List.of(
+                question(10, new int[]{100, 101}, true, false),
+                question(11, new int[]{110, 111}, false, true),
+                question(12, new int[]{120, 121}, true, true),
+                question(13, new int[]{130}, false))));
+    }
+
+    @Test
+    void testScore_CountsCorrectAnswers() {
+        assertEquals(3, key.score(List.of(answer(10, 100), answer(11, 111), answer(12, 121), answer(13, 130))));
+        assertEquals(1, key.score(List.of(answer(10, 100), answer(11, 110))));
+        assertEquals(0, key.score(List.of()));
+        assertEquals(0, key.score(null));
+    }
+
+    @Test
+    void testScore_FirstAnswerPerQuestionWins() {
+        assertEquals(0, key.score(List.of(answer(10, 101), answer(10, 100))));
+        assertEquals(1, key.score(List.of(answer(10, 100), answer(10, 101))));
+    }
+
+    @Test
+    void testScore_IgnoresUnansweredAndForeignOptions() {
+        // Option 0 does not use up the question; the later answer still counts
+        assertEquals(1, key.score(List.of(answer(10, 0), answer(10, 100))));
+        assertEquals(0, key.score(List.of(answer(10, 999))));
+    }
+
+    @Test
+    void testScore_DeduplicatesOnTheOptionsOwnQuestion() {
+        // The named question is ignored; an option counts for the question it belongs to...
+        assertEquals(1, key.score(List.of(answer(11, 100))));
+        // ...and only the first option of that question counts, whatever IDs are named
+        assertEquals(1, key.score(List.of(answer(10, 100), answer(11, 100), answer(77, 100))));
+        assertEquals(0, key.score(List.of(answer(77, 101), answer(78, 100))));
+        assertEquals(0, key.score(List.of(answer(10, 101), answer(11, 100), answer(12, 102))));
+    }
+
+    @Test
+    void testScore_ArraysAndLargeQuiz() {
+        List<QuizQuestionCreate> questions = new ArrayList<>();
+        int n = 1000;
+        int[] optionIds = new int[n];
+        for (int i = 0; i < n; i++) {
+            int qid = 5000 + i;
+            questions.add(question(qid, new int[]{qid * 10, qid * 10 + 1}, true, false));
+            optionIds[i] = qid * 10 + (i % 3 == 0 ? 1 : 0);
+        }
+        AnswerKey large = AnswerKey.of(CompactQuiz.of(new Quiz(), questions));
+
+        assertEquals(n - (n + 2) / 3, large.score(optionIds, n));
+        assertEquals(1, large.score(optionIds, 2));
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.cab302a1.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AnswerSelections.
+ * Tests the unanswered default, the answered count and the list handed to the submit flow.
+ */
+class AnswerSelectionsTest {
+
+    @Test
+    void testNewSheet_HasNoAnswers() {
+        AnswerSelections sheet = new AnswerSelections(3);
+
+        assertEquals(3, sheet.size());
+        assertEquals(0, sheet.answeredCount());
+        assertEquals(List.of(-1, -1, -1), sheet.toList());
+    }
+
+    @Test
+    void testSet_TracksAnsweredCount() {
+        AnswerSelections sheet = new AnswerSelections(4);
+
+        sheet.set(0, 2);
+        sheet.set(3, 0);
+        sheet.set(0, 1); // changing an answer does not count twice
+        assertEquals(2, sheet.answeredCount());
+        assertEquals(1, sheet.get(0));
+
+        sheet.set(3, AnswerSelections.NONE);
+        assertEquals(1, sheet.answeredCount());
+        assertEquals(List.of(1, -1, -1, -1), sheet.toList());
+    }
+
+    @Test
+    void testInvalidInput_IsRejected() {
+        AnswerSelections sheet = new AnswerSelections(2);
+
+        assertThrows(IllegalArgumentException.class, () -> sheet.set(0, -2));
+        assertThrows(IllegalArgumentException.class, () -> sheet.set(0, AnswerSelections.MAX_OPTION + 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> sheet.set(2, 0));
+        assertThrows(IllegalArgumentException.class, () -> new AnswerSelections(-1));
+    }
+
+    @Test
+    void testLargeExam_StaysCompact() {
+        AnswerSelections sheet = new AnswerSelections(10_000);
+        for (int q = 0; q < sheet.size(); q += 2) {
+            sheet.set(q, q % 4);
+        }
+
+        assertEquals(5_000, sheet.answeredCount());
+        assertEquals(2, sheet.get(9_994));
+        assertEquals(AnswerSelections.NONE, sheet.get(9_995));
+    }
+}
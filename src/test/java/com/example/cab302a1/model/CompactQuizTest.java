@@ -0,0 +1,112 @@
+package com.example.cab302a1.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for CompactQuiz.
+ * Tests packing, index access, text sharing and conversion back to the regular models.
+ */
+class CompactQuizTest {
+
+    private static QuizQuestionCreate question(int id, String text, String explanation, QuizChoiceCreate... choices) {
+        QuizQuestionCreate q = new QuizQuestionCreate(id, 1, text, explanation);
+        q.setOptions(new ArrayList<>(List.of(choices)));
+        return q;
+    }
+
+    private static QuizChoiceCreate choice(int id, String text, boolean correct) {
+        QuizChoiceCreate c = new QuizChoiceCreate(text, correct);
+        c.setOption_id(id);
+        return c;
+    }
+
+    @Test
+    void testOf_PacksQuestionsAndOptionsByIndex() {
+        Quiz quiz = new Quiz(1, "Maths", "Basics", 7, true, "alice");
+        CompactQuiz compact = CompactQuiz.of(quiz, List.of(
+                question(10, "2+2?", "Four", choice(100, "4", true), choice(101, "5", false)),
+                question(11, "Empty?", null)));
+
+        assertEquals(1, compact.getQuizId());
+        assertEquals("Maths", compact.getTitle());
+        assertTrue(compact.isHidden());
+        assertEquals(2, compact.questionCount());
+        assertEquals(2, compact.optionCount());
+
+        assertEquals(10, compact.questionId(0));
+        assertEquals("2+2?", compact.questionText(0));
+        assertEquals("Four", compact.explanation(0));
+        assertEquals(0, compact.optionStart(0));
+        assertEquals(2, compact.optionEnd(0));
+        assertEquals(101, compact.optionId(1));
+        assertEquals("5", compact.optionText(1));
+        assertTrue(compact.isCorrect(0));
+        assertFalse(compact.isCorrect(1));
+
+        // A question without options has an empty range
+        assertNull(compact.explanation(1));
+        assertEquals(compact.optionStart(1), compact.optionEnd(1));
+    }
+
+    @Test
+    void testOf_StoresRepeatedTextsOnce() {
+        List<QuizQuestionCreate> questions = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            questions.add(question(i, "Statement " + i, "", choice(i * 2, "True", i % 2 == 0),
+                    choice(i * 2 + 1, new String("False"), i % 2 == 1)));
+        }
+
+        CompactQuiz compact = CompactQuiz.of(new Quiz(), questions);
+
+        // 50 statements + "" + "True" + "False"
+        assertEquals(53, compact.distinctTextCount());
+        assertEquals("", compact.explanation(49));
+        assertEquals("False", compact.optionText(99));
+    }
+
+    @Test
+    void testCorrectBitset_SpansMultipleWords() {
+        List<QuizChoiceCreate> choices = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            choices.add(choice(i, "o" + i, i == 0 || i == 63 || i == 64 || i == 129));
+        }
+
+        CompactQuiz compact = CompactQuiz.of(new Quiz(),
+                List.of(question(1, "Many", null, choices.toArray(new QuizChoiceCreate[0]))));
+
+        for (int i = 0; i < 130; i++) {
+            assertEquals(i == 0 || i == 63 || i == 64 || i == 129, compact.isCorrect(i), "option " + i);
+        }
+    }
+
+    @Test
+    void testToQuiz_RoundTripsIntoFreshModels() {
+        Quiz quiz = new Quiz(3, "Quiz", null, 2, false, null);
+        List<QuizQuestionCreate> questions = List.of(
+                question(30, "Q1", "E1", choice(300, "A", false), choice(301, "B", true)));
+        CompactQuiz compact = CompactQuiz.of(quiz, questions);
+
+        Quiz copy = compact.toQuiz();
+
+        assertEquals(3, copy.getQuizId());
+        assertNull(copy.getDescription());
+        assertEquals(2, copy.getCreated_by());
+        QuizQuestionCreate q = copy.getQuestions().get(0);
+        assertEquals(30, q.getQuestionId());
+        assertEquals(3, q.getQuizId());
+        assertEquals("E1", q.getExplanation());
+        assertEquals(301, q.getChoices().get(1).getOption_id());
+        assertEquals(30, q.getChoices().get(1).getQuestion_id());
+        assertTrue(q.getChoices().get(1).isCorrect());
+
+        // Mutating the copy does not affect the packed data
+        q.getChoices().get(0).setText("changed");
+        assertEquals("A", compact.optionText(0));
+        assertNotSame(q, compact.toQuestions().get(0));
+    }
+}
@@ -5,14 +5,11 @@ import com.example.cab302a1.dao.QuestionDao;
 import com.example.cab302a1.dao.QuizDao;
 import com.example.cab302a1.dao.UserDao;
 import com.example.cab302a1.model.Quiz;
-import com.example.cab302a1.model.QuizQuestionCreate;
 import com.example.cab302a1.model.User;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Timestamp;
-import java.util.ArrayList;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -50,16 +47,12 @@ class QuizResultServiceTest {
         Quiz quiz = new Quiz();
         quiz.setQuizId(quizId);
         quiz.setTitle("Math Quiz");
-        when(mockQuizDao.getAllQuizzes()).thenReturn(List.of(quiz));
+        when(mockQuizDao.getQuizById(quizId)).thenReturn(quiz);
         
         User user = new User(userId, "student1", "student@test.com", "Student", new Timestamp(System.currentTimeMillis()));
         when(mockUserDao.getUserById(userId)).thenReturn(user);
         
-        List<QuizQuestionCreate> questions = new ArrayList<>();
-        for (int i = 0; i < 20; i++) {
-            questions.add(new QuizQuestionCreate());
-        }
-        when(mockQuestionDao.getAllQuestions(quizId)).thenReturn(questions);
+        when(mockQuestionDao.getNumQuestion(quizId)).thenReturn(20);
 
         // Act
         QuizResultData result = service.getQuizResult(quizId, userId);
@@ -73,9 +66,12 @@ class QuizResultServiceTest {
         assertEquals(userId, result.getUserId());
         
         verify(mockAttemptDao).getScore(quizId, userId);
-        verify(mockQuizDao).getAllQuizzes();
+        verify(mockQuizDao).getQuizById(quizId);
         verify(mockUserDao).getUserById(userId);
-        verify(mockQuestionDao).getAllQuestions(quizId);
+        verify(mockQuestionDao).getNumQuestion(quizId);
+        // Targeted lookups only: never scan the whole catalogue
+        verify(mockQuizDao, never()).getAllQuizzes();
+        verify(mockQuestionDao, never()).getAllQuestions(anyInt());
     }
 
     @Test
@@ -103,7 +99,7 @@ class QuizResultServiceTest {
         int userId = 100;
         
         when(mockAttemptDao.getScore(quizId, userId)).thenReturn(10);
-        when(mockQuizDao.getAllQuizzes()).thenReturn(new ArrayList<>());
+        when(mockQuizDao.getQuizById(quizId)).thenReturn(null);
 
         // Act & Assert
         QuizResultService.QuizResultException exception = assertThrows(
@@ -113,7 +109,7 @@ class QuizResultServiceTest {
         
         assertTrue(exception.getMessage().contains("Quiz not found"));
         verify(mockAttemptDao).getScore(quizId, userId);
-        verify(mockQuizDao).getAllQuizzes();
+        verify(mockQuizDao).getQuizById(quizId);
     }
 
     @Test
@@ -127,7 +123,7 @@ class QuizResultServiceTest {
         Quiz quiz = new Quiz();
         quiz.setQuizId(quizId);
         quiz.setTitle("Test Quiz");
-        when(mockQuizDao.getAllQuizzes()).thenReturn(List.of(quiz));
+        when(mockQuizDao.getQuizById(quizId)).thenReturn(quiz);
         
         when(mockUserDao.getUserById(userId)).thenReturn(null);
 
@@ -199,16 +195,12 @@ class QuizResultServiceTest {
         Quiz quiz = new Quiz();
         quiz.setQuizId(quizId);
         quiz.setTitle("Perfect Score Quiz");
-        when(mockQuizDao.getAllQuizzes()).thenReturn(List.of(quiz));
+        when(mockQuizDao.getQuizById(quizId)).thenReturn(quiz);
         
         User user = new User(userId, "topstudent", "top@test.com", "Student", new Timestamp(System.currentTimeMillis()));
         when(mockUserDao.getUserById(userId)).thenReturn(user);
         
-        List<QuizQuestionCreate> questions = new ArrayList<>();
-        for (int i = 0; i < 10; i++) {
-            questions.add(new QuizQuestionCreate());
-        }
-        when(mockQuestionDao.getAllQuestions(quizId)).thenReturn(questions);
+        when(mockQuestionDao.getNumQuestion(quizId)).thenReturn(10);
 
         // Act
         QuizResultData result = service.getQuizResult(quizId, userId);
@@ -233,16 +225,12 @@ class QuizResultServiceTest {
         Quiz quiz = new Quiz();
         quiz.setQuizId(quizId);
         quiz.setTitle("Failed Quiz");
-        when(mockQuizDao.getAllQuizzes()).thenReturn(List.of(quiz));
+        when(mockQuizDao.getQuizById(quizId)).thenReturn(quiz);
         
         User user = new User(userId, "student2", "student2@test.com", "Student", new Timestamp(System.currentTimeMillis()));
         when(mockUserDao.getUserById(userId)).thenReturn(user);
         
-        List<QuizQuestionCreate> questions = new ArrayList<>();
-        for (int i = 0; i < 15; i++) {
-            questions.add(new QuizQuestionCreate());
-        }
-        when(mockQuestionDao.getAllQuestions(quizId)).thenReturn(questions);
+        when(mockQuestionDao.getNumQuestion(quizId)).thenReturn(15);
 
         // Act
         QuizResultData result = service.getQuizResult(quizId, userId);
@@ -268,16 +256,12 @@ class QuizResultServiceTest {
         Quiz quiz = new Quiz();
         quiz.setQuizId(quizId);
         quiz.setTitle("Boundary Quiz");
-        when(mockQuizDao.getAllQuizzes()).thenReturn(List.of(quiz));
+        when(mockQuizDao.getQuizById(quizId)).thenReturn(quiz);
         
         User user = new User(userId, "student3", "student3@test.com", "Student", new Timestamp(System.currentTimeMillis()));
         when(mockUserDao.getUserById(userId)).thenReturn(user);
         
-        List<QuizQuestionCreate> questions = new ArrayList<>();
-        for (int i = 0; i < 20; i++) {
-            questions.add(new QuizQuestionCreate());
-        }
-        when(mockQuestionDao.getAllQuestions(quizId)).thenReturn(questions);
+        when(mockQuestionDao.getNumQuestion(quizId)).thenReturn(20);
 
         // Act
         QuizResultData result = service.getQuizResult(quizId, userId);
@@ -311,16 +295,14 @@ class QuizResultServiceTest {
         quiz3.setQuizId(10);
         quiz3.setTitle("Wrong Quiz 2");
         
-        when(mockQuizDao.getAllQuizzes()).thenReturn(List.of(quiz1, quiz2, quiz3));
+        when(mockQuizDao.getQuizById(1)).thenReturn(quiz1);
+        when(mockQuizDao.getQuizById(5)).thenReturn(quiz2);
+        when(mockQuizDao.getQuizById(10)).thenReturn(quiz3);
         
         User user = new User(userId, "student4", "student4@test.com", "Student", new Timestamp(System.currentTimeMillis()));
         when(mockUserDao.getUserById(userId)).thenReturn(user);
         
-        List<QuizQuestionCreate> questions = new ArrayList<>();
-        for (int i = 0; i < 10; i++) {
-            questions.add(new QuizQuestionCreate());
-        }
-        when(mockQuestionDao.getAllQuestions(quizId)).thenReturn(questions);
+        when(mockQuestionDao.getNumQuestion(quizId)).thenReturn(10);
 
         // Act
         QuizResultData result = service.getQuizResult(quizId, userId);
@@ -329,6 +311,33 @@ class QuizResultServiceTest {
         assertNotNull(result);
         assertEquals("Correct Quiz", result.getQuizTitle());
         assertEquals(5, result.getQuizId());
+        verify(mockQuizDao).getQuizById(5);
+        verify(mockQuizDao, never()).getQuizById(1);
+        verify(mockQuizDao, never()).getQuizById(10);
     }
-}
 
+    @Test
+    void testGetQuizResult_WhenCountQueryFails_UsesDefaultTotal() throws QuizResultService.QuizResultException {
+        // Arrange
+        int quizId = 3;
+        int userId = 300;
+
+        when(mockAttemptDao.getScore(quizId, userId)).thenReturn(4);
+
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(quizId);
+        quiz.setTitle("Count Failure Quiz");
+        when(mockQuizDao.getQuizById(quizId)).thenReturn(quiz);
+
+        User user = new User(userId, "student5", "student5@test.com", "Student", new Timestamp(System.currentTimeMillis()));
+        when(mockUserDao.getUserById(userId)).thenReturn(user);
+
+        when(mockQuestionDao.getNumQuestion(quizId)).thenReturn(-1);
+
+        // Act
+        QuizResultData result = service.getQuizResult(quizId, userId);
+
+        // Assert - falls back to the documented default of 20
+        assertEquals(20, result.getTotalQuestions());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.cab302a1.result;
+
+import com.example.cab302a1.model.QuizChoiceCreate;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResultQuestion.
+ * Tests how the correct and chosen options are located among the choices.
+ */
+class ResultQuestionTest {
+
+    private static QuizChoiceCreate choice(int optionId, boolean correct) {
+        QuizChoiceCreate choice = new QuizChoiceCreate("Option " + optionId, correct);
+        choice.setOption_id(optionId);
+        return choice;
+    }
+
+    private static QuizQuestionCreate question(QuizChoiceCreate... choices) {
+        QuizQuestionCreate question = new QuizQuestionCreate(1, 1, "Question", "Explanation");
+        question.setOptions(List.of(choices));
+        return question;
+    }
+
+    @Test
+    void testIndexes_WithChosenAndCorrectOption_ReturnsPositions() {
+        QuizQuestionCreate question = question(choice(10, false), choice(11, true), choice(12, false));
+
+        ResultQuestion rq = new ResultQuestion(question, 12);
+
+        assertEquals(1, rq.getCorrectIndex());
+        assertEquals(2, rq.getSelectedIndex());
+    }
+
+    @Test
+    void testSelectedIndex_WithUnknownOption_ReturnsMinusOne() {
+        ResultQuestion rq = new ResultQuestion(question(choice(10, true), choice(11, false)), 99);
+
+        assertEquals(0, rq.getCorrectIndex());
+        assertEquals(-1, rq.getSelectedIndex());
+    }
+
+    @Test
+    void testIndexes_WithoutChoices_ReturnMinusOne() {
+        QuizQuestionCreate question = new QuizQuestionCreate(1, 1, "Question", "Explanation");
+        question.setOptions(null);
+
+        ResultQuestion rq = new ResultQuestion(question, 10);
+
+        assertEquals(-1, rq.getCorrectIndex());
+        assertEquals(-1, rq.getSelectedIndex());
+    }
+}
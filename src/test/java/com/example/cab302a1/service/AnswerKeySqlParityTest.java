@@ -0,0 +1,202 @@
+package com.example.cab302a1.service;
+
+import com.example.cab302a1.dao.AttemptDao;
+import com.example.cab302a1.dao.DaoFactory;
+import com.example.cab302a1.dao.LiveDatabase;
+import com.example.cab302a1.dao.QuizVersions;
+import com.example.cab302a1.model.AnswerKey;
+import com.example.cab302a1.model.QuestionResponse;
+import com.example.cab302a1.model.QuizSnapshot;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that in-memory grading with {@link AnswerKey} gives exactly the score the
+ * database stores when the same responses are submitted through {@link AttemptDao}.
+ * <p>
+ * Runs against the real database (see {@link LiveDatabase}); the attempts it creates
+ * are deleted afterwards.
+ * </p>
+ */
+class AnswerKeySqlParityTest {
+
+    private static final int SHEETS_PER_QUIZ = 25;
+
+    private Jdbi jdbi;
+    private int studentId;
+    private final List<Integer> createdAttempts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbi = LiveDatabase.assumeDatabase("grading parity checks");
+        LiveDatabase.usePlainDaos();
+
+        studentId = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT user_id FROM users WHERE role = 'Student' ORDER BY user_id LIMIT 1")
+                        .mapTo(Integer.class)
+                        .findOne()
+                        .orElse(0));
+        assumeTrue(studentId > 0, "No student user; skipping grading parity checks");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (jdbi != null && !createdAttempts.isEmpty()) {
+            jdbi.useHandle(handle -> {
+                handle.createUpdate("DELETE FROM question_responses WHERE attempt_id IN (<ids>)")
+                        .bindList("ids", createdAttempts)
+                        .execute();
+                handle.createUpdate("DELETE FROM quiz_attempts WHERE attempt_id IN (<ids>)")
+                        .bindList("ids", createdAttempts)
+                        .execute();
+            });
+        }
+        LiveDatabase.restoreDaos();
+    }
+
+    @Test
+    void testInMemoryScore_MatchesStoredScore() {
+        List<Integer> quizIds = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT DISTINCT quiz_id FROM questions ORDER BY quiz_id")
+                        .mapTo(Integer.class)
+                        .list());
+        List<Integer> allOptionIds = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT option_id FROM question_options")
+                        .mapTo(Integer.class)
+                        .list());
+        assumeTrue(!quizIds.isEmpty(), "No quiz with questions; skipping grading parity checks");
+
+        QuizSnapshotCache snapshots = new QuizSnapshotCache(
+                DaoFactory.getQuizDao(), DaoFactory.getQuestionDao(), new QuizVersions(), 16, 0);
+        AttemptDao attemptDao = DaoFactory.getAttemptDao();
+        Random random = new Random(302);
+
+        int graded = 0;
+        for (int quizId : quizIds) {
+            QuizSnapshot snapshot = snapshots.get(quizId);
+            if (snapshot == null) {
+                continue;
+            }
+            AnswerKey key = snapshot.getAnswerKey();
+            for (int sheet = 0; sheet < SHEETS_PER_QUIZ; sheet++) {
+                List<QuestionResponse> responses = randomSheet(snapshot, allOptionIds, random);
+
+                int attemptId = attemptDao.startAttempt(quizId, studentId);
+                createdAttempts.add(attemptId);
+                assertTrue(attemptDao.submitAttempt(attemptId, responses));
+                int stored = jdbi.withHandle(handle ->
+                        handle.createQuery("SELECT score FROM quiz_attempts WHERE attempt_id = :id")
+                                .bind("id", attemptId)
+                                .mapTo(Integer.class)
+                                .one());
+
+                assertEquals(stored, key.score(responses),
+                        "quiz " + quizId + ", sheet " + sheet + ": " + describe(responses));
+                graded++;
+            }
+        }
+        assertTrue(graded > 0);
+    }
+
+    @Test
+    void testAllOptionsUnderMadeUpQuestionIds_ScoreAtMostOne() {
+        Integer quizId = jdbi.withHandle(handle ->
+                handle.createQuery("""
+                        SELECT q.quiz_id
+                        FROM questions q
+                        JOIN question_options o ON o.question_id = q.question_id
+                        GROUP BY q.question_id, q.quiz_id
+                        HAVING COUNT(*) > 1 AND SUM(o.is_correct) > 0
+                        ORDER BY q.question_id
+                        LIMIT 1
+                    """)
+                        .mapTo(Integer.class)
+                        .findOne()
+                        .orElse(null));
+        assumeTrue(quizId != null, "No question with several options; skipping");
+
+        QuizSnapshot snapshot = new QuizSnapshotCache(
+                DaoFactory.getQuizDao(), DaoFactory.getQuestionDao(), new QuizVersions(), 16, 0).get(quizId);
+        QuizSnapshot.Question target = snapshot.getQuestions().stream()
+                .filter(q -> q.options().size() > 1)
+                .findFirst()
+                .orElseThrow();
+
+        // Every option of one question, each filed under a different made-up question ID
+        List<QuestionResponse> responses = new ArrayList<>();
+        int madeUpId = 1_000_000;
+        for (QuizSnapshot.Option option : target.options()) {
+            responses.add(new QuestionResponse(0, madeUpId++, option.optionId(), false));
+        }
+
+        AttemptDao attemptDao = DaoFactory.getAttemptDao();
+        int attemptId = attemptDao.startAttempt(quizId, studentId);
+        createdAttempts.add(attemptId);
+        assertTrue(attemptDao.submitAttempt(attemptId, responses));
+        int stored = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT score FROM quiz_attempts WHERE attempt_id = :id")
+                        .bind("id", attemptId)
+                        .mapTo(Integer.class)
+                        .one());
+        int rows = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT COUNT(*) FROM question_responses WHERE attempt_id = :id")
+                        .bind("id", attemptId)
+                        .mapTo(Integer.class)
+                        .one());
+
+        int expected = target.options().get(0).correct() ? 1 : 0;
+        assertEquals(expected, stored, describe(responses));
+        assertEquals(expected, snapshot.getAnswerKey().score(responses));
+        assertEquals(1, rows, "one response row per real question");
+    }
+
+    /**
+     * Builds a sheet mixing correct, wrong, skipped and unanswered questions, answers
+     * repeated or filed under the wrong question, and options from other quizzes.
+     */
+    private static List<QuestionResponse> randomSheet(QuizSnapshot snapshot, List<Integer> allOptionIds, Random random) {
+        List<QuizSnapshot.Question> questions = snapshot.getQuestions();
+        List<QuestionResponse> responses = new ArrayList<>();
+        for (QuizSnapshot.Question q : questions) {
+            int roll = random.nextInt(10);
+            int optionId;
+            if (roll == 0 || q.options().isEmpty()) {
+                continue;
+            } else if (roll == 1) {
+                optionId = 0;
+            } else if (roll == 2) {
+                optionId = allOptionIds.get(random.nextInt(allOptionIds.size()));
+            } else if (roll == 3) {
+                var other = questions.get(random.nextInt(questions.size())).options();
+                optionId = other.isEmpty() ? 0 : other.get(random.nextInt(other.size())).optionId();
+            } else {
+                optionId = q.options().get(random.nextInt(q.options().size())).optionId();
+            }
+            responses.add(new QuestionResponse(0, q.questionId(), optionId, false));
+            if (random.nextInt(8) == 0) {
+                // A second answer to the same question; only the first may count
+                var options = q.options();
+                responses.add(new QuestionResponse(0, q.questionId(),
+                        options.get(random.nextInt(options.size())).optionId(), false));
+            }
+        }
+        return responses;
+    }
+
+    private static String describe(List<QuestionResponse> responses) {
+        StringBuilder sb = new StringBuilder();
+        for (QuestionResponse r : responses) {
+            sb.append(r.getQuestion_id()).append("->").append(r.getOption_id()).append(' ');
+        }
+        return sb.toString().trim();
+    }
+}
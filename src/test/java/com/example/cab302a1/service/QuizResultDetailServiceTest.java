@@ -1,8 +1,8 @@
 package com.example.cab302a1.service;
 
-import com.example.cab302a1.dao.OptionDao;
 import com.example.cab302a1.dao.QuestionDao;
 import com.example.cab302a1.dao.QuizDao;
+import com.example.cab302a1.dao.QuizVersions;
 import com.example.cab302a1.dao.ResponseDao;
 import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.model.QuizQuestionCreate;
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import com.example.cab302a1.model.QuizChoiceCreate;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -20,7 +21,6 @@ class QuizResultDetailServiceTest {
 
     private QuizDao quizDao;
     private QuestionDao questionDao;
-    private OptionDao optionDao;
     private ResponseDao responseDao;
     private QuizResultDetailService service;
 
@@ -29,11 +29,11 @@ class QuizResultDetailServiceTest {
         // Create mock objects instead of real DAO or DB
         quizDao = mock(QuizDao.class);
         questionDao = mock(QuestionDao.class);
-        optionDao = mock(OptionDao.class);
         responseDao = mock(ResponseDao.class);
 
         // Inject mocks into the service
-        service = new QuizResultDetailService(quizDao, questionDao, optionDao, responseDao);
+        service = new QuizResultDetailService(
+                new QuizSnapshotCache(quizDao, questionDao, new QuizVersions(), 16, 0), responseDao);
     }
 
     @Test
@@ -54,11 +54,11 @@ class QuizResultDetailServiceTest {
         option2.setOption_id(2);
         option2.setText("Option B");
 
+        q1.setOptions(List.of(option1, option2));
+
         when(quizDao.getQuizById(1)).thenReturn(quiz);
-        when(questionDao.getQuestionsByQuizId(1)).thenReturn(List.of(q1));
-        when(optionDao.getOptionsByQuestionId(101))
-                .thenReturn(List.of(option1, option2));
-        when(responseDao.getChosenOptionId(5, 101)).thenReturn(2);
+        when(questionDao.getQuestionsWithOptions(1)).thenReturn(List.of(q1));
+        when(responseDao.getChosenOptionIds(5)).thenReturn(Map.of(101, 2));
 
         // Act
         ResultDetail result = service.getResultDetail(5, 1);
@@ -72,8 +72,78 @@ class QuizResultDetailServiceTest {
 
         // Verify correct DAO calls
         verify(quizDao).getQuizById(1);
-        verify(questionDao).getQuestionsByQuizId(1);
-        verify(optionDao).getOptionsByQuestionId(101);
-        verify(responseDao).getChosenOptionId(5, 101);
+        verify(questionDao).getQuestionsWithOptions(1);
+        verify(responseDao).getChosenOptionIds(5);
+        verifyNoMoreInteractions(quizDao, questionDao, responseDao);
+    }
+
+    @Test
+    void getResultDetail_usesConstantQueries_andMarksUnansweredQuestions() {
+        // Arrange - a longer quiz where only some questions were answered
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(2);
+
+        List<QuizQuestionCreate> questions = new java.util.ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            QuizQuestionCreate q = new QuizQuestionCreate();
+            q.setQuestionId(200 + i);
+            questions.add(q);
+        }
+
+        when(quizDao.getQuizById(2)).thenReturn(quiz);
+        when(questionDao.getQuestionsWithOptions(2)).thenReturn(questions);
+        when(responseDao.getChosenOptionIds(9)).thenReturn(Map.of(200, 7, 219, 8));
+
+        // Act
+        ResultDetail result = service.getResultDetail(9, 2);
+
+        // Assert
+        assertEquals(20, result.getResultQuestions().size());
+        assertEquals(7, result.getResultQuestions().get(0).getChosenOption_id());
+        assertEquals(-1, result.getResultQuestions().get(1).getChosenOption_id());
+        assertEquals(8, result.getResultQuestions().get(19).getChosenOption_id());
+
+        // Three queries in total, independent of question count
+        verify(quizDao, times(1)).getQuizById(2);
+        verify(questionDao, times(1)).getQuestionsWithOptions(2);
+        verify(responseDao, times(1)).getChosenOptionIds(9);
+        verify(responseDao, never()).getChosenOptionId(anyInt(), anyInt());
+    }
+
+    @Test
+    void getResultDetail_reopeningSameQuiz_onlyQueriesResponses() {
+        // Arrange
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(3);
+        quiz.setTitle("Cached Quiz");
+        QuizQuestionCreate q = new QuizQuestionCreate();
+        q.setQuestionId(300);
+
+        when(quizDao.getQuizById(3)).thenReturn(quiz);
+        when(questionDao.getQuestionsWithOptions(3)).thenReturn(List.of(q));
+        when(responseDao.getChosenOptionIds(anyInt())).thenReturn(Map.of());
+
+        // Act - two attempts of the same quiz
+        service.getResultDetail(11, 3);
+        ResultDetail second = service.getResultDetail(12, 3);
+
+        // Assert - the quiz was loaded once, responses once per attempt
+        assertEquals("Cached Quiz", second.getQuiz().getTitle());
+        assertEquals(1, second.getResultQuestions().size());
+        verify(quizDao, times(1)).getQuizById(3);
+        verify(questionDao, times(1)).getQuestionsWithOptions(3);
+        verify(responseDao).getChosenOptionIds(11);
+        verify(responseDao).getChosenOptionIds(12);
+    }
+
+    @Test
+    void getResultDetail_missingQuiz_returnsEmptyDetail() {
+        when(responseDao.getChosenOptionIds(4)).thenReturn(Map.of());
+
+        ResultDetail result = service.getResultDetail(4, 404);
+
+        assertNull(result.getQuiz());
+        assertTrue(result.getResultQuestions().isEmpty());
+        verify(questionDao, never()).getQuestionsWithOptions(anyInt());
     }
 }
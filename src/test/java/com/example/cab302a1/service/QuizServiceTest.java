@@ -1,7 +1,8 @@
 package com.example.cab302a1.service;
 
-import com.example.cab302a1.dao.OptionDao;
 import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.dao.QuizDao;
+import com.example.cab302a1.dao.QuizVersions;
 import com.example.cab302a1.model.Quiz;
 import com.example.cab302a1.model.QuizChoiceCreate;
 import com.example.cab302a1.model.QuizQuestionCreate;
@@ -21,27 +22,25 @@ import static org.mockito.Mockito.*;
 class QuizServiceTest {
 
     private QuizService quizService;
+    private QuizDao mockQuizDao;
     private QuestionDao mockQuestionDao;
-    private OptionDao mockOptionDao;
+    private QuizVersions versions;
 
     @BeforeEach
     void setUp() {
+        mockQuizDao = mock(QuizDao.class);
         mockQuestionDao = mock(QuestionDao.class);
-        mockOptionDao = mock(OptionDao.class);
-        
-        // Create QuizService with mocked DAOs using reflection to inject dependencies
-        quizService = new QuizService();
-        try {
-            var questionDaoField = QuizService.class.getDeclaredField("questionDao");
-            questionDaoField.setAccessible(true);
-            questionDaoField.set(quizService, mockQuestionDao);
-            
-            var optionDaoField = QuizService.class.getDeclaredField("optionDao");
-            optionDaoField.setAccessible(true);
-            optionDaoField.set(quizService, mockOptionDao);
-        } catch (Exception e) {
-            fail("Failed to inject mock dependencies: " + e.getMessage());
-        }
+        versions = new QuizVersions();
+
+        // Every quiz ID exists; the header itself is not under test here
+        when(mockQuizDao.getQuizById(anyInt())).thenAnswer(inv -> {
+            Quiz header = new Quiz();
+            header.setQuizId(inv.getArgument(0));
+            return header;
+        });
+
+        // Create QuizService over a private snapshot cache backed by the mocked DAOs
+        quizService = new QuizService(new QuizSnapshotCache(mockQuizDao, mockQuestionDao, versions, 16, 0));
     }
 
     @Test
@@ -59,8 +58,6 @@ class QuizServiceTest {
         question2.setQuestionId(102);
         question2.setQuestionText("What is 3+3?");
 
-        List<QuizQuestionCreate> questions = List.of(question1, question2);
-
         QuizChoiceCreate option1 = new QuizChoiceCreate("4", true);
         option1.setOption_id(1);
         QuizChoiceCreate option2 = new QuizChoiceCreate("5", false);
@@ -71,9 +68,10 @@ class QuizServiceTest {
         QuizChoiceCreate option4 = new QuizChoiceCreate("7", false);
         option4.setOption_id(4);
 
-        when(mockQuestionDao.getAllQuestions(1)).thenReturn(questions);
-        when(mockOptionDao.getOptionsByQuestionId(101)).thenReturn(List.of(option1, option2));
-        when(mockOptionDao.getOptionsByQuestionId(102)).thenReturn(List.of(option3, option4));
+        question1.setOptions(List.of(option1, option2));
+        question2.setOptions(List.of(option3, option4));
+
+        when(mockQuestionDao.getQuestionsWithOptions(1)).thenReturn(List.of(question1, question2));
 
         // Act
         Quiz result = quizService.loadQuizFully(quiz);
@@ -90,9 +88,9 @@ class QuizServiceTest {
         assertEquals(2, result.getQuestions().get(1).getChoices().size());
         assertEquals("6", result.getQuestions().get(1).getChoices().get(0).getText());
 
-        verify(mockQuestionDao).getAllQuestions(1);
-        verify(mockOptionDao).getOptionsByQuestionId(101);
-        verify(mockOptionDao).getOptionsByQuestionId(102);
+        // One graph query, no per-question lookups
+        verify(mockQuestionDao).getQuestionsWithOptions(1);
+        verifyNoMoreInteractions(mockQuestionDao);
     }
 
     @Test
@@ -102,7 +100,7 @@ class QuizServiceTest {
         quiz.setQuizId(2);
         quiz.setTitle("Empty Quiz");
 
-        when(mockQuestionDao.getAllQuestions(2)).thenReturn(new ArrayList<>());
+        when(mockQuestionDao.getQuestionsWithOptions(2)).thenReturn(new ArrayList<>());
 
         // Act
         Quiz result = quizService.loadQuizFully(quiz);
@@ -110,8 +108,7 @@ class QuizServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(0, result.getQuestions().size());
-        verify(mockQuestionDao).getAllQuestions(2);
-        verifyNoInteractions(mockOptionDao); // No options should be loaded if there are no questions
+        verify(mockQuestionDao).getQuestionsWithOptions(2);
     }
 
     @Test
@@ -124,8 +121,7 @@ class QuizServiceTest {
         question.setQuestionId(201);
         question.setQuestionText("Question without options");
 
-        when(mockQuestionDao.getAllQuestions(3)).thenReturn(List.of(question));
-        when(mockOptionDao.getOptionsByQuestionId(201)).thenReturn(new ArrayList<>());
+        when(mockQuestionDao.getQuestionsWithOptions(3)).thenReturn(List.of(question));
 
         // Act
         Quiz result = quizService.loadQuizFully(quiz);
@@ -134,8 +130,7 @@ class QuizServiceTest {
         assertNotNull(result);
         assertEquals(1, result.getQuestions().size());
         assertEquals(0, result.getQuestions().get(0).getChoices().size());
-        verify(mockQuestionDao).getAllQuestions(3);
-        verify(mockOptionDao).getOptionsByQuestionId(201);
+        verify(mockQuestionDao).getQuestionsWithOptions(3);
     }
 
     @Test
@@ -154,8 +149,8 @@ class QuizServiceTest {
             options.add(option);
         }
 
-        when(mockQuestionDao.getAllQuestions(4)).thenReturn(List.of(question));
-        when(mockOptionDao.getOptionsByQuestionId(301)).thenReturn(options);
+        question.setOptions(options);
+        when(mockQuestionDao.getQuestionsWithOptions(4)).thenReturn(List.of(question));
 
         // Act
         Quiz result = quizService.loadQuizFully(quiz);
@@ -174,23 +169,24 @@ class QuizServiceTest {
     }
 
     @Test
-    void testLoadQuizFully_ClearsExistingChoices_BeforeAddingNew() {
+    void testLoadQuizFully_ReplacesExistingQuestions_WithLoadedGraph() {
         // Arrange
         Quiz quiz = new Quiz();
         quiz.setQuizId(5);
 
+        // Pre-populate with a stale question and choice
+        QuizQuestionCreate stale = new QuizQuestionCreate();
+        stale.setQuestionId(400);
+        stale.getChoices().add(new QuizChoiceCreate("Old Option", false));
+        quiz.setQuestions(List.of(stale));
+
         QuizQuestionCreate question = new QuizQuestionCreate();
         question.setQuestionId(401);
-        
-        // Pre-populate with old choices
-        QuizChoiceCreate oldChoice = new QuizChoiceCreate("Old Option", false);
-        question.getChoices().add(oldChoice);
+        question.setOptions(List.of(
+                new QuizChoiceCreate("New Option 1", true),
+                new QuizChoiceCreate("New Option 2", false)));
 
-        QuizChoiceCreate newChoice1 = new QuizChoiceCreate("New Option 1", true);
-        QuizChoiceCreate newChoice2 = new QuizChoiceCreate("New Option 2", false);
-
-        when(mockQuestionDao.getAllQuestions(5)).thenReturn(List.of(question));
-        when(mockOptionDao.getOptionsByQuestionId(401)).thenReturn(List.of(newChoice1, newChoice2));
+        when(mockQuestionDao.getQuestionsWithOptions(5)).thenReturn(List.of(question));
 
         // Act
         Quiz result = quizService.loadQuizFully(quiz);
@@ -198,14 +194,14 @@ class QuizServiceTest {
         // Assert
         assertNotNull(result);
         assertEquals(1, result.getQuestions().size());
+        assertEquals(401, result.getQuestions().get(0).getQuestionId());
         assertEquals(2, result.getQuestions().get(0).getChoices().size());
-        
-        // Verify old choices are cleared and only new choices remain
+
+        // Verify stale data is gone and only the loaded graph remains
         assertEquals("New Option 1", result.getQuestions().get(0).getChoices().get(0).getText());
         assertEquals("New Option 2", result.getQuestions().get(0).getChoices().get(1).getText());
-        
-        // Old choice should not be present
-        assertFalse(result.getQuestions().get(0).getChoices().stream()
+        assertFalse(result.getQuestions().stream()
+                .flatMap(q -> q.getChoices().stream())
                 .anyMatch(c -> c.getText().equals("Old Option")));
     }
 
@@ -218,17 +214,17 @@ class QuizServiceTest {
         Quiz quiz2 = new Quiz();
         quiz2.setQuizId(20);
 
-        when(mockQuestionDao.getAllQuestions(10)).thenReturn(new ArrayList<>());
-        when(mockQuestionDao.getAllQuestions(20)).thenReturn(new ArrayList<>());
+        when(mockQuestionDao.getQuestionsWithOptions(10)).thenReturn(new ArrayList<>());
+        when(mockQuestionDao.getQuestionsWithOptions(20)).thenReturn(new ArrayList<>());
 
         // Act
         quizService.loadQuizFully(quiz1);
         quizService.loadQuizFully(quiz2);
 
         // Assert
-        verify(mockQuestionDao).getAllQuestions(10);
-        verify(mockQuestionDao).getAllQuestions(20);
-        verify(mockQuestionDao, times(2)).getAllQuestions(anyInt());
+        verify(mockQuestionDao).getQuestionsWithOptions(10);
+        verify(mockQuestionDao).getQuestionsWithOptions(20);
+        verify(mockQuestionDao, times(2)).getQuestionsWithOptions(anyInt());
     }
 
     @Test
@@ -238,7 +234,7 @@ class QuizServiceTest {
         quiz.setQuizId(6);
         quiz.setTitle("Original Quiz");
 
-        when(mockQuestionDao.getAllQuestions(6)).thenReturn(new ArrayList<>());
+        when(mockQuestionDao.getQuestionsWithOptions(6)).thenReturn(new ArrayList<>());
 
         // Act
         Quiz result = quizService.loadQuizFully(quiz);
@@ -247,5 +243,44 @@ class QuizServiceTest {
         assertSame(quiz, result);
         assertEquals("Original Quiz", result.getTitle());
     }
-}
 
+    @Test
+    void testLoadQuizFully_ReopeningUnchangedQuiz_RunsNoQueries() {
+        // Arrange
+        QuizQuestionCreate question = new QuizQuestionCreate();
+        question.setQuestionId(501);
+        question.setOptions(List.of(new QuizChoiceCreate("A", true)));
+        when(mockQuestionDao.getQuestionsWithOptions(7)).thenReturn(List.of(question));
+
+        Quiz first = new Quiz();
+        first.setQuizId(7);
+        Quiz second = new Quiz();
+        second.setQuizId(7);
+
+        // Act
+        quizService.loadQuizFully(first);
+        quizService.loadQuizFully(second);
+
+        // Assert - one load, and each quiz got its own copies
+        verify(mockQuizDao, times(1)).getQuizById(7);
+        verify(mockQuestionDao, times(1)).getQuestionsWithOptions(7);
+        assertEquals(1, second.getQuestions().size());
+        assertNotSame(first.getQuestions().get(0), second.getQuestions().get(0));
+    }
+
+    @Test
+    void testLoadQuizFully_AfterVersionBump_ReloadsQuiz() {
+        // Arrange
+        when(mockQuestionDao.getQuestionsWithOptions(8)).thenReturn(new ArrayList<>());
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(8);
+
+        // Act
+        quizService.loadQuizFully(quiz);
+        versions.bump(8);
+        quizService.loadQuizFully(quiz);
+
+        // Assert
+        verify(mockQuestionDao, times(2)).getQuestionsWithOptions(8);
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.cab302a1.service;
+
+import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.dao.QuizDao;
+import com.example.cab302a1.dao.QuizVersions;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizChoiceCreate;
+import com.example.cab302a1.model.QuizQuestionCreate;
+import com.example.cab302a1.model.QuizSnapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuizSnapshotCache.
+ * Tests hits, version-stamp invalidation, expiry, LRU eviction and load deduplication.
+ */
+class QuizSnapshotCacheTest {
+
+    private QuizDao mockQuizDao;
+    private QuestionDao mockQuestionDao;
+    private QuizVersions versions;
+    private AtomicLong now;
+    private QuizSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        mockQuizDao = mock(QuizDao.class);
+        mockQuestionDao = mock(QuestionDao.class);
+        versions = new QuizVersions();
+        now = new AtomicLong();
+        cache = new QuizSnapshotCache(mockQuizDao, mockQuestionDao, versions, 2, 30, now::get);
+
+        when(mockQuizDao.getQuizById(anyInt())).thenAnswer(inv -> {
+            int id = inv.getArgument(0);
+            return new Quiz(id, "Quiz " + id, "desc", 1, false, "alice");
+        });
+        when(mockQuestionDao.getQuestionsWithOptions(anyInt())).thenAnswer(inv -> {
+            int quizId = inv.getArgument(0);
+            return List.of(question(quizId * 100 + 1, quizId, "A", true), question(quizId * 100 + 2, quizId, "B", false));
+        });
+    }
+
+    private static QuizQuestionCreate question(int id, int quizId, String optionText, boolean correct) {
+        QuizQuestionCreate q = new QuizQuestionCreate(id, quizId, "Question " + id, null);
+        QuizChoiceCreate c = new QuizChoiceCreate(optionText, correct);
+        c.setOption_id(id * 10);
+        c.setQuestion_id(id);
+        q.setOptions(new ArrayList<>(List.of(c)));
+        return q;
+    }
+
+    @Test
+    void testGet_LoadsOnce_ThenServesFromMemory() {
+        QuizSnapshot first = cache.get(1);
+        QuizSnapshot second = cache.get(1);
+
+        assertSame(first, second);
+        assertEquals("Quiz 1", first.getTitle());
+        assertEquals(2, first.getQuestions().size());
+        assertEquals(1010, first.getQuestions().get(0).options().get(0).optionId());
+        verify(mockQuizDao, times(1)).getQuizById(1);
+        verify(mockQuestionDao, times(1)).getQuestionsWithOptions(1);
+    }
+
+    @Test
+    void testSnapshot_IsIsolatedFromCallerChanges() {
+        Quiz editable = cache.get(1).toQuiz();
+        editable.setTitle("Changed");
+        editable.getQuestions().get(0).getChoices().get(0).setText("Changed");
+        editable.getQuestions().clear();
+
+        QuizSnapshot cached = cache.get(1);
+        assertEquals("Quiz 1", cached.getTitle());
+        assertEquals(2, cached.getQuestions().size());
+        assertEquals("A", cached.getQuestions().get(0).options().get(0).text());
+        assertThrows(UnsupportedOperationException.class, () -> cached.getQuestions().clear());
+    }
+
+    @Test
+    void testBump_ReloadsOnlyThatQuiz() {
+        cache.get(1);
+        cache.get(2);
+
+        versions.bump(1);
+
+        assertNull(cache.getIfPresent(1));
+        assertNotNull(cache.getIfPresent(2));
+        cache.get(1);
+        verify(mockQuestionDao, times(2)).getQuestionsWithOptions(1);
+    }
+
+    @Test
+    void testBumpQuestion_TargetsOwningQuiz_OrEverythingWhenUnknown() {
+        cache.get(1);
+        cache.get(2);
+
+        // Question 201 was registered by loading quiz 2
+        versions.bumpQuestion(201);
+        assertNotNull(cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+
+        cache.get(2);
+        versions.bumpQuestion(999);
+        assertNull(cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+    }
+
+    @Test
+    void testWriteDuringLoad_ResultIsReturnedButNotCached() {
+        when(mockQuestionDao.getQuestionsWithOptions(3)).thenAnswer(inv -> {
+            versions.bump(3);
+            return List.of();
+        });
+
+        assertNotNull(cache.get(3));
+        assertNull(cache.getIfPresent(3));
+    }
+
+    @Test
+    void testExpiredSnapshot_IsReloaded() {
+        cache.get(1);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+
+        assertNull(cache.getIfPresent(1));
+        cache.get(1);
+        verify(mockQuizDao, times(2)).getQuizById(1);
+    }
+
+    @Test
+    void testCapacity_EvictsLeastRecentlyUsed() {
+        cache.get(1);
+        cache.get(2);
+        cache.get(1); // 1 is now most recently used
+        cache.get(3);
+
+        assertEquals(2, cache.size());
+        assertNotNull(cache.getIfPresent(1));
+        assertNull(cache.getIfPresent(2));
+        assertNotNull(cache.getIfPresent(3));
+    }
+
+    @Test
+    void testMissingQuiz_ReturnsNull_AndIsNotCached() {
+        when(mockQuizDao.getQuizById(404)).thenReturn(null);
+
+        assertNull(cache.get(404));
+        assertNull(cache.get(404));
+        verify(mockQuizDao, times(2)).getQuizById(404);
+        verify(mockQuestionDao, never()).getQuestionsWithOptions(404);
+    }
+
+    @Test
+    void testLoadFailure_Propagates_AndIsNotCached() {
+        when(mockQuestionDao.getQuestionsWithOptions(5))
+                .thenThrow(new IllegalStateException("db down"))
+                .thenReturn(List.of());
+
+        assertThrows(IllegalStateException.class, () -> cache.get(5));
+        assertNotNull(cache.get(5));
+    }
+
+    @Test
+    void testConcurrentMisses_ShareOneLoad() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(mockQuestionDao.getQuestionsWithOptions(6)).thenAnswer(inv -> {
+            loading.countDown();
+            assertTrue(release.await(5, TimeUnit.SECONDS));
+            return List.of(question(601, 6, "A", true));
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            Future<QuizSnapshot> first = pool.submit(() -> cache.get(6));
+            assertTrue(loading.await(5, TimeUnit.SECONDS));
+            List<Future<QuizSnapshot>> waiters = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                waiters.add(pool.submit(() -> cache.get(6)));
+            }
+            // Give the waiters time to join the running load before it finishes
+            Thread.sleep(100);
+            release.countDown();
+
+            QuizSnapshot loaded = first.get(5, TimeUnit.SECONDS);
+            for (Future<QuizSnapshot> waiter : waiters) {
+                assertSame(loaded, waiter.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        verify(mockQuestionDao, times(1)).getQuestionsWithOptions(6);
+    }
+}
@@ -0,0 +1,153 @@
+package com.example.cab302a1.service;
+
+import com.example.cab302a1.dao.DaoDecorator;
+import com.example.cab302a1.dao.DaoDecorators;
+import com.example.cab302a1.dao.DaoFactory;
+import com.example.cab302a1.dao.QuestionDao;
+import com.example.cab302a1.model.Quiz;
+import com.example.cab302a1.model.QuizSummary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for QuizSummaryCache.
+ * Tests bulk preload, cache hits, LRU eviction, invalidation, and that the shared
+ * instance uses the DAO currently configured in DaoFactory.
+ */
+class QuizSummaryCacheTest {
+
+    private QuestionDao mockQuestionDao;
+    private QuizSummaryCache cache;
+
+    @BeforeEach
+    void setUp() {
+        mockQuestionDao = mock(QuestionDao.class);
+        cache = new QuizSummaryCache(mockQuestionDao, 3);
+    }
+
+    private static Quiz quiz(int id, String author, String description) {
+        return new Quiz(id, "Quiz " + id, description, 1, false, author);
+    }
+
+    @Test
+    void testPreload_UsesSingleBulkQuery_AndServesHitsFromMemory() {
+        // Arrange
+        List<Quiz> quizzes = List.of(quiz(1, "alice", "d1"), quiz(2, "bob", null));
+        when(mockQuestionDao.getQuestionCounts(List.of(1, 2))).thenReturn(Map.of(1, 5, 2, 0));
+
+        // Act
+        cache.preload(quizzes);
+        QuizSummary first = cache.getOrLoad(quizzes.get(0));
+        QuizSummary second = cache.getOrLoad(quizzes.get(1));
+
+        // Assert
+        assertEquals(5, first.getQuestionCount());
+        assertEquals("alice", first.getAuthorUsername());
+        assertEquals("d1", first.getDescription());
+        assertEquals(0, second.getQuestionCount());
+
+        verify(mockQuestionDao, times(1)).getQuestionCounts(anyCollection());
+        verify(mockQuestionDao, never()).getNumQuestion(anyInt());
+    }
+
+    @Test
+    void testGetOrLoad_OnMiss_CountsOnceThenCaches() {
+        // Arrange
+        Quiz q = quiz(7, "carol", "desc");
+        when(mockQuestionDao.getNumQuestion(7)).thenReturn(12);
+
+        // Act
+        cache.getOrLoad(q);
+        QuizSummary again = cache.getOrLoad(q);
+
+        // Assert
+        assertEquals(12, again.getQuestionCount());
+        verify(mockQuestionDao, times(1)).getNumQuestion(7);
+    }
+
+    @Test
+    void testGetOrLoad_FailedCount_TreatedAsZero() {
+        when(mockQuestionDao.getNumQuestion(8)).thenReturn(-1);
+        assertEquals(0, cache.getOrLoad(quiz(8, null, null)).getQuestionCount());
+    }
+
+    @Test
+    void testInvalidate_ForcesReload() {
+        // Arrange
+        Quiz q = quiz(4, "dave", "desc");
+        when(mockQuestionDao.getNumQuestion(4)).thenReturn(3, 4);
+
+        // Act
+        assertEquals(3, cache.getOrLoad(q).getQuestionCount());
+        cache.invalidate(4);
+
+        // Assert
+        assertNull(cache.get(4));
+        assertEquals(4, cache.getOrLoad(q).getQuestionCount());
+        verify(mockQuestionDao, times(2)).getNumQuestion(4);
+    }
+
+    @Test
+    void testCapacity_EvictsLeastRecentlyUsed() {
+        // Arrange: capacity is 3
+        when(mockQuestionDao.getNumQuestion(anyInt())).thenReturn(1);
+        cache.getOrLoad(quiz(1, null, null));
+        cache.getOrLoad(quiz(2, null, null));
+        cache.getOrLoad(quiz(3, null, null));
+
+        // Touch 1 so that 2 becomes the eldest entry
+        cache.get(1);
+        cache.getOrLoad(quiz(4, null, null));
+
+        // Assert
+        assertEquals(3, cache.size());
+        assertNotNull(cache.get(1));
+        assertNull(cache.get(2));
+        assertNotNull(cache.get(3));
+        assertNotNull(cache.get(4));
+    }
+
+    @Test
+    void testInvalidateAll_ClearsEverything() {
+        when(mockQuestionDao.getNumQuestion(anyInt())).thenReturn(2);
+        cache.getOrLoad(quiz(1, null, null));
+        cache.getOrLoad(quiz(2, null, null));
+
+        cache.invalidateAll();
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void testPreload_EmptyList_DoesNotQuery() {
+        cache.preload(List.of());
+        verifyNoInteractions(mockQuestionDao);
+    }
+
+    @Test
+    void testSharedInstance_UsesDaoConfiguredLater() {
+        // Initialise the shared instance before the DAOs are reconfigured
+        QuizSummaryCache shared = QuizSummaryCache.getInstance();
+
+        when(mockQuestionDao.getNumQuestion(42)).thenReturn(6);
+        DaoFactory.configure(List.of(new DaoDecorator() {
+            @Override
+            public <T> T decorate(Class<T> type, T dao) {
+                return type == QuestionDao.class ? type.cast(mockQuestionDao) : dao;
+            }
+        }));
+        try {
+            assertEquals(6, shared.getOrLoad(quiz(42, null, null)).getQuestionCount());
+        } finally {
+            shared.invalidateAll();
+            DaoFactory.configure(DaoDecorators.fromEnvironment());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.cab302a1.service;
+
+import com.example.cab302a1.dao.DaoFactory;
+import com.example.cab302a1.dao.LiveDatabase;
+import com.example.cab302a1.dao.QuizVersions;
+import com.example.cab302a1.metrics.QueryBudget;
+import com.example.cab302a1.metrics.QueryTracker;
+import com.example.cab302a1.model.Quiz;
+import org.jdbi.v3.core.Jdbi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Query-count regression tests for the services behind the busiest screens.
+ * <p>
+ * Runs against the real database (see {@link LiveDatabase}). Each test has a
+ * {@link QueryBudget}, so a change that goes back to querying per question, per
+ * option or per quiz fails here instead of slowing down the app.
+ * </p>
+ */
+class ServiceQueryBudgetTest {
+
+    private int quizId;
+    private int attemptId;
+    private int userId;
+
+    @BeforeEach
+    void setUp() {
+        Jdbi jdbi = LiveDatabase.assumeDatabase("query budget checks");
+        // Budgets are about database round trips, so take the read cache out of the way
+        LiveDatabase.usePlainDaos();
+
+        quizId = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT quiz_id FROM questions ORDER BY question_id LIMIT 1")
+                        .mapTo(Integer.class)
+                        .findOne()
+                        .orElse(0));
+        assumeTrue(quizId > 0, "No quiz with questions; skipping query budget checks");
+
+        attemptId = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT attempt_id FROM quiz_attempts WHERE quiz_id = :quizId LIMIT 1")
+                        .bind("quizId", quizId)
+                        .mapTo(Integer.class)
+                        .findOne()
+                        .orElse(0));
+        userId = jdbi.withHandle(handle ->
+                handle.createQuery("SELECT user_id FROM users ORDER BY user_id LIMIT 1")
+                        .mapTo(Integer.class)
+                        .findOne()
+                        .orElse(0));
+    }
+
+    @AfterEach
+    void tearDown() {
+        LiveDatabase.restoreDaos();
+    }
+
+    /**
+     * Opening a quiz loads the quiz row plus questions and options in one joined query;
+     * opening it again is served from the snapshot cache without any query.
+     */
+    @Test
+    @QueryBudget(maxStatements = 2)
+    void testLoadQuizFully_LoadsOnceThenReopensWithoutQueries() {
+        QuizService service = new QuizService(new QuizSnapshotCache(
+                DaoFactory.getUncachedQuizDao(), DaoFactory.getUncachedQuestionDao(), new QuizVersions(), 16, 0));
+        Quiz quiz = new Quiz();
+        quiz.setQuizId(quizId);
+
+        Quiz loaded = service.loadQuizFully(quiz);
+        assertFalse(loaded.getQuestions().isEmpty());
+
+        try (QueryTracker.Scope reopen = QueryTracker.getInstance().begin("reopen")) {
+            Quiz again = new Quiz();
+            again.setQuizId(quizId);
+            assertEquals(loaded.getQuestions().size(), service.loadQuizFully(again).getQuestions().size());
+            assertEquals(0, reopen.getStatementCount());
+        }
+    }
+
+    /** The result detail page: quiz, questions with options, chosen options. */
+    @Test
+    @QueryBudget(maxStatements = 3)
+    void testGetResultDetail_UsesThreeQueries() {
+        QuizResultDetailService service = new QuizResultDetailService(new QuizSnapshotCache(
+                DaoFactory.getUncachedQuizDao(), DaoFactory.getUncachedQuestionDao(), new QuizVersions(), 16, 0),
+                DaoFactory.getResponseDao());
+
+        assertDoesNotThrow(() -> service.getResultDetail(attemptId, quizId));
+    }
+
+    /** The review page lists all attempts of a student with one query, however many there are. */
+    @Test
+    @QueryBudget(maxStatements = 1)
+    void testGetAllAttemptsById_UsesOneQuery() {
+        assertNotNull(DaoFactory.getReviewDao().getAllAttemptsById(userId));
+    }
+
+    /** The home page: the quiz list plus one bulk question count, not one count per card. */
+    @Test
+    @QueryBudget(maxStatements = 2)
+    void testHomePageData_CountsQuestionsInBulk() {
+        List<Quiz> quizzes = DaoFactory.getQuizDao().getAllQuizzes();
+
+        QuizSummaryCache cache = new QuizSummaryCache(DaoFactory.getQuestionDao(), 512);
+        cache.preload(quizzes);
+        quizzes.forEach(cache::getOrLoad);
+    }
+}
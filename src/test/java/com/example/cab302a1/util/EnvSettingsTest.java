@@ -0,0 +1,48 @@
+package com.example.cab302a1.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for EnvSettings.
+ * Tests parsing, defaults for missing or blank values, and fallback on invalid values.
+ */
+class EnvSettingsTest {
+
+    private static final Map<String, String> VALUES = Map.of(
+            "NUMBER", " 42 ",
+            "BLANK", "  ",
+            "BAD", "4x2",
+            "HUGE", "9999999999",
+            "YES", "TRUE",
+            "NO", "off");
+    private static final UnaryOperator<String> ENV = VALUES::get;
+
+    @Test
+    void testLongSetting() {
+        assertEquals(42, EnvSettings.longSetting(ENV, "NUMBER", 7));
+        assertEquals(9_999_999_999L, EnvSettings.longSetting(ENV, "HUGE", 7));
+        assertEquals(7, EnvSettings.longSetting(ENV, "MISSING", 7));
+        assertEquals(7, EnvSettings.longSetting(ENV, "BLANK", 7));
+        assertEquals(7, EnvSettings.longSetting(ENV, "BAD", 7));
+    }
+
+    @Test
+    void testIntSetting_OutOfRangeFallsBack() {
+        assertEquals(42, EnvSettings.intSetting(ENV, "NUMBER", 7));
+        assertEquals(7, EnvSettings.intSetting(ENV, "HUGE", 7));
+        assertEquals(7, EnvSettings.intSetting(ENV, "BAD", 7));
+    }
+
+    @Test
+    void testBooleanSetting() {
+        assertTrue(EnvSettings.booleanSetting(ENV, "YES", false));
+        assertFalse(EnvSettings.booleanSetting(ENV, "NO", true));
+        assertTrue(EnvSettings.booleanSetting(ENV, "MISSING", true));
+        assertFalse(EnvSettings.booleanSetting(ENV, "BLANK", false));
+    }
+}